@@ -0,0 +1,101 @@
+package api.auth.AuthorizationService.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 Claims를 보관하는 로컬 캐시이다.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하고, 항목은 토큰의 만료 시각(exp)에 맞춰 만료된다.
+ * 캐시 크기는 jwt.cache.max-size 로 제한되며, 넘으면 사용 빈도가 낮은 항목부터 제거된다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    @Value("${jwt.cache.max-size:10000}")
+    private long maxSize;
+
+    private Cache<String, Claims> cache;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    @PostConstruct
+    public void initCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilExpiration())
+                .build();
+    }
+
+    /**
+     * 캐시에서 검증된 토큰의 Claims를 조회하는 메서드이다.
+     *
+     * @param token 조회할 JWT 토큰
+     * @return 캐시된 Claims, 없거나 만료되었으면 null
+     */
+    public Claims get(String token) {
+        return cache.getIfPresent(digest(token));
+    }
+
+    /**
+     * 검증된 토큰의 Claims를 캐시에 저장하는 메서드이다.
+     * 만료 시각이 없거나 이미 지난 토큰은 저장하지 않는다.
+     *
+     * @param token 검증된 JWT 토큰
+     * @param claims 토큰에서 추출한 Claims
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null || expiration.getTime() <= System.currentTimeMillis()) return;
+
+        cache.put(digest(token), claims);
+    }
+
+    // 만료 처리를 끝내고 남은 항목 수
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    // 저장 시점부터 토큰의 exp까지만 보관 (조회로 연장하지 않음)
+    private static class UntilExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remaining = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
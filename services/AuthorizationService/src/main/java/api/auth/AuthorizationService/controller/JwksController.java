@@ -0,0 +1,29 @@
+package api.auth.AuthorizationService.controller;
+
+import api.auth.AuthorizationService.security.JwtKeyManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 액세스 토큰 검증용 공개 키(JWKS)를 제공하는 컨트롤러이다.
+ * 각 서비스는 이 키 목록을 캐시해 두고 Gateway를 거치지 않고 토큰을 직접 검증할 수 있다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyManager jwtKeyManager;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic())
+                .body(jwtKeyManager.getJwks());
+    }
+}
@@ -1,9 +1,8 @@
 package api.auth.AuthorizationService.filter;
 
 import api.auth.AuthorizationService.dto.ReissuedResponse;
-import api.auth.AuthorizationService.entity.RefreshToken;
 import api.auth.AuthorizationService.service.JwtService;
-import api.auth.AuthorizationService.service.RefreshTokenService;
+import api.auth.AuthorizationService.service.TokenReissueService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
@@ -12,15 +11,22 @@ import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * API Gateway에서 JWT 토큰을 검증하는 필터이다.
@@ -33,13 +39,19 @@ import java.util.List;
 public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config> {
 
     private final JwtService jwtService;
-    private final RefreshTokenService refreshTokenService;
+    private final TokenReissueService tokenReissueService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public AuthFilter(JwtService jwtService, RefreshTokenService refreshTokenService) {
+    // 고정된 에러 응답 -> 직렬화된 응답 본문 (생성 시 한 번만 직렬화, 읽기 전용)
+    private final Map<ErrorBody, ByteBuffer> errorBodies = new EnumMap<>(ErrorBody.class);
+
+    public AuthFilter(JwtService jwtService, TokenReissueService tokenReissueService) {
         super(Config.class);
         this.jwtService = jwtService;
-        this.refreshTokenService = refreshTokenService;
+        this.tokenReissueService = tokenReissueService;
+        for (ErrorBody errorBody : ErrorBody.values()) {
+            errorBodies.put(errorBody, encodeErrorBody(errorBody));
+        }
     }
 
     /**
@@ -48,12 +60,14 @@ public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config>
      *
      * <p>토큰 검증 흐름:</p>
      * <ul>
+     *   <li>라우트 설정 값은 apply 호출 시 {@link RoutePolicy}로 한 번만 컴파일된다.</li>
+     *   <li>skipAuthPaths에 해당하는 경로(헬스 체크)는 인증 없이 200 OK를 응답한다.</li>
      *   <li>Authorization 헤더에서 Bearer 토큰을 추출한다.</li>
      *   <li>토큰이 없거나 Bearer로 시작하지 않으면 401 (Unauthorized) 응답을 반환한다.</li>
      *   <li>토큰이 만료되지 않았다면 토큰을 검증하고 권한을 확인한 뒤 요청을 처리한다.</li>
      *   <li>토큰이 만료되었을 경우, Refresh 토큰을 사용하여 새로운 액세스 토큰을 발급한다.</li>
      *   <li>Refresh 토큰이 유효하지 않으면 401 (Unauthorized) 응답을 반환한다.</li>
-     *   <li>Refresh 토큰이 유효하면 새로운 액세스 토큰과 갱신된 Refresh 토큰을 Redis에 저장하고 반환한다.</li>
+     *   <li>Refresh 토큰이 유효하면 Redis의 Refresh 토큰을 원자적으로 교체하고 새로운 액세스 토큰을 반환한다.</li>
      *   <li>권한이 없는 경우 403 (Forbidden) 응답을 반환한다.</li>
      * </ul>
      *
@@ -72,16 +86,17 @@ public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config>
      */
     @Override
     public GatewayFilter apply(AuthFilter.Config config) {
+        // 라우트 구성 시 한 번만 설정 값을 컴파일
+        RoutePolicy policy = RoutePolicy.compile(config);
+
         return ((exchange, chain) -> {
             // Load Balancer Health Check
-            String path = exchange.getRequest().getURI().getPath();
-
-            if (path.equals("/health")) {
+            if (policy.isSkipAuth(exchange.getRequest().getPath().value())) {
                 exchange.getResponse().setStatusCode(HttpStatus.OK);
                 return exchange.getResponse().writeWith(
                         Mono.just(exchange.getResponse()
                                 .bufferFactory()
-                                .wrap("OK".getBytes()))
+                                .wrap(RoutePolicy.healthBody()))
                 );
             }
 
@@ -96,76 +111,63 @@ public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config>
 
             try {
                 String token = authorization.substring(7);
-                Claims claims = jwtService.getClaims(token);
 
-                // 토큰 검증 로직 추가
-                if (jwtService.validateToken(token)) log.info("액세스 토큰 검증 성공");
+                // 토큰 검증 및 Claims 추출 (검증된 토큰은 캐시에서 조회)
+                Claims claims = jwtService.getClaims(token);
 
                 // 권한 체크
                 String role = claims.get("auth", String.class);
-                if (role == null || !config.getAllowedRoles().contains(role)) {
-                    return forbiddenResponse(exchange, "access denied");
+                if (!policy.isAllowed(role)) {
+                    return errorResponse(exchange, ErrorBody.ACCESS_DENIED);
                 }
             } catch(ExpiredJwtException ej) {
-                try {
-                    log.info("액세스 토큰 만료");
-                    String email = ej.getClaims().getSubject();
-                    String refreshToken = refreshTokenService.findRefreshToken(email).getRefreshToken();
-
-                    // 갱신 토큰 검증
-                    if (jwtService.validateToken(refreshToken)) {
-                        log.info("리프레시 토큰 검증 성공");
-
-                        // 갱신 토큰으로 새로운 액세스 토큰 발급
-                        String newAccessToken = jwtService.createToken(email, ej.getClaims().get("auth", String.class), jwtService.getAccessExpireTime());
-                        String newRefreshToken = jwtService.createToken(email, ej.getClaims().get("auth", String.class), jwtService.getRefreshExpireTime());
-
-                        // 기존 갱신 토큰 삭제
-                        refreshTokenService.removeRefreshToken(email);
-
-                        // Redis에 갱신 토큰 저장
-                        refreshTokenService.saveRefreshToken(RefreshToken.builder()
-                                .refreshToken(newRefreshToken)
-                                .email(email)
-                                .build());
-
-                        return okResponse(exchange, "success reissued token", newAccessToken);
-                    } else {
-                        log.info("리프레시 토큰 검증 실패");
-                        return unauthorizedResponse(exchange, "invalid refresh token");
-                    }
-                } catch (IllegalArgumentException e) {
-                    log.error("error : {}", e.getMessage());
-                    return unauthorizedResponse(exchange, "expired refresh token");
-                }
+                log.info("액세스 토큰 만료");
+                return reissueToken(exchange, ej.getClaims());
             } catch (Exception e) {
                 log.error("error : {}", e.getMessage());
-                return unauthorizedResponse(exchange, "invalid token");
+                return errorResponse(exchange, ErrorBody.INVALID_TOKEN);
             }
 
             return chain.filter(exchange);
         });
     }
 
+    /**
+     * 만료된 액세스 토큰의 Claims를 이용해 토큰을 재발급하는 메서드이다.
+     * 같은 사용자의 동시 재발급 요청은 {@link TokenReissueService}에서 하나로 합쳐지며,
+     * 모든 요청이 같은 새 액세스 토큰을 응답으로 받는다.
+     *
+     * @param exchange 현재 요청의 ServerWebExchange
+     * @param expiredClaims 만료된 액세스 토큰의 Claims
+     * @return 재발급 결과 응답
+     */
+    private Mono<Void> reissueToken(ServerWebExchange exchange, Claims expiredClaims) {
+        String email = expiredClaims.getSubject();
+        String authorities = expiredClaims.get("auth", String.class);
+
+        return tokenReissueService.reissue(email, authorities)
+                .flatMap(newAccessToken -> okResponse(exchange, "success reissued token", newAccessToken))
+                .onErrorResume(IllegalStateException.class, e -> {
+                    log.warn("refresh token 검증 실패 : {}", e.getMessage());
+                    return errorResponse(exchange, ErrorBody.INVALID_REFRESH_TOKEN);
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    log.error("error : {}", e.getMessage());
+                    return errorResponse(exchange, ErrorBody.EXPIRED_REFRESH_TOKEN);
+                });
+    }
+
     // 200 OK 응답
     private Mono<Void> okResponse(ServerWebExchange exchange, String message, String accessToken) {
         return sendResponse(exchange, HttpStatus.OK, message, accessToken);
     }
 
-    // 401 Unauthorized 응답
-    private Mono<Void> unauthorizedResponse(ServerWebExchange exchange, String message) {
-        return sendResponse(exchange, HttpStatus.UNAUTHORIZED, message);
-    }
-
-    // 403 Forbidden 응답
-    private Mono<Void> forbiddenResponse(ServerWebExchange exchange, String message) {
-        return sendResponse(exchange, HttpStatus.FORBIDDEN, message);
-    }
-
     // 성공 응답 처리
+    // 재발급 응답은 중간 String 없이 응답 버퍼에 바로 직렬화
     private Mono<Void> sendResponse(ServerWebExchange exchange, HttpStatus status, String message, String accessToekn) {
-        exchange.getResponse().setStatusCode(status);
-        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
 
         ReissuedResponse successResponse = ReissuedResponse.builder()
                 .statusCode(status.value())
@@ -173,41 +175,63 @@ public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config>
                 .accessToken(accessToekn)
                 .build();
 
-        return writeResponse(exchange, successResponse);
+        DataBuffer buffer = response.bufferFactory().allocateBuffer(512);
+        try (OutputStream outputStream = buffer.asOutputStream()) {
+            objectMapper.writeValue(outputStream, successResponse);
+        } catch (IOException e) {
+            DataBufferUtils.release(buffer);
+            response.setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            return response.setComplete();
+        }
+        return response.writeWith(Mono.just(buffer));
     }
 
     // 공통 에러 응답 처리
-    private Mono<Void> sendResponse(ServerWebExchange exchange, HttpStatus status, String message) {
-        exchange.getResponse().setStatusCode(status);
-        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+    // 미리 직렬화한 읽기 전용 본문을 duplicate 하여 데이터 복사 없이 응답
+    private Mono<Void> errorResponse(ServerWebExchange exchange, ErrorBody errorBody) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(errorBody.status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        ByteBuffer body = errorBodies.get(errorBody).duplicate();
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
 
+    // 에러 응답 JSON 변환
+    private ByteBuffer encodeErrorBody(ErrorBody errorBody) {
         ReissuedResponse errorResponse = ReissuedResponse.builder()
-                .statusCode(status.value())
-                .message(message)
+                .statusCode(errorBody.status.value())
+                .message(errorBody.message)
                 .build();
-
-        return writeResponse(exchange, errorResponse);
+        try {
+            return ByteBuffer.wrap(objectMapper.writeValueAsBytes(errorResponse)).asReadOnlyBuffer();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to encode error response: " + errorBody, e);
+        }
     }
 
-    // JSON 변환 및 응답 작성 로직을 공통 메서드로 분리
-    private Mono<Void> writeResponse(ServerWebExchange exchange, ReissuedResponse errorResponse) {
-        try {
-            // 객체를 JSON 형식으로 변환
-            String responseBody = objectMapper.writeValueAsString(errorResponse);
-            byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
+    // 필터가 응답하는 고정된 에러 응답 목록
+    private enum ErrorBody {
+        INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "invalid token"),
+        INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "invalid refresh token"),
+        EXPIRED_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "expired refresh token"),
+        ACCESS_DENIED(HttpStatus.FORBIDDEN, "access denied");
 
-            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse()
-                    .bufferFactory().wrap(bytes)));
-        } catch (JsonProcessingException e) {
-            exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
-            return exchange.getResponse().setComplete();
+        private final HttpStatus status;
+        private final String message;
+
+        ErrorBody(HttpStatus status, String message) {
+            this.status = status;
+            this.message = message;
         }
     }
 
     // 필터 설정 값
     // allowedRoles: 허용된 권한 목록 정의
+    // skipAuthPaths: 인증 없이 200 OK를 응답하는 경로 (기본값: 로드 밸런서 헬스 체크)
     @Data
     public static class Config {
         private List<String> allowedRoles;
+        private List<String> skipAuthPaths = List.of("/health");
     }
 }
@@ -0,0 +1,164 @@
+package api.auth.AuthorizationService.filter;
+
+import api.auth.AuthorizationService.ratelimit.RateLimiter;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 인증 없이 호출되는 라우트(로그인, 회원가입, 이메일 인증)의 요청 횟수를 제한하는 필터이다.
+ * 클라이언트 IP와 요청의 email 파라미터 각각에 대해 토큰 버킷을 적용하고,
+ * 한도를 넘으면 429 (Too Many Requests) 응답을 반환한다.
+ * X-Forwarded-For는 원격 주소가 rate-limit.trusted-proxies(IP 또는 CIDR, 쉼표로 구분)에 포함된 경우에만 사용한다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    // IP 주소 문자 (호스트 이름을 DNS로 조회하지 않도록 주소 형식만 허용)
+    private static final Pattern IP_ADDRESS = Pattern.compile("[0-9a-fA-F:.]+");
+
+    private final RateLimiter rateLimiter;
+    private final List<AddressRange> trustedProxies;
+
+    public RateLimitFilter(RateLimiter rateLimiter,
+                           @Value("${rate-limit.trusted-proxies:}") String trustedProxies) {
+        super(Config.class);
+        this.rateLimiter = rateLimiter;
+        this.trustedProxies = Arrays.stream(trustedProxies.split(","))
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(AddressRange::parse)
+                .toList();
+    }
+
+    @Override
+    public GatewayFilter apply(RateLimitFilter.Config config) {
+        return ((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String prefix = (route == null ? "" : route.getId()) + ":";
+
+            // IP 단위 제한
+            String ip = clientIp(request);
+            if (ip != null && !rateLimiter.tryConsume(prefix + "ip:" + ip,
+                    config.getBurstCapacity(), config.getReplenishRate())) {
+                return tooManyRequests(exchange, ip);
+            }
+
+            // 이메일 단위 제한
+            String email = request.getQueryParams().getFirst("email");
+            if (email != null && !rateLimiter.tryConsume(prefix + "email:" + email.toLowerCase(Locale.ROOT),
+                    config.getEmailBurstCapacity(), config.getEmailReplenishRate())) {
+                return tooManyRequests(exchange, email);
+            }
+
+            return chain.filter(exchange);
+        });
+    }
+
+    // 429 Too Many Requests 응답
+    private Mono<Void> tooManyRequests(ServerWebExchange exchange, String key) {
+        log.info("rate limit exceeded: {}", key);
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        return exchange.getResponse().setComplete();
+    }
+
+    // 원격 주소가 신뢰하는 프록시이면 X-Forwarded-For를 오른쪽부터 읽어 신뢰하지 않는 첫 주소, 아니면 원격 주소
+    String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) return null;
+        String ip = remoteAddress.getAddress().getHostAddress();
+        if (!isTrustedProxy(ip)) return ip;
+
+        String forwardedFor = request.getHeaders().getFirst("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank()) return ip;
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) continue;
+            ip = hop;
+            if (!isTrustedProxy(hop)) break;
+        }
+        return ip;
+    }
+
+    private boolean isTrustedProxy(String ip) {
+        if (trustedProxies.isEmpty()) return false;
+        InetAddress address = parseAddress(ip);
+        if (address == null) return false;
+        for (AddressRange proxy : trustedProxies) {
+            if (proxy.contains(address)) return true;
+        }
+        return false;
+    }
+
+    // IP 주소 문자열을 InetAddress로 변환, 주소 형식이 아니면 null
+    private static InetAddress parseAddress(String value) {
+        if (!IP_ADDRESS.matcher(value).matches()) return null;
+        try {
+            return InetAddress.getByName(value);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    // 신뢰하는 프록시 주소 범위 (IP 또는 CIDR)
+    private record AddressRange(byte[] network, int prefixLength) {
+
+        static AddressRange parse(String value) {
+            int slash = value.indexOf('/');
+            InetAddress address = parseAddress(slash < 0 ? value : value.substring(0, slash));
+            if (address == null) {
+                throw new IllegalArgumentException("invalid trusted proxy: " + value);
+            }
+            byte[] network = address.getAddress();
+            int prefixLength = slash < 0 ? network.length * 8 : Integer.parseInt(value.substring(slash + 1));
+            if (prefixLength < 0 || prefixLength > network.length * 8) {
+                throw new IllegalArgumentException("invalid trusted proxy: " + value);
+            }
+            return new AddressRange(network, prefixLength);
+        }
+
+        boolean contains(InetAddress address) {
+            byte[] bytes = address.getAddress();
+            if (bytes.length != network.length) return false;
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (bytes[i] != network[i]) return false;
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) return true;
+            int mask = 0xFF << (8 - remainingBits);
+            return (bytes[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+
+    // 필터 설정 값
+    // burstCapacity, replenishRate: IP 단위 버킷 크기와 초당 충전량
+    // emailBurstCapacity, emailReplenishRate: 이메일 단위 버킷 크기와 초당 충전량
+    @Data
+    public static class Config {
+        private int burstCapacity = 20;
+        private double replenishRate = 1;
+        private int emailBurstCapacity = 5;
+        private double emailReplenishRate = 0.1;
+    }
+}
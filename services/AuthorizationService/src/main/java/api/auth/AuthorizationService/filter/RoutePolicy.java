@@ -0,0 +1,80 @@
+package api.auth.AuthorizationService.filter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라우트별 AuthFilter.Config를 미리 컴파일한 불변 정책 객체이다.
+ * Gateway는 라우트를 구성할 때 라우트마다 한 번씩 AuthFilter.apply를 호출하므로,
+ * 요청마다 List를 탐색하지 않고 이 객체의 비트셋과 Set만 조회한다.
+ */
+public final class RoutePolicy {
+
+    // 모든 라우트가 공유하는 권한 이름 -> 비트 위치
+    private static final Map<String, Long> ROLE_BITS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_BIT = new AtomicInteger();
+
+    // 인증 없이 응답하는 헬스 체크 응답 본문 (읽기 전용, 요청마다 duplicate 하여 사용)
+    private static final ByteBuffer HEALTH_BODY =
+            ByteBuffer.wrap("OK".getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+
+    private final long allowedRoles;
+    private final Set<String> skipAuthPaths;
+
+    private RoutePolicy(long allowedRoles, Set<String> skipAuthPaths) {
+        this.allowedRoles = allowedRoles;
+        this.skipAuthPaths = skipAuthPaths;
+    }
+
+    /**
+     * 라우트의 필터 설정 값을 정책 객체로 컴파일하는 메서드이다.
+     *
+     * @param config 라우트의 AuthFilter.Config
+     * @return 컴파일된 RoutePolicy
+     * @throws IllegalArgumentException 전체 권한 종류가 64개를 넘을 때 발생
+     */
+    public static RoutePolicy compile(AuthFilter.Config config) {
+        long allowedRoles = 0L;
+        List<String> roles = config.getAllowedRoles();
+        if (roles != null) {
+            for (String role : roles) {
+                allowedRoles |= roleBit(role);
+            }
+        }
+
+        List<String> paths = config.getSkipAuthPaths();
+        return new RoutePolicy(allowedRoles, paths == null ? Set.of() : Set.copyOf(paths));
+    }
+
+    // 인증 없이 통과시키는 경로인지 확인
+    public boolean isSkipAuth(String path) {
+        return skipAuthPaths.contains(path);
+    }
+
+    // 권한이 허용 목록에 있는지 확인 (요청 경로에서 객체를 생성하지 않음)
+    public boolean isAllowed(String role) {
+        if (role == null) return false;
+        Long bit = ROLE_BITS.get(role);
+        return bit != null && (allowedRoles & bit) != 0;
+    }
+
+    // 헬스 체크 응답 본문 (데이터 복사 없이 읽기 위치만 분리)
+    public static ByteBuffer healthBody() {
+        return HEALTH_BODY.duplicate();
+    }
+
+    private static long roleBit(String role) {
+        return ROLE_BITS.computeIfAbsent(role, key -> {
+            int position = NEXT_BIT.getAndIncrement();
+            if (position >= Long.SIZE) {
+                throw new IllegalArgumentException("too many roles: " + key);
+            }
+            return 1L << position;
+        });
+    }
+}
@@ -0,0 +1,104 @@
+package api.auth.AuthorizationService.ratelimit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * IP, 이메일 단위의 요청 횟수를 제한하는 Rate Limiter이다.
+ *
+ * <p>요청마다 Redis를 호출하지 않도록 허용 여부는 로컬 {@link TokenBucket}으로 판단하고,
+ * 소비량은 rate-limit.sync-interval 주기로 모아서 Redis의 rate_limit:{key} 카운터에 합산한다.
+ * 합산 결과로 다른 Gateway 인스턴스의 소비량을 로컬 버킷에 반영하여 인스턴스 간 한도를 유지한다.
+ * 합산과 카운터 TTL 설정은 Lua 스크립트 하나로 원자적으로 실행되므로, 중간에 실패해도 TTL 없는 카운터가 남지 않는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+    private static final Duration MIN_WINDOW = Duration.ofSeconds(1);
+    private static final RedisScript<Long> INCR_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/rate-limit-incr.lua"), Long.class);
+
+    @Value("${rate-limit.sync-interval:500ms}")
+    private Duration syncInterval;
+
+    @Value("${rate-limit.sync-concurrency:64}")
+    private int syncConcurrency;
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private Disposable syncTask;
+
+    /**
+     * 키에 해당하는 버킷에서 토큰 하나를 소비하는 메서드이다.
+     *
+     * @param key 제한 대상 키 (예: 라우트 id + IP)
+     * @param burstCapacity 버킷 최대 토큰 수
+     * @param replenishRate 초당 충전되는 토큰 수
+     * @return 요청이 허용되면 true
+     */
+    public boolean tryConsume(String key, int burstCapacity, double replenishRate) {
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(burstCapacity, replenishRate))
+                .tryConsume();
+    }
+
+    @PostConstruct
+    public void startSync() {
+        syncTask = Flux.interval(syncInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> sync(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stopSync() {
+        if (syncTask != null) syncTask.dispose();
+    }
+
+    // 로컬 소비량을 Redis에 일괄 합산하고 결과를 로컬 버킷에 반영
+    private Mono<Void> sync() {
+        return Flux.fromIterable(buckets.entrySet())
+                .flatMap(entry -> syncBucket(entry.getKey(), entry.getValue()), syncConcurrency)
+                .then()
+                .onErrorResume(e -> {
+                    log.error("rate limit sync failed: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> syncBucket(String key, TokenBucket bucket) {
+        Duration window = bucket.refillDuration().compareTo(MIN_WINDOW) < 0 ? MIN_WINDOW : bucket.refillDuration();
+        long delta = bucket.drainPending();
+
+        if (delta == 0) {
+            // 오래 사용되지 않은 버킷은 정리
+            if (bucket.isIdle(window.toNanos())) buckets.remove(key, bucket);
+            return Mono.empty();
+        }
+
+        String redisKey = KEY_PREFIX + key;
+        return redisTemplate.execute(INCR_SCRIPT,
+                        List.of(redisKey),
+                        List.of(String.valueOf(delta), String.valueOf(window.toMillis())))
+                .next()
+                .doOnNext(global -> bucket.applyGlobal(global, delta))
+                .then();
+    }
+}
@@ -0,0 +1,87 @@
+package api.auth.AuthorizationService.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 키(IP, 이메일) 하나에 대한 로컬 토큰 버킷이다.
+ *
+ * <p>요청은 로컬 토큰만으로 허용 여부를 판단하고, 소비한 토큰 수는 pending에 모아 두었다가
+ * {@link RateLimiter}가 주기적으로 Redis에 합산한다. Redis에서 돌려받은 전체 소비량 중
+ * 다른 Gateway 인스턴스가 소비한 만큼을 로컬 토큰에서 차감하여 인스턴스 간 한도를 맞춘다.</p>
+ */
+public class TokenBucket {
+
+    private final int capacity;
+    private final double refillPerNanos;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastUsedNanos;
+
+    private long pending;       // 마지막 동기화 이후 로컬에서 소비한 토큰 수
+    private long contributed;   // 현재 Redis 윈도우에 이 인스턴스가 더한 토큰 수
+    private long othersSeen;    // 현재 Redis 윈도우에서 이미 차감한 다른 인스턴스의 소비량
+
+    public TokenBucket(int capacity, double replenishRate) {
+        this.capacity = capacity;
+        this.refillPerNanos = replenishRate / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+        this.lastUsedNanos = lastRefillNanos;
+    }
+
+    // 토큰 하나를 소비 (남은 토큰이 없으면 false)
+    public synchronized boolean tryConsume() {
+        long now = System.nanoTime();
+        refill(now);
+        lastUsedNanos = now;
+        if (tokens < 1) return false;
+
+        tokens -= 1;
+        pending++;
+        return true;
+    }
+
+    // Redis로 보낼 소비량을 꺼내고 초기화
+    synchronized long drainPending() {
+        long drained = pending;
+        pending = 0;
+        return drained;
+    }
+
+    /**
+     * Redis에 합산한 결과를 로컬 버킷에 반영하는 메서드이다.
+     *
+     * @param global Redis에 기록된 현재 윈도우의 전체 소비량
+     * @param delta 이번 동기화에서 이 인스턴스가 더한 소비량
+     */
+    synchronized void applyGlobal(long global, long delta) {
+        // 윈도우 키가 만료되어 새로 시작된 경우
+        if (global < contributed + delta) {
+            contributed = 0;
+            othersSeen = 0;
+        }
+        contributed += delta;
+
+        long others = global - contributed;
+        if (others > othersSeen) {
+            tokens = Math.max(0, tokens - (others - othersSeen));
+            othersSeen = others;
+        }
+    }
+
+    // 빈 버킷이 가득 차기까지 걸리는 시간 (Redis 윈도우 길이로 사용)
+    Duration refillDuration() {
+        return Duration.ofNanos((long) (capacity / refillPerNanos));
+    }
+
+    // 마지막 사용 이후 idleNanos 이상 지났고 동기화할 소비량도 없는지 확인
+    synchronized boolean isIdle(long idleNanos) {
+        return pending == 0 && System.nanoTime() - lastUsedNanos >= idleNanos;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNanos);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,92 @@
+package api.auth.AuthorizationService.repository;
+
+import api.auth.AuthorizationService.entity.RefreshToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * ReactiveStringRedisTemplate 기반의 RefreshToken 저장소이다.
+ * Netty 이벤트 루프를 막지 않도록 모든 Redis 명령을 논블로킹으로 실행한다.
+ *
+ * <p>리프레시 토큰은 보조 인덱스 없이 {@code refresh_token:{email}} 키에 문자열로 저장되며,
+ * MemberService의 로그인 처리도 같은 키에 토큰을 기록한다.</p>
+ *
+ * <p>이전 버전은 {@code @RedisHash("token")}으로 {@code token:{id}} 해시와 {@code token:email:{email}} 인덱스에 저장했다.
+ * 배포 전에 발급된 토큰으로 다시 로그인하지 않도록, jwt.refresh-token.legacy-fallback이 true이면
+ * 새 키가 없을 때 이전 구조에서 토큰을 읽고, 교체할 때 새 키로 옮긴 뒤 이전 항목을 삭제한다.
+ * 이전 항목은 TTL(30일)이 지나면 모두 사라지므로 배포 후 30일이 지나면 false로 바꾼다.</p>
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ReactiveRefreshTokenRepository {
+
+    public static final String KEY_PREFIX = "refresh_token:";
+    // 이전 @RedisHash("token") 저장 구조의 키
+    private static final String LEGACY_HASH_PREFIX = "token:";
+    private static final String LEGACY_EMAIL_INDEX_PREFIX = "token:email:";
+
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/rotate-refresh-token.lua"), Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    @Value("${jwt.refresh-token.legacy-fallback:true}")
+    private boolean legacyFallback;
+
+    /**
+     * 이메일로 리프레시 토큰을 조회하는 메서드이다.
+     *
+     * @param email 조회할 사용자 이메일
+     * @return 조회된 RefreshToken, 없으면 빈 Mono
+     */
+    public Mono<RefreshToken> findByEmail(String email) {
+        Mono<String> stored = redisTemplate.opsForValue().get(key(email));
+        if (legacyFallback) {
+            stored = stored.switchIfEmpty(Mono.defer(() -> findLegacy(email)));
+        }
+        return stored
+                .map(refreshToken -> RefreshToken.builder()
+                        .refreshToken(refreshToken)
+                        .email(email)
+                        .build());
+    }
+
+    /**
+     * 저장된 리프레시 토큰이 expected와 같을 때만 새 토큰으로 교체하는 메서드이다.
+     * 비교와 교체는 Redis 서버에서 하나의 Lua 스크립트로 원자적으로 실행된다.
+     *
+     * @param email 사용자 이메일
+     * @param expected 현재 저장되어 있어야 하는 리프레시 토큰
+     * @param replacement 새로 저장할 리프레시 토큰
+     * @param timeToLive 새 리프레시 토큰의 TTL
+     * @return 교체에 성공하면 true, 다른 요청이 먼저 교체했으면 false
+     */
+    public Mono<Boolean> rotate(String email, String expected, String replacement, Duration timeToLive) {
+        return redisTemplate.execute(ROTATE_SCRIPT,
+                        List.of(key(email), LEGACY_EMAIL_INDEX_PREFIX + email),
+                        List.of(expected, replacement, String.valueOf(timeToLive.toMillis()), legacyFallback ? "1" : "0"))
+                .next()
+                .map(result -> result == 1L);
+    }
+
+    // 이전 저장 구조에서 이메일의 리프레시 토큰 조회
+    private Mono<String> findLegacy(String email) {
+        return redisTemplate.opsForSet().members(LEGACY_EMAIL_INDEX_PREFIX + email)
+                .concatMap(id -> redisTemplate.<String, String>opsForHash().get(LEGACY_HASH_PREFIX + id, "refreshToken"))
+                .next()
+                .doOnNext(token -> log.info("이전 저장 구조의 리프레시 토큰 사용: {}", email));
+    }
+
+    private String key(String email) {
+        return KEY_PREFIX + email;
+    }
+}
@@ -0,0 +1,115 @@
+package api.auth.AuthorizationService.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.*;
+
+/**
+ * JWT 서명용 RSA 키를 관리하는 클래스이다.
+ *
+ * <p>현재 키(jwt.signing.kid)의 개인 키로 토큰을 서명하고, 공개 키는 JWKS로 공개한다.
+ * 키를 교체할 때는 이전 키를 jwt.signing.previous-* 로 옮겨 두면
+ * 이전 키로 서명된 토큰이 만료될 때까지 계속 검증되고 JWKS에도 함께 공개된다.</p>
+ *
+ * <p>EmailService에도 같은 코드의 JwtKeyManager가 있다. 서비스마다 독립된 Gradle 빌드와 Docker 빌드 컨텍스트를 가져
+ * 공통 모듈을 둘 수 없기 때문이며, 키 형식이나 JWKS 변환을 바꿀 때는 두 클래스를 함께 수정한다.</p>
+ */
+@Slf4j
+@Component
+public class JwtKeyManager {
+
+    public static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.RS256;
+
+    @Value("${jwt.signing.kid}")
+    private String kid;
+    @Value("${jwt.signing.private-key}")
+    private String privateKey;
+    @Value("${jwt.signing.public-key}")
+    private String publicKey;
+
+    @Value("${jwt.signing.previous-kid:}")
+    private String previousKid;
+    @Value("${jwt.signing.previous-public-key:}")
+    private String previousPublicKey;
+
+    @Getter
+    private PrivateKey signingKey;
+    private Map<String, PublicKey> publicKeys;
+    @Getter
+    private Map<String, Object> jwks;
+
+    // 서명에 사용하는 현재 키 id
+    public String getActiveKid() {
+        return kid;
+    }
+
+    // 키 id에 해당하는 검증용 공개 키 (없으면 null)
+    public PublicKey getPublicKey(String kid) {
+        return publicKeys.get(kid);
+    }
+
+    /**
+     * 애플리케이션 초기화 시 서명 키와 JWKS를 생성하는 메서드이다.
+     * 키는 Base64로 인코딩된 DER(PKCS#8 개인 키, X.509 공개 키) 또는 PEM 형식으로 설정한다.
+     *
+     * @throws GeneralSecurityException 키 형식이 올바르지 않을 경우 발생
+     */
+    @PostConstruct
+    public void initKeys() throws GeneralSecurityException {
+        log.info("JWT 서명 키 로드: {}", kid);
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+
+        signingKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decode(privateKey)));
+
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        keys.put(kid, keyFactory.generatePublic(new X509EncodedKeySpec(decode(publicKey))));
+        if (!previousKid.isBlank()) {
+            keys.put(previousKid, keyFactory.generatePublic(new X509EncodedKeySpec(decode(previousPublicKey))));
+        }
+        publicKeys = Collections.unmodifiableMap(keys);
+
+        List<Map<String, String>> jwkList = new ArrayList<>();
+        keys.forEach((keyId, key) -> jwkList.add(toJwk(keyId, (RSAPublicKey) key)));
+        jwks = Map.of("keys", List.copyOf(jwkList));
+    }
+
+    // RSA 공개 키를 JWK 형식으로 변환
+    private static Map<String, String> toJwk(String kid, RSAPublicKey key) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "RSA");
+        jwk.put("use", "sig");
+        jwk.put("alg", SIGNATURE_ALGORITHM.getValue());
+        jwk.put("kid", kid);
+        jwk.put("n", base64Url(key.getModulus()));
+        jwk.put("e", base64Url(key.getPublicExponent()));
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    // 부호 없는 big-endian 바이트로 Base64URL 인코딩
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // PEM 헤더와 공백을 제거한 뒤 Base64 디코딩
+    private static byte[] decode(String key) {
+        return Decoders.BASE64.decode(key.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", ""));
+    }
+}
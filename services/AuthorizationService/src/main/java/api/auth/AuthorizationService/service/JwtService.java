@@ -1,5 +1,7 @@
 package api.auth.AuthorizationService.service;
 
+import api.auth.AuthorizationService.cache.VerifiedTokenCache;
+import api.auth.AuthorizationService.security.JwtKeyManager;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.SignatureException;
@@ -12,10 +14,12 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.spec.SecretKeySpec;
 import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
 
 /**
  * JWT 토큰을 생성하고 검증하는 서비스 클래스이다.
+ * 토큰은 {@link JwtKeyManager}의 RSA 개인 키로 서명하고, 헤더의 kid에 해당하는 공개 키로 검증한다.
  *
  * @author jinhyeok
  */
@@ -25,23 +29,35 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class JwtService {
 
-    @Value("${jwt.secret-key}")
+    // RS256 전환 이전에 HS256으로 발급된 토큰(kid 없음) 검증용, 설정하지 않으면 사용하지 않음
+    @Value("${jwt.secret-key:}")
     private String secretKey;
 
+    // HS256 액세스 토큰을 받아 주는 마지막 시각 (ISO-8601, 예: 2026-10-19T00:00:00Z)
+    // 배포 시각 + 액세스 토큰 최대 유효 시간으로 설정하며, 설정하지 않으면 HS256 토큰을 받지 않음
+    // HS256 리프레시 토큰은 이 시각 + 리프레시 토큰 유효 시간까지 받으며, 재발급 시 RS256 토큰으로 교체됨
+    @Value("${jwt.legacy-accept-until:}")
+    private String legacyAcceptUntil;
+
     @Value("${jwt.access-expire-time}")
     private long accessExpireTime;
 
     @Value("${jwt.refresh-expire-time}")
     private long refreshExpireTime;
 
-    private Key signature;
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private Key legacySignature;
+    private Instant legacyDeadline;
+    private Instant legacyRefreshDeadline;
+    private JwtParser jwtParser;
+    private JwtParser refreshTokenParser;
+    private final JwtKeyManager jwtKeyManager;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * 주어진 JWT 토큰을 검증하는 메서드.
      * 토큰의 서명 및 형식이 올바른지 확인하며, 여러 가지 JWT 관련 예외 상황을 처리한다.
      *
-     * @param token 검증할 JWT 토큰
+     * @param token 검증할 JWT 액세스 토큰
      * @return 토큰이 유효하면 true, 그렇지 않으면 false
      *
      * @throws ExpiredJwtException 토큰이 만료되었을 때 발생
@@ -51,8 +67,26 @@ public class JwtService {
      * @throws JwtException 기타 JWT 관련 오류 발생
      */
     public boolean validateToken(String token) {
+        return validate(jwtParser, token);
+    }
+
+    /**
+     * 리프레시 토큰을 검증하는 메서드이다.
+     * 액세스 토큰과 같이 검증하되, kid가 없는 HS256 토큰은 리프레시 토큰 유효 시간만큼 더 받아 준다.
+     * 액세스 토큰의 허용 기한 직전에 발급된 HS256 리프레시 토큰도 만료될 때까지 재발급에 사용할 수 있고,
+     * 재발급 시 RS256으로 서명한 새 리프레시 토큰으로 교체된다.
+     *
+     * @param token 검증할 JWT 리프레시 토큰
+     * @return 토큰이 유효하면 true, 그렇지 않으면 false
+     */
+    public boolean validateRefreshToken(String token) {
+        return validate(refreshTokenParser, token);
+    }
+
+    // 토큰의 서명, 형식과 만료 시각 검증
+    private boolean validate(JwtParser parser, String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(signature).build().parseClaimsJws(token);
+            parser.parseClaimsJws(token);
         } catch (ExpiredJwtException e) {
             log.error("JWT 토큰이 만료됨: {}", e.getMessage());
             return false;
@@ -84,32 +118,84 @@ public class JwtService {
     public String createToken(String email, String authorities, long expireTime){
         return Jwts.builder()
                 .setSubject(email)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyManager.getActiveKid())
                 .claim("auth", authorities)
-                .signWith(signature, signatureAlgorithm)
+                .signWith(jwtKeyManager.getSigningKey(), JwtKeyManager.SIGNATURE_ALGORITHM)
                 .setExpiration(new Date(System.currentTimeMillis() + expireTime))
                 .compact();
     }
 
+    /**
+     * 주어진 JWT 토큰을 검증하고 Claims를 반환하는 메서드이다.
+     * 이미 검증된 토큰은 {@link VerifiedTokenCache}에서 바로 반환하고,
+     * 처음 보는 토큰만 서명을 검증한 뒤 캐시에 저장한다.
+     * kid가 없는 HS256 토큰은 허용 기한이 지나면 거부해야 하므로 캐시에 저장하지 않는다.
+     *
+     * @param token 검증할 JWT 토큰
+     * @return 토큰의 Claims
+     * @throws ExpiredJwtException 토큰이 만료되었을 때 발생
+     * @throws JwtException 토큰의 형식이나 서명이 올바르지 않을 때 발생
+     */
     public Claims getClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(signature).build().parseClaimsJws(token).getBody();
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) return cached;
+
+        Jws<Claims> jws = jwtParser.parseClaimsJws(token);
+        Claims claims = jws.getBody();
+        if (jws.getHeader().getKeyId() != null) verifiedTokenCache.put(token, claims);
+        return claims;
     }
 
     /**
-     * 애플리케이션 초기화 시 JWT 서명을 생성하는 메서드이다.
-     * Base64로 인코딩된 비밀 키를 디코딩하여 서명(Signature)을 생성한다.
-     * 이 서명은 JWT의 서명 및 검증에 사용된다.
-     *
-     * @throws Exception 서명 생성 중 문제가 발생할 경우 발생
+     * 애플리케이션 초기화 시 JWT 검증에 사용할 JwtParser를 생성하는 메서드이다.
+     * 토큰 헤더의 kid로 {@link JwtKeyManager}의 공개 키를 찾아 서명을 검증하며,
+     * kid가 없는 토큰은 이전 방식(HS256)으로 발급된 토큰으로 보고,
+     * 액세스 토큰은 jwt.legacy-accept-until 시각까지, 리프레시 토큰은 그 시각 + 리프레시 토큰 유효 시간까지만
+     * jwt.secret-key로 검증한다.
+     * JwtParser는 불변 객체이므로 한 번만 생성하여 재사용한다.
      */
     @PostConstruct
-    public void initSignature() throws Exception {
-        log.info("JWT 서명 생성");
+    public void initSignature() {
+        log.info("JWT 검증기 생성");
 
-        // Base64로 인코딩된 비밀 키를 디코딩하여 바이트 배열로 저장
-        byte[] keyByte = Decoders.BASE64.decode(secretKey);
+        if (!secretKey.isBlank() && !legacyAcceptUntil.isBlank()) {
+            // Base64로 인코딩된 비밀 키를 디코딩하여 이전 방식의 서명(Signature) 생성
+            byte[] keyByte = Decoders.BASE64.decode(secretKey);
+            legacySignature = new SecretKeySpec(keyByte, SignatureAlgorithm.HS256.getJcaName());
+            legacyDeadline = Instant.parse(legacyAcceptUntil.trim());
+            legacyRefreshDeadline = legacyDeadline.plusMillis(refreshExpireTime);
+            log.info("HS256 토큰 검증 허용 기한: 액세스 토큰 {}, 리프레시 토큰 {}", legacyDeadline, legacyRefreshDeadline);
+        } else if (!secretKey.isBlank()) {
+            log.warn("jwt.legacy-accept-until이 없어 jwt.secret-key를 사용하지 않음, kid가 없는 토큰은 거부");
+        }
 
-        //디코딩된 비밀키와 서명 알고리즘을 넣어 Key(=서명) 생성
-        //SecretKeySpec : Jwt를 서명하거나 서명을 검증하는 데 사용
-        signature = new SecretKeySpec(keyByte, SignatureAlgorithm.HS256.getJcaName());
+        jwtParser = parser(legacyDeadline);
+        refreshTokenParser = parser(legacyRefreshDeadline);
+    }
+
+    // kid가 없는 토큰을 legacyUntil 시각까지 받아 주는 JwtParser 생성
+    private JwtParser parser(Instant legacyUntil) {
+        return Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId(), legacyUntil);
+                    }
+                })
+                .build();
+    }
+
+    // kid에 해당하는 검증 키 조회
+    private Key resolveKey(String kid, Instant legacyUntil) {
+        if (kid == null) {
+            if (legacySignature == null || Instant.now().isAfter(legacyUntil)) {
+                throw new UnsupportedJwtException("JWT key id is missing");
+            }
+            log.info("kid가 없는 HS256 토큰을 이전 비밀 키로 검증");
+            return legacySignature;
+        }
+        Key key = jwtKeyManager.getPublicKey(kid);
+        if (key == null) throw new UnsupportedJwtException("unknown JWT key id: " + kid);
+        return key;
     }
 }
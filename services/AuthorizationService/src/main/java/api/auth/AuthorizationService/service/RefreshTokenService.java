@@ -1,46 +1,36 @@
 package api.auth.AuthorizationService.service;
 
 import api.auth.AuthorizationService.entity.RefreshToken;
-import api.auth.AuthorizationService.repository.RefreshTokenRepository;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import jakarta.annotation.PostConstruct;
+import api.auth.AuthorizationService.repository.ReactiveRefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
-import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
 
 /**
  * RefreshToken을 저장하고 조회하는 서비스 클래스이다.
+ * Gateway의 이벤트 루프를 막지 않도록 모든 메서드는 Mono를 반환한다.
  *
  * @author jinhyeok
  */
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final ReactiveRefreshTokenRepository refreshTokenRepository;
 
-    // 갱신 토큰 조회
-    public RefreshToken findRefreshToken(String email) {
+    // 갱신 토큰 조회 (없으면 IllegalArgumentException)
+    public Mono<RefreshToken> findRefreshToken(String email) {
         return refreshTokenRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("not found refresh token"));
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("not found refresh token")));
     }
 
-    // 갱신 토큰 저장
-    public void saveRefreshToken(RefreshToken token){
-        refreshTokenRepository.save(RefreshToken.builder()
-                .refreshToken(token.getRefreshToken())
-                .email(token.getEmail()).build());
-    }
-
-    // 갱신 토큰 삭제
-    public void removeRefreshToken(String email){
-        refreshTokenRepository.findByEmail(email)
-                .ifPresent(refreshTokenRepository::delete);
+    // 갱신 토큰 교체 (현재 토큰이 그대로일 때만 교체, 교체 성공 여부 반환)
+    public Mono<Boolean> rotateRefreshToken(RefreshToken current, String newRefreshToken, long expireTime) {
+        return refreshTokenRepository.rotate(current.getEmail(), current.getRefreshToken(),
+                newRefreshToken, Duration.ofMillis(expireTime));
     }
 }
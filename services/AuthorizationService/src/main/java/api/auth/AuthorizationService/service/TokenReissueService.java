@@ -0,0 +1,76 @@
+package api.auth.AuthorizationService.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 만료된 액세스 토큰을 재발급하는 서비스 클래스이다.
+ *
+ * <p>액세스 토큰이 만료되면 브라우저의 병렬 API 호출이 동시에 재발급을 요청한다.
+ * 같은 사용자(subject 이메일)에 대한 재발급은 진행 중인 하나의 Mono를 공유하여(single-flight)
+ * 리프레시 토큰 교체와 JWT 서명이 한 번만 수행되고, 모든 요청이 같은 새 액세스 토큰을 받는다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenReissueService {
+
+    private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+
+    // 이메일별로 진행 중인 재발급 작업
+    private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 리프레시 토큰을 검증하고 새로운 액세스 토큰을 발급하는 메서드이다.
+     * 같은 이메일로 진행 중인 재발급이 있으면 새로 시작하지 않고 그 결과를 함께 받는다.
+     *
+     * @param email 만료된 액세스 토큰의 subject 이메일
+     * @param authorities 만료된 액세스 토큰의 권한 정보
+     * @return 새로 발급된 액세스 토큰
+     * @throws IllegalArgumentException 저장된 리프레시 토큰이 없을 때 발생 (Mono error)
+     * @throws IllegalStateException 리프레시 토큰 검증에 실패했을 때 발생 (Mono error)
+     */
+    public Mono<String> reissue(String email, String authorities) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(email, key -> {
+            // 완료된 작업만 제거하도록 자신을 가리키는 참조로 비교 (늦게 끝난 이전 작업이 새 작업을 지우지 않도록)
+            AtomicReference<Mono<String>> self = new AtomicReference<>();
+            Mono<String> shared = rotate(key, authorities)
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .cache();
+            self.set(shared);
+            return shared;
+        }));
+    }
+
+    // 리프레시 토큰 검증 후 토큰 교체
+    private Mono<String> rotate(String email, String authorities) {
+        return refreshTokenService.findRefreshToken(email)
+                .flatMap(refreshToken -> {
+                    // 갱신 토큰 검증
+                    if (!jwtService.validateRefreshToken(refreshToken.getRefreshToken())) {
+                        log.info("리프레시 토큰 검증 실패");
+                        return Mono.error(new IllegalStateException("invalid refresh token"));
+                    }
+                    log.info("리프레시 토큰 검증 성공");
+
+                    // 갱신 토큰으로 새로운 액세스 토큰 발급
+                    String newAccessToken = jwtService.createToken(email, authorities, jwtService.getAccessExpireTime());
+                    String newRefreshToken = jwtService.createToken(email, authorities, jwtService.getRefreshExpireTime());
+
+                    // 저장된 갱신 토큰이 그대로일 때만 새 갱신 토큰으로 원자적으로 교체
+                    // 다른 Gateway 인스턴스가 먼저 교체한 경우 갱신 토큰은 그대로 두고 액세스 토큰만 발급
+                    return refreshTokenService.rotateRefreshToken(refreshToken, newRefreshToken, jwtService.getRefreshExpireTime())
+                            .doOnNext(rotated -> {
+                                if (!rotated) log.info("리프레시 토큰이 이미 교체됨: {}", email);
+                            })
+                            .thenReturn(newAccessToken);
+                });
+    }
+}
@@ -0,0 +1,11 @@
+-- Rate Limiter 소비량 합산
+-- KEYS[1] : rate_limit:{key}
+-- ARGV[1] : 합산할 소비량
+-- ARGV[2] : 윈도우 TTL (밀리초)
+-- 반환값 : 합산 후 전체 소비량
+-- TTL이 없는 키(윈도우의 첫 합산, 또는 이전에 TTL 설정이 누락된 키)에만 TTL을 설정한다.
+local total = redis.call('INCRBY', KEYS[1], ARGV[1])
+if redis.call('PTTL', KEYS[1]) < 0 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return total
@@ -0,0 +1,32 @@
+-- 리프레시 토큰 교체 (compare-and-swap)
+-- KEYS[1] : refresh_token:{email}
+-- KEYS[2] : token:email:{email} (이전 @RedisHash 저장 구조의 이메일 보조 인덱스)
+-- ARGV[1] : 현재 저장되어 있어야 하는 리프레시 토큰
+-- ARGV[2] : 새 리프레시 토큰
+-- ARGV[3] : 새 리프레시 토큰 TTL (밀리초)
+-- ARGV[4] : 이전 저장 구조의 토큰도 비교할지 여부 ('1' 또는 '0')
+-- 반환값 : 교체에 성공하면 1, 다른 요청이 먼저 교체했으면 0
+local current = redis.call('GET', KEYS[1])
+if current == ARGV[1] then
+    redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+    return 1
+end
+if current ~= false or ARGV[4] ~= '1' then
+    return 0
+end
+
+-- 새 키가 없으면 이전 구조(token:{id} 해시)의 토큰과 비교하고, 일치하면 새 키로 옮긴 뒤 이전 항목을 삭제
+-- token:{id} 키는 인덱스에서 읽으므로 단일 Redis(클러스터가 아닌 구성)에서만 동작한다.
+local ids = redis.call('SMEMBERS', KEYS[2])
+for _, id in ipairs(ids) do
+    if redis.call('HGET', 'token:' .. id, 'refreshToken') == ARGV[1] then
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        for _, old in ipairs(ids) do
+            redis.call('DEL', 'token:' .. old, 'token:' .. old .. ':idx', 'token:' .. old .. ':phantom')
+            redis.call('SREM', 'token', old)
+        end
+        redis.call('DEL', KEYS[2])
+        return 1
+    end
+end
+return 0
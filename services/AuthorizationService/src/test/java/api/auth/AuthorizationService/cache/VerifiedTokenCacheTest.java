@@ -0,0 +1,90 @@
+package api.auth.AuthorizationService.cache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+	@Test
+	void returnsCachedClaimsUntilExpiration() throws InterruptedException {
+		VerifiedTokenCache cache = cache(100);
+		// exp는 초 단위로 잘리므로 1초 이상 남도록 한다.
+		Claims claims = claims("user@example.com", 2_000);
+
+		cache.put("token", claims);
+		assertThat(cache.get("token")).isSameAs(claims);
+
+		Thread.sleep(2_100);
+		assertThat(cache.get("token")).isNull();
+	}
+
+	@Test
+	void skipsExpiredClaims() {
+		VerifiedTokenCache cache = cache(100);
+
+		cache.put("expired", claims("user@example.com", -1_000));
+		cache.put("no-exp", Jwts.claims().setSubject("user@example.com"));
+
+		assertThat(cache.get("expired")).isNull();
+		assertThat(cache.get("no-exp")).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void boundsSize() {
+		VerifiedTokenCache cache = cache(100);
+
+		for (int i = 0; i < 1_000; i++) {
+			cache.put("token-" + i, claims("user" + i + "@example.com", 60_000));
+		}
+
+		assertThat(cache.size()).isLessThanOrEqualTo(100);
+	}
+
+	@Test
+	void keepsConcurrentPuts() {
+		VerifiedTokenCache cache = cache(10_000);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<CompletableFuture<Void>> futures = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				int offset = thread * 500;
+				futures.add(CompletableFuture.runAsync(() -> IntStream.range(offset, offset + 500)
+						.forEach(i -> cache.put("token-" + i, claims("user" + i + "@example.com", 60_000))), executor));
+			}
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(cache.size()).isEqualTo(4_000);
+		for (int i = 0; i < 4_000; i++) {
+			assertThat(cache.get("token-" + i).getSubject()).isEqualTo("user" + i + "@example.com");
+		}
+	}
+
+	private VerifiedTokenCache cache(long maxSize) {
+		VerifiedTokenCache cache = new VerifiedTokenCache();
+		ReflectionTestUtils.setField(cache, "maxSize", maxSize);
+		cache.initCache();
+		return cache;
+	}
+
+	private Claims claims(String subject, long expiresInMillis) {
+		return Jwts.claims()
+				.setSubject(subject)
+				.setExpiration(new Date(System.currentTimeMillis() + expiresInMillis));
+	}
+}
@@ -0,0 +1,57 @@
+package api.auth.AuthorizationService.filter;
+
+import api.auth.AuthorizationService.ratelimit.RateLimiter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RateLimitFilterTest {
+
+	private final RateLimitFilter filter = new RateLimitFilter(mock(RateLimiter.class), "10.0.0.0/8, 192.168.1.10");
+
+	@Test
+	void ignoresForwardedForFromUntrustedClient() {
+		MockServerHttpRequest request = request("203.0.113.7", "198.51.100.1");
+
+		assertThat(filter.clientIp(request)).isEqualTo("203.0.113.7");
+	}
+
+	@Test
+	void usesForwardedForFromTrustedProxy() {
+		MockServerHttpRequest request = request("10.1.2.3", "198.51.100.1");
+
+		assertThat(filter.clientIp(request)).isEqualTo("198.51.100.1");
+	}
+
+	@Test
+	void skipsTrustedProxiesInForwardedChain() {
+		MockServerHttpRequest request = request("10.1.2.3", "1.1.1.1, 198.51.100.1, 192.168.1.10, 10.9.9.9");
+
+		assertThat(filter.clientIp(request)).isEqualTo("198.51.100.1");
+	}
+
+	@Test
+	void usesRemoteAddressWithoutForwardedFor() {
+		MockServerHttpRequest request = request("10.1.2.3", null);
+
+		assertThat(filter.clientIp(request)).isEqualTo("10.1.2.3");
+	}
+
+	@Test
+	void trustsNoProxyByDefault() {
+		RateLimitFilter defaultFilter = new RateLimitFilter(mock(RateLimiter.class), "");
+
+		assertThat(defaultFilter.clientIp(request("10.1.2.3", "198.51.100.1"))).isEqualTo("10.1.2.3");
+	}
+
+	private MockServerHttpRequest request(String remoteAddress, String forwardedFor) {
+		MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get("/no_auth/login")
+				.remoteAddress(new InetSocketAddress(remoteAddress, 40000));
+		if (forwardedFor != null) builder.header("X-Forwarded-For", forwardedFor);
+		return builder.build();
+	}
+}
@@ -0,0 +1,69 @@
+package api.auth.AuthorizationService.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+	@Test
+	void rejectsAfterCapacityIsUsed() {
+		TokenBucket bucket = new TokenBucket(3, 0.001);
+
+		assertThat(bucket.tryConsume()).isTrue();
+		assertThat(bucket.tryConsume()).isTrue();
+		assertThat(bucket.tryConsume()).isTrue();
+		assertThat(bucket.tryConsume()).isFalse();
+	}
+
+	@Test
+	void refillsOverTime() throws InterruptedException {
+		TokenBucket bucket = new TokenBucket(1, 100);
+
+		assertThat(bucket.tryConsume()).isTrue();
+		assertThat(bucket.tryConsume()).isFalse();
+		Thread.sleep(50);
+		assertThat(bucket.tryConsume()).isTrue();
+	}
+
+	@Test
+	void drainsPendingConsumptionOnce() {
+		TokenBucket bucket = new TokenBucket(5, 0.001);
+		bucket.tryConsume();
+		bucket.tryConsume();
+
+		assertThat(bucket.drainPending()).isEqualTo(2);
+		assertThat(bucket.drainPending()).isZero();
+	}
+
+	@Test
+	void subtractsConsumptionOfOtherInstances() {
+		TokenBucket bucket = new TokenBucket(5, 0.001);
+		bucket.tryConsume();
+
+		// 이 인스턴스가 1, 다른 인스턴스가 3을 소비
+		bucket.applyGlobal(4, bucket.drainPending());
+
+		assertThat(bucket.tryConsume()).isTrue();
+		assertThat(bucket.tryConsume()).isFalse();
+	}
+
+	@Test
+	void doesNotSubtractSameConsumptionTwice() {
+		TokenBucket bucket = new TokenBucket(5, 0.001);
+		bucket.applyGlobal(2, 0);
+		bucket.applyGlobal(2, 0);
+
+		assertThat(bucket.tryConsume()).isTrue();
+		assertThat(bucket.tryConsume()).isTrue();
+		assertThat(bucket.tryConsume()).isTrue();
+		assertThat(bucket.tryConsume()).isFalse();
+	}
+
+	@Test
+	void refillDurationIsTimeToFillEmptyBucket() {
+		assertThat(new TokenBucket(20, 2).refillDuration()).isEqualTo(Duration.ofSeconds(10));
+	}
+}
@@ -0,0 +1,147 @@
+package api.auth.AuthorizationService.service;
+
+import api.auth.AuthorizationService.cache.VerifiedTokenCache;
+import api.auth.AuthorizationService.security.JwtKeyManager;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class JwtServiceTest {
+
+	private static final long REFRESH_EXPIRE_TIME = 30L * 24 * 60 * 60 * 1000;
+
+	private final SecretKey legacyKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+	private final VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+	private JwtKeyManager jwtKeyManager;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair keyPair = generator.generateKeyPair();
+
+		jwtKeyManager = new JwtKeyManager();
+		ReflectionTestUtils.setField(jwtKeyManager, "kid", "test-key");
+		ReflectionTestUtils.setField(jwtKeyManager, "privateKey", Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+		ReflectionTestUtils.setField(jwtKeyManager, "publicKey", Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+		ReflectionTestUtils.setField(jwtKeyManager, "previousKid", "");
+		ReflectionTestUtils.setField(jwtKeyManager, "previousPublicKey", "");
+		jwtKeyManager.initKeys();
+	}
+
+	@Test
+	void acceptsRs256Token() {
+		JwtService jwtService = jwtService(null);
+
+		String token = jwtService.createToken("user@example.com", "ROLE_USER", 60_000);
+
+		assertThat(jwtService.validateToken(token)).isTrue();
+		assertThat(jwtService.getClaims(token).getSubject()).isEqualTo("user@example.com");
+	}
+
+	@Test
+	void acceptsLegacyTokenBeforeDeadline() {
+		JwtService jwtService = jwtService(Instant.now().plus(1, ChronoUnit.HOURS).toString());
+
+		assertThat(jwtService.validateToken(legacyToken())).isTrue();
+	}
+
+	@Test
+	void rejectsLegacyTokenAfterDeadline() {
+		JwtService jwtService = jwtService(Instant.now().minus(1, ChronoUnit.MINUTES).toString());
+
+		assertThat(jwtService.validateToken(legacyToken())).isFalse();
+	}
+
+	@Test
+	void rejectsLegacyTokenWithoutDeadline() {
+		JwtService jwtService = jwtService(null);
+
+		assertThat(jwtService.validateToken(legacyToken())).isFalse();
+	}
+
+	@Test
+	void acceptsLegacyRefreshTokenUntilRefreshTokensExpire() {
+		JwtService jwtService = jwtService(Instant.now().minus(1, ChronoUnit.HOURS).toString());
+
+		assertThat(jwtService.validateToken(legacyToken())).isFalse();
+		assertThat(jwtService.validateRefreshToken(legacyToken())).isTrue();
+	}
+
+	@Test
+	void rejectsLegacyRefreshTokenAfterRefreshWindow() {
+		JwtService jwtService = jwtService(Instant.now().minus(31, ChronoUnit.DAYS).toString());
+
+		assertThat(jwtService.validateRefreshToken(legacyToken())).isFalse();
+	}
+
+	@Test
+	void cachesOnlyTokensWithKeyId() {
+		JwtService jwtService = jwtService(Instant.now().plus(1, ChronoUnit.HOURS).toString());
+
+		jwtService.getClaims(legacyToken());
+		verify(verifiedTokenCache, never()).put(anyString(), any());
+
+		String token = jwtService.createToken("user@example.com", "ROLE_USER", 60_000);
+		jwtService.getClaims(token);
+		verify(verifiedTokenCache).put(eq(token), any());
+	}
+
+	@Test
+	void rejectsLegacyAccessTokenAfterDeadlineEvenIfSeenBefore() {
+		VerifiedTokenCache cache = new VerifiedTokenCache();
+		ReflectionTestUtils.setField(cache, "maxSize", 100L);
+		cache.initCache();
+		String token = legacyToken();
+
+		JwtService beforeDeadline = jwtService(Instant.now().plus(1, ChronoUnit.HOURS).toString(), cache);
+		assertThat(beforeDeadline.getClaims(token).getSubject()).isEqualTo("user@example.com");
+
+		JwtService afterDeadline = jwtService(Instant.now().minus(1, ChronoUnit.MINUTES).toString(), cache);
+		assertThatThrownBy(() -> afterDeadline.getClaims(token)).isInstanceOf(UnsupportedJwtException.class);
+	}
+
+	private JwtService jwtService(String legacyAcceptUntil) {
+		return jwtService(legacyAcceptUntil, verifiedTokenCache);
+	}
+
+	private JwtService jwtService(String legacyAcceptUntil, VerifiedTokenCache cache) {
+		JwtService jwtService = new JwtService(jwtKeyManager, cache);
+		ReflectionTestUtils.setField(jwtService, "secretKey", Encoders.BASE64.encode(legacyKey.getEncoded()));
+		ReflectionTestUtils.setField(jwtService, "refreshExpireTime", REFRESH_EXPIRE_TIME);
+		ReflectionTestUtils.setField(jwtService, "legacyAcceptUntil", legacyAcceptUntil == null ? "" : legacyAcceptUntil);
+		jwtService.initSignature();
+		return jwtService;
+	}
+
+	private String legacyToken() {
+		return Jwts.builder()
+				.setSubject("user@example.com")
+				.claim("auth", "ROLE_USER")
+				.signWith(legacyKey, SignatureAlgorithm.HS256)
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+				.compact();
+	}
+}
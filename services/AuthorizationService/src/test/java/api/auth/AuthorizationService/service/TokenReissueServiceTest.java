@@ -0,0 +1,79 @@
+package api.auth.AuthorizationService.service;
+
+import api.auth.AuthorizationService.entity.RefreshToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TokenReissueServiceTest {
+
+	private static final String EMAIL = "user@example.com";
+
+	private JwtService jwtService;
+	private RefreshTokenService refreshTokenService;
+	private TokenReissueService tokenReissueService;
+	private final AtomicInteger issued = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		jwtService = mock(JwtService.class);
+		refreshTokenService = mock(RefreshTokenService.class);
+		tokenReissueService = new TokenReissueService(jwtService, refreshTokenService);
+
+		when(jwtService.validateRefreshToken(anyString())).thenReturn(true);
+		when(jwtService.createToken(anyString(), anyString(), anyLong()))
+				.thenAnswer(invocation -> "token-" + issued.incrementAndGet());
+		when(refreshTokenService.rotateRefreshToken(any(), anyString(), anyLong())).thenReturn(Mono.just(true));
+	}
+
+	@Test
+	void concurrentReissuesShareOneRotation() {
+		Sinks.One<RefreshToken> stored = Sinks.one();
+		when(refreshTokenService.findRefreshToken(EMAIL)).thenReturn(stored.asMono());
+
+		Mono<String> first = tokenReissueService.reissue(EMAIL, "ROLE_USER").cache();
+		Mono<String> second = tokenReissueService.reissue(EMAIL, "ROLE_USER").cache();
+		first.subscribe();
+		second.subscribe();
+
+		stored.tryEmitValue(RefreshToken.builder().email(EMAIL).refreshToken("refresh").build());
+
+		assertThat(first.block()).isEqualTo(second.block());
+		verify(refreshTokenService, times(1)).findRefreshToken(EMAIL);
+		verify(refreshTokenService, times(1)).rotateRefreshToken(any(), anyString(), anyLong());
+	}
+
+	@Test
+	void completedReissueIsNotReused() {
+		when(refreshTokenService.findRefreshToken(EMAIL)).thenAnswer(invocation ->
+				Mono.just(RefreshToken.builder().email(EMAIL).refreshToken("refresh").build()));
+
+		String first = tokenReissueService.reissue(EMAIL, "ROLE_USER").block();
+		String second = tokenReissueService.reissue(EMAIL, "ROLE_USER").block();
+
+		assertThat(first).isNotEqualTo(second);
+		verify(refreshTokenService, times(2)).findRefreshToken(EMAIL);
+	}
+
+	@Test
+	void failedReissueIsNotReused() {
+		when(refreshTokenService.findRefreshToken(EMAIL))
+				.thenReturn(Mono.error(new IllegalArgumentException("not found refresh token")))
+				.thenReturn(Mono.just(RefreshToken.builder().email(EMAIL).refreshToken("refresh").build()));
+
+		StepVerifier.create(tokenReissueService.reissue(EMAIL, "ROLE_USER"))
+				.expectError(IllegalArgumentException.class)
+				.verify();
+		StepVerifier.create(tokenReissueService.reissue(EMAIL, "ROLE_USER"))
+				.expectNextCount(1)
+				.verifyComplete();
+	}
+}
@@ -1,5 +1,7 @@
 package api.service.EmailService.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.ProfileCredentialsProvider;
@@ -18,12 +20,25 @@ public class AwsClientConfig {
      * @return SesClient
      */
     @Bean
+    @ConditionalOnProperty(name = "aws.ses.fake", havingValue = "false", matchIfMissing = true)
     public SesClient sesClient() {
         return SesClient.builder()
                 .region(region)
                 .build();
     }
 
+    /**
+     * 메일을 보내지 않는 로컬 SES Client 생성 및 Bean 등록 (aws.ses.fake=true)
+     *
+     * @param maxSendRate 초당 최대 전송 수
+     * @return SesClient
+     */
+    @Bean
+    @ConditionalOnProperty(name = "aws.ses.fake", havingValue = "true")
+    public SesClient fakeSesClient(@Value("${aws.ses.fake-send-rate:14}") double maxSendRate) {
+        return new FakeSesClient(maxSendRate);
+    }
+
     /**
      * DynamoDB Client 생성 및 Bean 등록
      *
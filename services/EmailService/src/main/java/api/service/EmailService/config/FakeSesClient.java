@@ -0,0 +1,98 @@
+package api.service.EmailService.config;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.ses.SesClient;
+import software.amazon.awssdk.services.ses.model.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 메일을 실제로 보내지 않고 요청을 기록하는 로컬 SES 클라이언트이다.
+ * aws.ses.fake=true로 설정하면 SesClient 대신 사용하며, 테스트와 로컬 실행에서 보낸 요청을 확인할 수 있다.
+ */
+@Slf4j
+public class FakeSesClient implements SesClient {
+
+    private final double maxSendRate;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private final List<SendEmailRequest> sentEmails = new CopyOnWriteArrayList<>();
+    private final List<SendBulkTemplatedEmailRequest> sentBulkEmails = new CopyOnWriteArrayList<>();
+
+    public FakeSesClient(double maxSendRate) {
+        this.maxSendRate = maxSendRate;
+    }
+
+    public List<SendEmailRequest> sentEmails() {
+        return List.copyOf(sentEmails);
+    }
+
+    public List<SendBulkTemplatedEmailRequest> sentBulkEmails() {
+        return List.copyOf(sentBulkEmails);
+    }
+
+    @Override
+    public SendEmailResponse sendEmail(SendEmailRequest request) {
+        sentEmails.add(request);
+        log.info("fake ses send email: {}", request.destination().toAddresses());
+        return SendEmailResponse.builder().messageId("fake-" + sentEmails.size()).build();
+    }
+
+    @Override
+    public SendBulkTemplatedEmailResponse sendBulkTemplatedEmail(SendBulkTemplatedEmailRequest request) {
+        if (!templates.containsKey(request.template())) {
+            throw TemplateDoesNotExistException.builder().templateName(request.template())
+                    .message("Template " + request.template() + " does not exist").build();
+        }
+        sentBulkEmails.add(request);
+        log.info("fake ses send bulk templated email: template={}, destinations={}",
+                request.template(), request.destinations().size());
+        return SendBulkTemplatedEmailResponse.builder()
+                .status(request.destinations().stream()
+                        .map(destination -> BulkEmailDestinationStatus.builder()
+                                .status(BulkEmailStatus.SUCCESS)
+                                .messageId("fake-" + sentBulkEmails.size())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    @Override
+    public CreateTemplateResponse createTemplate(CreateTemplateRequest request) {
+        if (templates.putIfAbsent(request.template().templateName(), request.template()) != null) {
+            throw AlreadyExistsException.builder().name(request.template().templateName())
+                    .message("Template " + request.template().templateName() + " already exists").build();
+        }
+        return CreateTemplateResponse.builder().build();
+    }
+
+    @Override
+    public UpdateTemplateResponse updateTemplate(UpdateTemplateRequest request) {
+        if (templates.replace(request.template().templateName(), request.template()) == null) {
+            throw TemplateDoesNotExistException.builder().templateName(request.template().templateName())
+                    .message("Template " + request.template().templateName() + " does not exist").build();
+        }
+        return UpdateTemplateResponse.builder().build();
+    }
+
+    @Override
+    public GetSendQuotaResponse getSendQuota(GetSendQuotaRequest request) {
+        return GetSendQuotaResponse.builder()
+                .maxSendRate(maxSendRate)
+                .max24HourSend(Double.MAX_VALUE)
+                .sentLast24Hours((double) sentEmails.size()
+                        + sentBulkEmails.stream().mapToInt(bulk -> bulk.destinations().size()).sum())
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,90 @@
+package api.service.EmailService.controller;
+
+import api.service.EmailService.digest.DigestMailer;
+import api.service.EmailService.dto.alert.AlertMatchResponseDto;
+import api.service.EmailService.dto.alert.AlertPostingDto;
+import api.service.EmailService.dto.alert.AlertSendResponseDto;
+import api.service.EmailService.matching.SubscriptionMatch;
+import api.service.EmailService.matching.SubscriptionMatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class AlertController {
+
+    private final SubscriptionMatcher subscriptionMatcher;
+    private final DigestMailer digestMailer;
+
+    /**
+     * 새 채용 공고 목록과 일치하는 구독자를 찾는다.
+     *
+     * @param postings 새 채용 공고 목록
+     * @return ResponseEntity<AlertMatchResponseDto> 일치한 구독자 수와 그룹 수
+     */
+    @PostMapping("/alert/match")
+    public ResponseEntity<AlertMatchResponseDto> match(@RequestBody List<AlertPostingDto> postings) {
+        log.info("공고 구독자 일치: postings={}", postings.size());
+
+        long start = System.nanoTime();
+        SubscriptionMatch match = subscriptionMatcher.match(postings);
+
+        return new ResponseEntity<>(AlertMatchResponseDto.builder()
+                .statusCode(200)
+                .message("success match subscribers")
+                .postings(postings.size())
+                .subscribers(match.subscriberCount())
+                .groups(match.groups().size())
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build(), HttpStatus.OK);
+    }
+
+    /**
+     * 새 채용 공고 목록과 일치하는 구독자에게 알림 메일 전송을 시작한다.
+     * 전송은 SES 전송 속도에 맞추어 백그라운드에서 진행하고, 결과는 로그로 남긴다.
+     *
+     * @param postings 새 채용 공고 목록
+     * @return ResponseEntity<AlertSendResponseDto> 알림을 받을 구독자 수
+     */
+    @PostMapping("/alert/send")
+    public ResponseEntity<AlertSendResponseDto> send(@RequestBody List<AlertPostingDto> postings) {
+        log.info("공고 알림 메일 전송: postings={}", postings.size());
+
+        SubscriptionMatch match = subscriptionMatcher.match(postings);
+        if (match.groups().isEmpty()) {
+            return new ResponseEntity<>(AlertSendResponseDto.builder()
+                    .statusCode(200)
+                    .message("no matched subscribers")
+                    .postings(postings.size())
+                    .build(), HttpStatus.OK);
+        }
+
+        try {
+            digestMailer.send(match).exceptionally(e -> {
+                log.error("failed to send job alert digest: {}", e.getMessage());
+                return null;
+            });
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(AlertSendResponseDto.builder()
+                    .statusCode(409)
+                    .message(e.getMessage())
+                    .postings(postings.size())
+                    .build(), HttpStatus.CONFLICT);
+        }
+
+        return new ResponseEntity<>(AlertSendResponseDto.builder()
+                .statusCode(202)
+                .message("job alert digest started")
+                .postings(postings.size())
+                .subscribers(match.subscriberCount())
+                .build(), HttpStatus.ACCEPTED);
+    }
+}
@@ -0,0 +1,266 @@
+package api.service.EmailService.digest;
+
+import api.service.EmailService.dto.alert.DigestResult;
+import api.service.EmailService.matching.SubscriptionMatch;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import software.amazon.awssdk.services.ses.SesClient;
+import software.amazon.awssdk.services.ses.model.*;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일치한 채용 공고를 구독자별 알림 메일로 묶어 SES 대량 템플릿 전송으로 보내는 클래스이다.
+ *
+ * 같은 공고를 받는 구독자는 하나의 알림으로 묶어 Thymeleaf 템플릿을 한 번만 렌더링하고,
+ * 렌더링한 HTML을 SES 템플릿 데이터로 넣어 최대 50명씩 SendBulkTemplatedEmail로 보낸다.
+ * Thymeleaf는 파싱한 템플릿을 캐시하므로(spring.thymeleaf.cache) 알림마다 템플릿을 다시 읽지 않는다.
+ * 동시에 보내는 요청 수는 alert.digest.concurrency로 제한하고, 전송 속도는 SES 계정의 초당 최대 전송 수를 넘지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DigestMailer {
+
+    private static final String DIGEST_TEMPLATE = "job-alert-digest-template.html";
+    // SendBulkTemplatedEmail 한 번에 보낼 수 있는 최대 수신자 수
+    private static final int MAX_BULK_DESTINATIONS = 50;
+
+    @Value("${aws.ses.sender}")
+    private String sender;
+    @Value("${alert.digest.ses-template:job-alert-digest}")
+    private String sesTemplate;
+    @Value("${alert.digest.batch-size:50}")
+    private int batchSize;
+    @Value("${alert.digest.concurrency:4}")
+    private int concurrency;
+    // 알림 하나에 보여 줄 최대 공고 수, 나머지는 개수만 표시
+    @Value("${alert.digest.max-postings:20}")
+    private int maxPostings;
+    @Value("${alert.digest.max-retries:3}")
+    private int maxRetries;
+    @Value("${alert.digest.retry-backoff:1s}")
+    private Duration retryBackoff;
+
+    private final SesClient sesClient;
+    private final SpringTemplateEngine springTemplateEngine;
+    private final ObjectMapper objectMapper;
+
+    private ExecutorService dispatcher;
+    private ExecutorService senders;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean templateReady;
+
+    @PostConstruct
+    public void init() {
+        dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-alert-digest");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger count = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "job-alert-digest-send-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    /**
+     * 일치 결과의 알림 메일 전송을 시작하는 메서드이다.
+     * 전송은 별도 스레드에서 진행하며, 완료되면 전송 결과를 반환한다.
+     *
+     * @param match 공고와 구독자의 일치 결과
+     * @return CompletableFuture<DigestResult> 전송 결과
+     * @throws IllegalStateException 이미 알림 메일을 보내는 중인 경우
+     */
+    public CompletableFuture<DigestResult> send(SubscriptionMatch match) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("job alert digest is already running");
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> deliver(match), dispatcher)
+                    .whenComplete((result, e) -> running.set(false));
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private DigestResult deliver(SubscriptionMatch match) {
+        long start = System.nanoTime();
+        ensureTemplate();
+        SendRateLimiter limiter = new SendRateLimiter(sesClient.getSendQuota().maxSendRate());
+        int size = Math.min(Math.max(batchSize, 1), MAX_BULK_DESTINATIONS);
+
+        Map<DigestKey, List<String>> digests = digests(match);
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int batches = 0;
+        int subscribers = 0;
+        try {
+            for (Map.Entry<DigestKey, List<String>> digest : digests.entrySet()) {
+                // 같은 내용의 알림은 한 번만 렌더링하여 모든 배치가 공유한다.
+                String templateData = templateData(match, digest.getKey());
+                List<String> emails = digest.getValue();
+                subscribers += emails.size();
+                for (int from = 0; from < emails.size(); from += size) {
+                    List<String> batch = emails.subList(from, Math.min(emails.size(), from + size));
+                    permits.acquireUninterruptibly();
+                    batches++;
+                    try {
+                        senders.execute(() -> {
+                            try {
+                                int succeeded = sendBatch(templateData, batch, limiter);
+                                sent.addAndGet(succeeded);
+                                failed.addAndGet(batch.size() - succeeded);
+                            } finally {
+                                permits.release();
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        // 전송 스레드가 종료된 경우, 실행되지 않은 배치의 허가를 돌려주어야 완료 대기가 끝난다.
+                        permits.release();
+                        failed.addAndGet(batch.size());
+                        log.error("failed to submit job alert digest batch: {}", e.getMessage());
+                    }
+                }
+            }
+        } finally {
+            // 렌더링 중 예외가 나도 이미 보낸 요청이 모두 끝날 때까지 대기
+            permits.acquireUninterruptibly(concurrency);
+        }
+
+        DigestResult result = DigestResult.builder()
+                .subscribers(subscribers)
+                .digests(digests.size())
+                .batches(batches)
+                .sent(sent.get())
+                .failed(failed.get())
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+        log.info("job alert digest sent: subscribers={}, digests={}, batches={}, sent={}, failed={}, {}ms",
+                result.getSubscribers(), result.getDigests(), result.getBatches(),
+                result.getSent(), result.getFailed(), result.getElapsedMillis());
+        return result;
+    }
+
+    // 보여 줄 공고와 전체 공고 수가 같은 구독자끼리 묶은 알림
+    private Map<DigestKey, List<String>> digests(SubscriptionMatch match) {
+        Map<DigestKey, List<String>> digests = new LinkedHashMap<>();
+        match.groups().forEach((postings, emails) -> {
+            RoaringBitmap shown = postings.getCardinality() > maxPostings ? postings.limit(maxPostings) : postings;
+            digests.computeIfAbsent(new DigestKey(shown, postings.getCardinality()), key -> new ArrayList<>())
+                    .addAll(emails);
+        });
+        return digests;
+    }
+
+    // 알림 HTML을 렌더링하여 SES 템플릿 데이터(JSON)로 변환
+    private String templateData(SubscriptionMatch match, DigestKey key) {
+        Context context = new Context();
+        context.setVariable("postings", match.postings(key.shown()));
+        context.setVariable("remaining", key.total() - key.shown().getCardinality());
+        String digest = springTemplateEngine.process(DIGEST_TEMPLATE, context);
+        try {
+            return objectMapper.writeValueAsString(Map.of(
+                    "subject", "새 채용 공고 " + key.total() + "건",
+                    "digest", digest));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 수신자 목록에 알림을 보내고 성공한 수신자 수를 반환, 전송 제한(Throttling)은 지수 백오프로 재시도
+    private int sendBatch(String templateData, List<String> emails, SendRateLimiter limiter) {
+        SendBulkTemplatedEmailRequest request = SendBulkTemplatedEmailRequest.builder()
+                .source(sender)
+                .template(sesTemplate)
+                .defaultTemplateData(templateData)
+                .destinations(emails.stream()
+                        .map(email -> BulkEmailDestination.builder()
+                                .destination(Destination.builder().toAddresses(email).build())
+                                .build())
+                        .toList())
+                .build();
+        try {
+            for (int attempt = 0; ; attempt++) {
+                limiter.acquire(emails.size());
+                try {
+                    SendBulkTemplatedEmailResponse response = sesClient.sendBulkTemplatedEmail(request);
+                    int succeeded = 0;
+                    for (int i = 0; i < response.status().size(); i++) {
+                        BulkEmailDestinationStatus status = response.status().get(i);
+                        if (status.status() == BulkEmailStatus.SUCCESS) {
+                            succeeded++;
+                        } else {
+                            log.warn("failed to send job alert digest - email: {}, status: {}, error: {}",
+                                    emails.get(i), status.statusAsString(), status.error());
+                        }
+                    }
+                    return succeeded;
+                } catch (SesException e) {
+                    if (!e.isThrottlingException() || attempt >= maxRetries) {
+                        log.error("failed to send job alert digest batch: {}", e.getMessage());
+                        return 0;
+                    }
+                    Thread.sleep(retryBackoff.toMillis() << attempt);
+                } catch (RuntimeException e) {
+                    // 연결 실패(SdkClientException) 등 그 밖의 오류는 재시도하지 않고 배치 하나의 실패로 집계한다.
+                    log.error("failed to send job alert digest batch", e);
+                    return 0;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    // SES 템플릿은 제목과 렌더링한 HTML을 그대로 넣는다.
+    private void ensureTemplate() {
+        if (templateReady) return;
+        Template template = Template.builder()
+                .templateName(sesTemplate)
+                .subjectPart("{{subject}}")
+                .htmlPart("{{{digest}}}")
+                .build();
+        try {
+            sesClient.createTemplate(CreateTemplateRequest.builder().template(template).build());
+        } catch (AlreadyExistsException e) {
+            sesClient.updateTemplate(UpdateTemplateRequest.builder().template(template).build());
+        }
+        templateReady = true;
+    }
+
+    private record DigestKey(RoaringBitmap shown, int total) {
+    }
+}
@@ -0,0 +1,40 @@
+package api.service.EmailService.digest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 전송 수를 제한하는 클래스이다.
+ * 요청마다 보낼 메일 수만큼 시간을 예약하고, 예약한 시작 시각까지 기다린다.
+ */
+final class SendRateLimiter {
+
+    private final long intervalNanos;
+    private long next = System.nanoTime();
+
+    /**
+     * @param perSecond 초당 최대 전송 수
+     */
+    SendRateLimiter(double perSecond) {
+        if (perSecond <= 0) {
+            throw new IllegalArgumentException("send rate must be positive: " + perSecond);
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+    }
+
+    /**
+     * 메일 수만큼 전송 시간을 예약하고 시작 시각까지 기다리는 메서드이다.
+     *
+     * @param permits 보낼 메일 수
+     * @throws InterruptedException 기다리는 중 인터럽트된 경우
+     */
+    void acquire(int permits) throws InterruptedException {
+        long wait;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long start = Math.max(now, next);
+            next = start + permits * intervalNanos;
+            wait = start - now;
+        }
+        if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+    }
+}
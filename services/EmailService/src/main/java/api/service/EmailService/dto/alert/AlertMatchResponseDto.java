@@ -0,0 +1,23 @@
+package api.service.EmailService.dto.alert;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertMatchResponseDto {
+
+    private int statusCode;
+    private String message;
+    // 전달받은 공고 수
+    private int postings;
+    // 공고가 하나 이상 일치한 구독자 수
+    private int subscribers;
+    // 일치한 공고 목록이 서로 다른 구독자 그룹 수
+    private int groups;
+    private long elapsedMillis;
+}
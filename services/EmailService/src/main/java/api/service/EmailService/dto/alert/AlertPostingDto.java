@@ -0,0 +1,27 @@
+package api.service.EmailService.dto.alert;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 알림 대상 채용 공고, 검색 서비스의 채용 공고 문서와 같은 필드 이름을 사용한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertPostingDto {
+
+    private String id;
+    private String url;
+    private String title;
+    private String company;
+    private String location;
+    private String deadline;
+    private String experience;
+    private List<String> skills;
+}
@@ -0,0 +1,20 @@
+package api.service.EmailService.dto.alert;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertSendResponseDto {
+
+    private int statusCode;
+    private String message;
+    // 전달받은 공고 수
+    private int postings;
+    // 알림을 받을 구독자 수
+    private int subscribers;
+}
@@ -0,0 +1,23 @@
+package api.service.EmailService.dto.alert;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DigestResult {
+
+    // 알림을 받을 구독자 수
+    private int subscribers;
+    // 내용이 서로 다른 알림 메일 수 (렌더링 횟수)
+    private int digests;
+    // SES 대량 전송 요청 수
+    private int batches;
+    private int sent;
+    private int failed;
+    private long elapsedMillis;
+}
@@ -0,0 +1,191 @@
+package api.service.EmailService.matching;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 구독자의 태그 집합을 저장된 조건으로 등록하고, 태그에서 조건을 찾는 역색인이다.
+ *
+ * 태그 집합이 같은 구독자는 같은 공고와 일치하므로 서로 다른 태그 집합마다 조건 번호를 하나 부여하고,
+ * 조건마다 구독자 번호를 RoaringBitmap으로 저장한다.
+ * 태그마다 그 태그를 포함한 조건 번호를 RoaringBitmap으로 저장하여,
+ * 공고는 기술별 비트맵의 합집합으로 일치하는 조건을 한 번에 찾는다.
+ * 비용은 구독자 수가 아니라 서로 다른 태그 집합 중 일치한 조건 수에 비례한다.
+ * 조회와 변경이 동시에 일어날 수 있으므로 읽기/쓰기 잠금으로 보호한다.
+ */
+public final class SubscriptionIndex {
+
+    private static final int NO_QUERY = -1;
+
+    // 구독자 번호별 이메일과 조건 번호
+    private final Map<String, Integer> subscriberNumbers = new HashMap<>();
+    private final List<String> emails = new ArrayList<>();
+    private final List<Integer> subscriberQueries = new ArrayList<>();
+    // 조건 번호별 태그 집합과 구독자 번호, 구독자가 없어진 조건은 null
+    private final Map<List<String>, Integer> queryNumbers = new HashMap<>();
+    private final List<List<String>> queryTags = new ArrayList<>();
+    private final List<RoaringBitmap> querySubscribers = new ArrayList<>();
+    // 태그별 조건 번호
+    private final Map<String, RoaringBitmap> tagQueries = new HashMap<>();
+    private int size;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 구독자의 태그를 추가하는 메서드이다. 이미 구독한 태그는 그대로 유지한다.
+     *
+     * @param email 구독자 이메일
+     * @param tags 표준 이름으로 바꾼 구독 태그 목록
+     */
+    public void add(String email, Collection<String> tags) {
+        if (tags.isEmpty()) return;
+        lock.writeLock().lock();
+        try {
+            int subscriber = subscriberNumbers.computeIfAbsent(email, key -> {
+                emails.add(key);
+                subscriberQueries.add(NO_QUERY);
+                return emails.size() - 1;
+            });
+            int current = subscriberQueries.get(subscriber);
+            TreeSet<String> merged = new TreeSet<>(tags);
+            if (current != NO_QUERY) merged.addAll(queryTags.get(current));
+
+            int query = query(List.copyOf(merged));
+            if (query == current) return;
+            if (current == NO_QUERY) size++;
+            else leave(subscriber, current);
+            querySubscribers.get(query).add(subscriber);
+            subscriberQueries.set(subscriber, query);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 구독자의 모든 태그를 삭제하는 메서드이다.
+     * 구독자 번호는 다시 구독할 때 재사용하도록 남겨 둔다.
+     *
+     * @param email 구독자 이메일
+     */
+    public void remove(String email) {
+        lock.writeLock().lock();
+        try {
+            Integer subscriber = subscriberNumbers.get(email);
+            if (subscriber == null || subscriberQueries.get(subscriber) == NO_QUERY) return;
+            leave(subscriber, subscriberQueries.get(subscriber));
+            subscriberQueries.set(subscriber, NO_QUERY);
+            size--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 태그가 하나 이상 있는 구독자 수를 반환하는 메서드이다.
+     *
+     * @return 구독자 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 구독자가 있는 서로 다른 태그 집합의 수를 반환하는 메서드이다.
+     *
+     * @return 조건 수
+     */
+    public int queryCount() {
+        lock.readLock().lock();
+        try {
+            return queryNumbers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 공고 목록을 한 번에 구독자와 일치시키는 메서드이다.
+     * 공고마다 일치한 조건을 구한 뒤 조건별 공고 번호 집합으로 뒤집고,
+     * 공고 번호 집합이 같은 조건의 구독자끼리 묶어 반환한다.
+     *
+     * @param postingSkills 공고별 표준 이름으로 바꾼 기술 목록, 목록의 위치가 공고 번호이다.
+     * @return 공고 번호 집합별 구독자 이메일 목록
+     */
+    public Map<RoaringBitmap, List<String>> match(List<? extends Collection<String>> postingSkills) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap[] matched = new RoaringBitmap[queryTags.size()];
+            List<RoaringBitmap> bitmaps = new ArrayList<>();
+            for (int posting = 0; posting < postingSkills.size(); posting++) {
+                bitmaps.clear();
+                for (String skill : postingSkills.get(posting)) {
+                    RoaringBitmap bitmap = tagQueries.get(skill);
+                    if (bitmap != null) bitmaps.add(bitmap);
+                }
+                if (bitmaps.isEmpty()) continue;
+
+                int number = posting;
+                FastAggregation.or(bitmaps.iterator()).forEach((int query) -> {
+                    if (matched[query] == null) matched[query] = new RoaringBitmap();
+                    matched[query].add(number);
+                });
+            }
+
+            Map<RoaringBitmap, List<String>> groups = new LinkedHashMap<>();
+            for (int query = 0; query < matched.length; query++) {
+                if (matched[query] == null) continue;
+                List<String> group = groups.computeIfAbsent(matched[query], key -> new ArrayList<>());
+                querySubscribers.get(query).forEach((int subscriber) -> group.add(emails.get(subscriber)));
+            }
+            return groups;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 태그 집합의 조건 번호, 없으면 새로 등록
+    private int query(List<String> tags) {
+        Integer existing = queryNumbers.get(tags);
+        if (existing != null) return existing;
+
+        int query = queryTags.size();
+        queryNumbers.put(tags, query);
+        queryTags.add(tags);
+        querySubscribers.add(new RoaringBitmap());
+        for (String tag : tags) {
+            tagQueries.computeIfAbsent(tag, key -> new RoaringBitmap()).add(query);
+        }
+        return query;
+    }
+
+    // 구독자를 조건에서 빼고, 구독자가 없어진 조건은 태그 색인에서 삭제
+    private void leave(int subscriber, int query) {
+        RoaringBitmap subscribers = querySubscribers.get(query);
+        subscribers.remove(subscriber);
+        if (!subscribers.isEmpty()) return;
+
+        List<String> tags = queryTags.get(query);
+        queryNumbers.remove(tags);
+        for (String tag : tags) {
+            RoaringBitmap queries = tagQueries.get(tag);
+            queries.remove(query);
+            if (queries.isEmpty()) tagQueries.remove(tag);
+        }
+        queryTags.set(query, null);
+        querySubscribers.set(query, null);
+    }
+}
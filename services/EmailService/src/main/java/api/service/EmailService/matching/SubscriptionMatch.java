@@ -0,0 +1,41 @@
+package api.service.EmailService.matching;
+
+import api.service.EmailService.dto.alert.AlertPostingDto;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공고 목록과 구독자의 일치 결과이다.
+ *
+ * @param postings 일치시킨 공고 목록
+ * @param groups 공고 번호 집합별 구독자 이메일 목록, 같은 공고를 받는 구독자끼리 묶여 있다.
+ */
+public record SubscriptionMatch(
+        List<AlertPostingDto> postings,
+        Map<RoaringBitmap, List<String>> groups
+) {
+
+    /**
+     * 공고가 하나 이상 일치한 구독자 수를 반환하는 메서드이다.
+     *
+     * @return 구독자 수
+     */
+    public int subscriberCount() {
+        return groups.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * 공고 번호 집합의 공고 목록을 반환하는 메서드이다.
+     *
+     * @param numbers 공고 번호 집합
+     * @return 공고 목록 (공고 번호 순서)
+     */
+    public List<AlertPostingDto> postings(RoaringBitmap numbers) {
+        List<AlertPostingDto> selected = new ArrayList<>(numbers.getCardinality());
+        numbers.forEach((int number) -> selected.add(postings.get(number)));
+        return selected;
+    }
+}
@@ -0,0 +1,154 @@
+package api.service.EmailService.matching;
+
+import api.service.EmailService.dto.alert.AlertPostingDto;
+import api.service.EmailService.repository.DynamoDbRepository;
+import api.service.EmailService.skill.SkillDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.utils.ImmutableMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 새 채용 공고를 구독자와 일치시키는 클래스이다.
+ *
+ * 구독 테이블의 (tag, email) 항목으로 {@link SubscriptionIndex}를 만들고,
+ * 이 서버에서 일어난 구독과 구독 취소는 인덱스에 바로 반영한다.
+ * 다른 서버에서 일어난 변경은 주기적으로 구독 테이블 전체를 다시 읽어 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriptionMatcher {
+
+    private static final Map<String, String> expressionAttributeNames = ImmutableMap.of(
+            "#tag", "tag",
+            "#email", "email"
+    );
+
+    @Value("${aws.dynamodb.subscribe.table}")
+    private String subscribeTable;
+    private final DynamoDbRepository dynamoDbRepository;
+    private final SkillDictionary skillDictionary;
+
+    private volatile SubscriptionIndex index = new SubscriptionIndex();
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    // 다시 읽는 동안 일어난 변경, 새 인덱스로 교체하기 전에 다시 적용한다.
+    private final List<Consumer<SubscriptionIndex>> pending = new ArrayList<>();
+
+    /**
+     * 구독을 인덱스에 반영하는 메서드이다.
+     *
+     * @param email 구독자 이메일
+     * @param tags 구독 태그 목록
+     */
+    public void subscribe(String email, Collection<String> tags) {
+        List<String> canonical = skillDictionary.canonicalize(tags);
+        apply(current -> current.add(email, canonical));
+    }
+
+    /**
+     * 구독 취소를 인덱스에 반영하는 메서드이다.
+     *
+     * @param email 구독자 이메일
+     */
+    public void unsubscribe(String email) {
+        apply(current -> current.remove(email));
+    }
+
+    /**
+     * 공고 목록을 한 번에 구독자와 일치시키는 메서드이다.
+     * 공고의 기술 중 하나라도 구독 태그와 같으면 일치한다.
+     *
+     * @param postings 채용 공고 목록
+     * @return SubscriptionMatch 일치 결과
+     */
+    public SubscriptionMatch match(List<AlertPostingDto> postings) {
+        List<List<String>> skills = postings.stream()
+                .map(posting -> skillDictionary.canonicalize(posting.getSkills()))
+                .toList();
+        return new SubscriptionMatch(postings, index.match(skills));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${alert.subscription.refresh-interval:PT10M}",
+            initialDelayString = "${alert.subscription.refresh-interval:PT10M}")
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * 구독 테이블 전체를 읽어 인덱스를 새로 만들고 교체하는 메서드이다.
+     * 이미 읽는 중이면 아무것도 하지 않는다.
+     */
+    public void reload() {
+        if (!reloading.compareAndSet(false, true)) return;
+        try {
+            long start = System.nanoTime();
+            SubscriptionIndex built = load();
+            synchronized (this) {
+                pending.forEach(change -> change.accept(built));
+                index = built;
+            }
+            log.info("load subscription index: subscribers={}, tag sets={}, {}ms",
+                    built.size(), built.queryCount(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("failed to load subscription index: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                pending.clear();
+                reloading.set(false);
+            }
+        }
+    }
+
+    private synchronized void apply(Consumer<SubscriptionIndex> change) {
+        change.accept(index);
+        if (reloading.get()) pending.add(change);
+    }
+
+    private SubscriptionIndex load() {
+        // 항목은 태그마다 하나이므로 이메일별 태그 집합으로 모은 뒤 등록한다.
+        Map<String, List<String>> subscriptions = new HashMap<>();
+        Map<String, AttributeValue> startKey = null;
+        do {
+            ScanResponse response = dynamoDbRepository.scan(ScanRequest.builder()
+                    .tableName(subscribeTable)
+                    .projectionExpression("#tag, #email")
+                    .expressionAttributeNames(expressionAttributeNames)
+                    .exclusiveStartKey(startKey)
+                    .build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                String tag = skillDictionary.canonicalize(item.get("tag").s());
+                if (tag != null) subscriptions.computeIfAbsent(item.get("email").s(), key -> new ArrayList<>()).add(tag);
+            }
+            startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+        } while (startKey != null);
+
+        SubscriptionIndex built = new SubscriptionIndex();
+        subscriptions.forEach(built::add);
+        return built;
+    }
+}
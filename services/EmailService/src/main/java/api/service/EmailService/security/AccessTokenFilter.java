@@ -0,0 +1,118 @@
+package api.service.EmailService.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolver;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Gateway가 전달한 액세스 토큰을 서비스에서 직접 다시 검증하는 필터이다.
+ * Gateway(AuthorizationService)의 JWKS(jwt.access.jwks-uri)로 서명을 검증하고,
+ * 토큰의 권한(auth)이 경로별 허용 권한에 있는지 확인한다.
+ * Gateway를 거치지 않고 서비스로 직접 들어온 요청도 토큰 없이는 구독을 변경하거나 알림 메일을 보낼 수 없다.
+ *
+ * <p>jwt.access.jwks-uri 를 설정하지 않으면 검증하지 않는다.
+ * kid가 없는 HS256 토큰은 JWKS로 검증할 수 없으므로, Gateway의 jwt.legacy-accept-until 이 지난 뒤에 설정한다.</p>
+ *
+ * <p>MemberService의 AccessTokenFilter와 PROTECTED_PATHS만 다르며, 수정할 때는 함께 맞춘다.</p>
+ */
+@Slf4j
+@Component
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    // Gateway 검증 이후 전달 지연과 서버 간 시계 차이 허용 범위
+    private static final long ALLOWED_CLOCK_SKEW_SECONDS = 30;
+
+    // 경로 패턴 -> 허용 권한 (Gateway의 email_service, email_alert_service 라우트 AuthFilter 설정과 같게 유지)
+    private static final Map<String, Set<String>> PROTECTED_PATHS = Map.of(
+            "/subscribe", Set.of("USER", "ADMIN"),
+            "/alert/**", Set.of("ADMIN"));
+
+    @Value("${jwt.access.jwks-uri:}")
+    private String jwksUri;
+    @Value("${jwt.access.jwks-refresh-interval:10m}")
+    private Duration refreshInterval;
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private JwtParser accessTokenParser;
+
+    /**
+     * 애플리케이션 초기화 시 액세스 토큰 검증에 사용할 JwtParser를 생성하는 메서드이다.
+     * jwt.access.jwks-uri 가 없으면 생성하지 않고, 필터는 모든 요청을 그대로 통과시킨다.
+     */
+    @PostConstruct
+    public void initParser() {
+        if (jwksUri.isBlank()) {
+            log.warn("jwt.access.jwks-uri가 없어 액세스 토큰을 검증하지 않음");
+            return;
+        }
+        initParser(new JwksKeyResolver(jwksUri, refreshInterval));
+    }
+
+    // 검증 키 조회 방식을 지정하여 JwtParser 생성
+    void initParser(SigningKeyResolver keyResolver) {
+        accessTokenParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyResolver)
+                .setAllowedClockSkewSeconds(ALLOWED_CLOCK_SKEW_SECONDS)
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return accessTokenParser == null || allowedRoles(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        String role;
+        try {
+            role = accessTokenParser.parseClaimsJws(authorization.substring(BEARER_PREFIX.length()))
+                    .getBody()
+                    .get("auth", String.class);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("액세스 토큰 검증 실패: {}", e.getMessage());
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        if (role == null || !allowedRoles(request).contains(role)) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // 요청 경로의 허용 권한 (검증 대상이 아니면 null)
+    private Set<String> allowedRoles(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, Set<String>> entry : PROTECTED_PATHS.entrySet()) {
+            if (pathMatcher.match(entry.getKey(), path)) return entry.getValue();
+        }
+        return null;
+    }
+}
@@ -1,6 +1,8 @@
 package api.service.EmailService.service;
 
+import api.service.EmailService.matching.SubscriptionMatcher;
 import api.service.EmailService.repository.DynamoDbRepository;
+import api.service.EmailService.skill.SkillDictionary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,15 +23,19 @@ public class SubscribeService {
     @Value("${aws.dynamodb.subscribe.table}")
     private String subscribeTable;
     private final DynamoDbRepository dynamoDbRepository;
+    private final SkillDictionary skillDictionary;
+    private final SubscriptionMatcher subscriptionMatcher;
 
     /**
      * 이메일 구독 저장
+     * 태그는 기술 사전의 표준 이름으로 바꾸어 저장하고, 공고 알림 구독자 인덱스에도 반영한다.
      *
      * @param email 구독할 이메일
      * @param tags  구독할 태그 리스트
      */
     public void subscribe(String email, List<String> tags) {
-        for (String tag : tags) {
+        List<String> canonical = skillDictionary.canonicalize(tags);
+        for (String tag : canonical) {
             try {
                 Map<String, AttributeValue> item = new ConcurrentHashMap<>();
                 item.put("tag", AttributeValue.builder().s(tag).build());
@@ -49,10 +55,13 @@ public class SubscribeService {
             }
             log.info("이메일 구독 저장 - tag: {}, email: {}", tag, email);
         }
+        subscriptionMatcher.subscribe(email, canonical);
     }
 
     /**
      * 이메일 구독 삭제
+     * 구독 테이블에서 먼저 삭제한 뒤 공고 알림 구독자 인덱스에 반영한다.
+     * 인덱스에서 먼저 빼면 그 사이에 구독 테이블 전체를 다시 읽은 인덱스가 삭제 전 항목으로 구독을 되살릴 수 있다.
      *
      * @param email 삭제할 이메일
      */
@@ -61,6 +70,7 @@ public class SubscribeService {
 
         if (itemsToDelete.isEmpty()) {
             log.info("no subscriptions found for email: {}", email);
+            subscriptionMatcher.unsubscribe(email);
             return;
         }
 
@@ -85,6 +95,7 @@ public class SubscribeService {
                 log.error("failed to delete tag: {}, email: {}, error: {}", tag, emailValue, e.getMessage());
             }
         }
+        subscriptionMatcher.unsubscribe(email);
     }
 
     /**
@@ -0,0 +1,138 @@
+package api.service.EmailService.skill;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 기술 태그의 별칭을 표준 이름과 정수 ID로 바꾸는 사전이다.
+ *
+ * 사전은 skill-dictionary.tsv(id, 표준 이름, 별칭 목록)에서 읽으며,
+ * 대소문자, 공백, '.', '-', '_'를 무시한 키를 정렬된 배열에 두고 이진 탐색으로 찾는다.
+ * 검색 필터, 회원 태그, 이메일 구독이 같은 표준 이름을 사용하도록 서비스마다 같은 사전 파일과 이 클래스를 둔다.
+ * 사전에 없는 기술은 앞뒤 공백만 제거하여 그대로 사용한다.
+ */
+@Slf4j
+@Component
+public class SkillDictionary {
+
+    public static final int UNKNOWN = -1;
+
+    // 정규화한 키 (정렬), 같은 위치의 ID
+    private final String[] keys;
+    private final int[] ids;
+    // ID별 표준 이름
+    private final String[] names;
+
+    public SkillDictionary(@Value("${skill.dictionary:classpath:skill-dictionary.tsv}") Resource resource) throws IOException {
+        Map<String, Integer> entries = new TreeMap<>();
+        List<String> names = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] columns = line.split("\t");
+                int id = Integer.parseInt(columns[0].trim());
+                String name = columns[1].trim();
+                while (names.size() <= id) names.add(null);
+                if (names.get(id) != null) {
+                    throw new IllegalStateException("duplicate skill id " + id);
+                }
+                names.set(id, name);
+                put(entries, name, id);
+                if (columns.length > 2) {
+                    for (String alias : columns[2].split(",")) {
+                        if (!alias.isBlank()) put(entries, alias, id);
+                    }
+                }
+            }
+        }
+        this.keys = entries.keySet().toArray(String[]::new);
+        this.ids = entries.values().stream().mapToInt(Integer::intValue).toArray();
+        this.names = names.toArray(String[]::new);
+        log.info("load skill dictionary: skills={}, keys={}", Arrays.stream(this.names).filter(n -> n != null).count(), keys.length);
+    }
+
+    private static void put(Map<String, Integer> entries, String value, int id) {
+        Integer previous = entries.put(key(value), id);
+        if (previous != null && previous != id) {
+            throw new IllegalStateException("skill alias " + value + " maps to " + previous + " and " + id);
+        }
+    }
+
+    /**
+     * 기술 이름이나 별칭의 ID를 반환하는 메서드이다.
+     *
+     * @param skill 기술 이름 또는 별칭
+     * @return 기술 ID, 사전에 없으면 UNKNOWN
+     */
+    public int id(String skill) {
+        if (skill == null) return UNKNOWN;
+        int index = Arrays.binarySearch(keys, key(skill));
+        return index < 0 ? UNKNOWN : ids[index];
+    }
+
+    /**
+     * ID의 표준 이름을 반환하는 메서드이다.
+     *
+     * @param id 기술 ID
+     * @return 표준 이름, 없는 ID면 null
+     */
+    public String name(int id) {
+        return id < 0 || id >= names.length ? null : names[id];
+    }
+
+    /**
+     * 기술 이름이나 별칭을 표준 이름으로 바꾸는 메서드이다.
+     *
+     * @param skill 기술 이름 또는 별칭
+     * @return 표준 이름, 사전에 없으면 앞뒤 공백을 제거한 값, 비어 있으면 null
+     */
+    public String canonicalize(String skill) {
+        if (skill == null || skill.isBlank()) return null;
+        int id = id(skill);
+        return id == UNKNOWN ? skill.trim() : names[id];
+    }
+
+    /**
+     * 기술 목록을 표준 이름 목록으로 바꾸는 메서드이다.
+     * 같은 기술은 한 번만 남기고 처음 나온 순서를 유지한다.
+     *
+     * @param skills 기술 이름 또는 별칭 목록
+     * @return 표준 이름 목록, null이면 빈 목록
+     */
+    public List<String> canonicalize(Collection<String> skills) {
+        if (skills == null) return List.of();
+        Set<String> canonical = new LinkedHashSet<>();
+        for (String skill : skills) {
+            String name = canonicalize(skill);
+            if (name != null) canonical.add(name);
+        }
+        return List.copyOf(canonical);
+    }
+
+    // 대소문자, 공백, '.', '-', '_'를 무시한 비교 키
+    static String key(String value) {
+        StringBuilder key = new StringBuilder(value.length());
+        for (char c : value.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isWhitespace(c) || c == '.' || c == '-' || c == '_') continue;
+            key.append(c);
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,228 @@
+package api.service.EmailService.digest;
+
+import api.service.EmailService.config.FakeSesClient;
+import api.service.EmailService.dto.alert.AlertPostingDto;
+import api.service.EmailService.dto.alert.DigestResult;
+import api.service.EmailService.matching.SubscriptionMatch;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.ses.model.SendBulkTemplatedEmailRequest;
+import software.amazon.awssdk.services.ses.model.SendBulkTemplatedEmailResponse;
+import software.amazon.awssdk.services.ses.model.SesException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DigestMailerTest {
+
+	private static final String DIGEST_TEMPLATE = "job-alert-digest-template.html";
+
+	private final SpringTemplateEngine springTemplateEngine = spy(templateEngine());
+	private DigestMailer digestMailer;
+
+	@AfterEach
+	void tearDown() {
+		if (digestMailer != null) digestMailer.shutdown();
+	}
+
+	@Test
+	void sendsBatchesOfAtMostFiftyAndRendersEachDigestOnce() throws Exception {
+		FakeSesClient sesClient = new FakeSesClient(1_000_000);
+		digestMailer = digestMailer(sesClient);
+
+		DigestResult result = digestMailer.send(match(120, 30)).get(10, TimeUnit.SECONDS);
+
+		List<SendBulkTemplatedEmailRequest> requests = sesClient.sentBulkEmails();
+		assertThat(requests).hasSize(4);
+		assertThat(requests).allSatisfy(request -> assertThat(request.destinations()).hasSizeLessThanOrEqualTo(50));
+		assertThat(requests.stream().mapToInt(request -> request.destinations().size()).sum()).isEqualTo(150);
+		assertThat(requests.stream().map(SendBulkTemplatedEmailRequest::defaultTemplateData).distinct()).hasSize(2);
+		verify(springTemplateEngine, times(2)).process(eq(DIGEST_TEMPLATE), any(IContext.class));
+
+		assertThat(result.getSubscribers()).isEqualTo(150);
+		assertThat(result.getDigests()).isEqualTo(2);
+		assertThat(result.getBatches()).isEqualTo(4);
+		assertThat(result.getSent()).isEqualTo(150);
+		assertThat(result.getFailed()).isZero();
+	}
+
+	@Test
+	void retriesThrottledBatch() throws Exception {
+		ThrottlingSesClient sesClient = new ThrottlingSesClient(2);
+		digestMailer = digestMailer(sesClient);
+
+		DigestResult result = digestMailer.send(match(10)).get(10, TimeUnit.SECONDS);
+
+		assertThat(sesClient.attempts.get()).isEqualTo(3);
+		assertThat(sesClient.sentBulkEmails()).hasSize(1);
+		assertThat(result.getSent()).isEqualTo(10);
+		assertThat(result.getFailed()).isZero();
+	}
+
+	@Test
+	void failsBatchAfterMaxRetries() throws Exception {
+		ThrottlingSesClient sesClient = new ThrottlingSesClient(Integer.MAX_VALUE);
+		digestMailer = digestMailer(sesClient);
+
+		DigestResult result = digestMailer.send(match(10)).get(10, TimeUnit.SECONDS);
+
+		// 첫 시도와 max-retries(3)번의 재시도
+		assertThat(sesClient.attempts.get()).isEqualTo(4);
+		assertThat(result.getSent()).isZero();
+		assertThat(result.getFailed()).isEqualTo(10);
+	}
+
+	@Test
+	void countsRejectedBatchesAsFailedAndFinishes() throws Exception {
+		FakeSesClient sesClient = new FakeSesClient(1_000_000);
+		digestMailer = digestMailer(sesClient);
+		((ExecutorService) ReflectionTestUtils.getField(digestMailer, "senders")).shutdownNow();
+
+		DigestResult result = digestMailer.send(match(120)).get(10, TimeUnit.SECONDS);
+
+		assertThat(result.getBatches()).isEqualTo(3);
+		assertThat(result.getSent()).isZero();
+		assertThat(result.getFailed()).isEqualTo(120);
+		assertThat(sesClient.sentBulkEmails()).isEmpty();
+		// 전송이 끝났으므로 다음 전송을 시작할 수 있다.
+		assertThat(digestMailer.send(match(1)).get(10, TimeUnit.SECONDS).getFailed()).isEqualTo(1);
+	}
+
+	@Test
+	void countsBatchAsFailedWhenSesClientThrows() throws Exception {
+		FakeSesClient sesClient = new FakeSesClient(1_000_000) {
+			@Override
+			public SendBulkTemplatedEmailResponse sendBulkTemplatedEmail(SendBulkTemplatedEmailRequest request) {
+				throw SdkClientException.create("connection reset");
+			}
+		};
+		digestMailer = digestMailer(sesClient);
+
+		DigestResult result = digestMailer.send(match(60)).get(10, TimeUnit.SECONDS);
+
+		assertThat(result.getBatches()).isEqualTo(2);
+		assertThat(result.getSent()).isZero();
+		assertThat(result.getFailed()).isEqualTo(60);
+	}
+
+	@Test
+	void waitsForSubmittedBatchesWhenRenderingFails() throws Exception {
+		FakeSesClient sesClient = new FakeSesClient(1_000_000) {
+			@Override
+			public SendBulkTemplatedEmailResponse sendBulkTemplatedEmail(SendBulkTemplatedEmailRequest request) {
+				try {
+					Thread.sleep(200);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.sendBulkTemplatedEmail(request);
+			}
+		};
+		digestMailer = digestMailer(sesClient);
+		doCallRealMethod()
+				.doThrow(new IllegalStateException("template error"))
+				.when(springTemplateEngine).process(eq(DIGEST_TEMPLATE), any(IContext.class));
+
+		assertThatThrownBy(() -> digestMailer.send(match(10, 10)).get(10, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class)
+				.hasRootCauseMessage("template error");
+		// 실패로 끝나기 전에 먼저 보낸 배치가 끝나 있어야 한다.
+		assertThat(sesClient.sentBulkEmails()).hasSize(1);
+
+		doCallRealMethod().when(springTemplateEngine).process(eq(DIGEST_TEMPLATE), any(IContext.class));
+		assertThat(digestMailer.send(match(1)).get(10, TimeUnit.SECONDS).getSent()).isEqualTo(1);
+	}
+
+	private DigestMailer digestMailer(FakeSesClient sesClient) {
+		DigestMailer mailer = new DigestMailer(sesClient, springTemplateEngine, new ObjectMapper());
+		ReflectionTestUtils.setField(mailer, "sender", "noreply@example.com");
+		ReflectionTestUtils.setField(mailer, "sesTemplate", "job-alert-digest");
+		ReflectionTestUtils.setField(mailer, "batchSize", 50);
+		ReflectionTestUtils.setField(mailer, "concurrency", 2);
+		ReflectionTestUtils.setField(mailer, "maxPostings", 20);
+		ReflectionTestUtils.setField(mailer, "maxRetries", 3);
+		ReflectionTestUtils.setField(mailer, "retryBackoff", Duration.ofMillis(1));
+		mailer.init();
+		return mailer;
+	}
+
+	// 그룹 i의 구독자는 공고 0..i를 받는다.
+	private static SubscriptionMatch match(int... groupSizes) {
+		List<AlertPostingDto> postings = IntStream.range(0, groupSizes.length)
+				.mapToObj(i -> AlertPostingDto.builder()
+						.id(String.valueOf(i))
+						.url("https://example.com/jobs/" + i)
+						.title("Backend Engineer " + i)
+						.company("company")
+						.skills(List.of("Java"))
+						.build())
+				.toList();
+		Map<RoaringBitmap, List<String>> groups = new LinkedHashMap<>();
+		for (int group = 0; group < groupSizes.length; group++) {
+			List<String> emails = new ArrayList<>();
+			for (int i = 0; i < groupSizes[group]; i++) emails.add("user" + group + "-" + i + "@example.com");
+			groups.put(RoaringBitmap.bitmapOfRange(0, group + 1), emails);
+		}
+		return new SubscriptionMatch(postings, groups);
+	}
+
+	private static SpringTemplateEngine templateEngine() {
+		ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+		resolver.setPrefix("templates/");
+		resolver.setTemplateMode(TemplateMode.HTML);
+		resolver.setCharacterEncoding("UTF-8");
+		SpringTemplateEngine engine = new SpringTemplateEngine();
+		engine.setTemplateResolver(resolver);
+		return engine;
+	}
+
+	// 처음 throttled번은 전송 제한 오류를 반환하는 SES 클라이언트
+	private static final class ThrottlingSesClient extends FakeSesClient {
+
+		private final int throttled;
+		private final AtomicInteger attempts = new AtomicInteger();
+
+		ThrottlingSesClient(int throttled) {
+			super(1_000_000);
+			this.throttled = throttled;
+		}
+
+		@Override
+		public SendBulkTemplatedEmailResponse sendBulkTemplatedEmail(SendBulkTemplatedEmailRequest request) {
+			if (attempts.incrementAndGet() <= throttled) {
+				throw (SesException) SesException.builder()
+						.statusCode(400)
+						.awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").errorMessage("Maximum sending rate exceeded.").build())
+						.message("Maximum sending rate exceeded.")
+						.build();
+			}
+			return super.sendBulkTemplatedEmail(request);
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package api.service.EmailService.matching;
+
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubscriptionIndexTest {
+
+	private final SubscriptionIndex index = new SubscriptionIndex();
+
+	@Test
+	void matchesSubscriberWhenAnyTagMatches() {
+		index.add("a@example.com", List.of("Java", "Spring"));
+
+		Map<RoaringBitmap, List<String>> groups = index.match(List.of(
+				List.of("Python"),
+				List.of("Spring", "Kotlin"),
+				List.of("Java")));
+
+		assertThat(groups).containsExactly(Map.entry(RoaringBitmap.bitmapOf(1, 2), List.of("a@example.com")));
+	}
+
+	@Test
+	void mergesTagsOfSameSubscriber() {
+		index.add("a@example.com", List.of("Java"));
+		index.add("a@example.com", List.of("Python", "Java"));
+
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.queryCount()).isEqualTo(1);
+		assertThat(index.match(List.of(List.of("Python"), List.of("Java"))))
+				.containsExactly(Map.entry(RoaringBitmap.bitmapOf(0, 1), List.of("a@example.com")));
+	}
+
+	@Test
+	void sharesQueryForEqualTagSets() {
+		index.add("a@example.com", List.of("Java", "Spring"));
+		index.add("b@example.com", List.of("Spring", "Java"));
+		index.add("c@example.com", List.of("Java"));
+
+		assertThat(index.size()).isEqualTo(3);
+		assertThat(index.queryCount()).isEqualTo(2);
+	}
+
+	@Test
+	void ignoresEmptyTags() {
+		index.add("a@example.com", List.of());
+
+		assertThat(index.size()).isZero();
+		assertThat(index.queryCount()).isZero();
+	}
+
+	@Test
+	void removesSubscriber() {
+		index.add("a@example.com", List.of("Java"));
+		index.add("b@example.com", List.of("Java"));
+
+		index.remove("a@example.com");
+		index.remove("missing@example.com");
+
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.match(List.of(List.of("Java"))))
+				.containsExactly(Map.entry(RoaringBitmap.bitmapOf(0), List.of("b@example.com")));
+	}
+
+	@Test
+	void cleansUpQueryWithoutSubscribers() {
+		index.add("a@example.com", List.of("Java"));
+		index.add("a@example.com", List.of("Spring"));
+
+		// 태그를 합치면서 비게 된 {Java} 조건은 삭제된다.
+		assertThat(index.queryCount()).isEqualTo(1);
+
+		index.remove("a@example.com");
+
+		assertThat(index.size()).isZero();
+		assertThat(index.queryCount()).isZero();
+		assertThat(index.match(List.of(List.of("Java", "Spring")))).isEmpty();
+	}
+
+	@Test
+	void resubscribesAfterRemove() {
+		index.add("a@example.com", List.of("Java"));
+		index.remove("a@example.com");
+		index.add("a@example.com", List.of("Kotlin"));
+
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.match(List.of(List.of("Java")))).isEmpty();
+		assertThat(index.match(List.of(List.of("Kotlin"))))
+				.containsExactly(Map.entry(RoaringBitmap.bitmapOf(0), List.of("a@example.com")));
+	}
+
+	@Test
+	void groupsSubscribersWithEqualPostingSets() {
+		index.add("java@example.com", List.of("Java"));
+		index.add("spring@example.com", List.of("Spring"));
+		index.add("both@example.com", List.of("Java", "Spring"));
+		index.add("python@example.com", List.of("Python"));
+
+		Map<RoaringBitmap, List<String>> groups = index.match(List.of(
+				List.of("Java", "Spring"),
+				List.of("Python")));
+
+		assertThat(groups).hasSize(2);
+		assertThat(groups.get(RoaringBitmap.bitmapOf(0)))
+				.containsExactlyInAnyOrder("java@example.com", "spring@example.com", "both@example.com");
+		assertThat(groups.get(RoaringBitmap.bitmapOf(1))).containsExactly("python@example.com");
+	}
+}
@@ -0,0 +1,72 @@
+package api.service.EmailService.matching;
+
+import api.service.EmailService.dto.alert.AlertPostingDto;
+import api.service.EmailService.repository.DynamoDbRepository;
+import api.service.EmailService.skill.SkillDictionary;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SubscriptionMatcherTest {
+
+	private final DynamoDbRepository dynamoDbRepository = mock(DynamoDbRepository.class);
+
+	@Test
+	void loadsCanonicalTagsGroupedByEmail() throws IOException {
+		SubscriptionMatcher matcher = matcher();
+		when(dynamoDbRepository.scan(any(ScanRequest.class))).thenReturn(ScanResponse.builder()
+				.items(List.of(item("자바", "a@example.com"), item("Spring", "a@example.com"), item("python3", "b@example.com")))
+				.build());
+
+		matcher.reload();
+
+		assertThat(matcher.match(List.of(posting("java"))).groups().values())
+				.containsExactly(List.of("a@example.com"));
+		assertThat(matcher.match(List.of(posting("Python"))).groups().values())
+				.containsExactly(List.of("b@example.com"));
+	}
+
+	@Test
+	void replaysUnsubscribeMadeDuringReload() throws IOException {
+		SubscriptionMatcher matcher = matcher();
+		matcher.subscribe("a@example.com", List.of("Java"));
+		// 전체를 읽는 동안 구독이 삭제되어, 읽은 결과에는 삭제 전 항목이 남아 있는 경우
+		when(dynamoDbRepository.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+			matcher.unsubscribe("a@example.com");
+			return ScanResponse.builder().items(List.of(item("Java", "a@example.com"))).build();
+		});
+
+		matcher.reload();
+
+		assertThat(matcher.match(List.of(posting("Java"))).groups()).isEmpty();
+	}
+
+	private SubscriptionMatcher matcher() throws IOException {
+		SubscriptionMatcher matcher = new SubscriptionMatcher(dynamoDbRepository,
+				new SkillDictionary(new ClassPathResource("skill-dictionary.tsv")));
+		ReflectionTestUtils.setField(matcher, "subscribeTable", "subscribe");
+		return matcher;
+	}
+
+	private static AlertPostingDto posting(String... skills) {
+		return AlertPostingDto.builder().id("1").skills(List.of(skills)).build();
+	}
+
+	private static Map<String, AttributeValue> item(String tag, String email) {
+		return Map.of(
+				"tag", AttributeValue.builder().s(tag).build(),
+				"email", AttributeValue.builder().s(email).build());
+	}
+}
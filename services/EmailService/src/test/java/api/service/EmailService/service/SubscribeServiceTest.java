@@ -0,0 +1,68 @@
+package api.service.EmailService.service;
+
+import api.service.EmailService.matching.SubscriptionMatcher;
+import api.service.EmailService.repository.DynamoDbRepository;
+import api.service.EmailService.skill.SkillDictionary;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+class SubscribeServiceTest {
+
+	private final DynamoDbRepository dynamoDbRepository = mock(DynamoDbRepository.class);
+	private final SubscriptionMatcher subscriptionMatcher = mock(SubscriptionMatcher.class);
+
+	@Test
+	void deletesSubscriptionsBeforeUpdatingIndex() throws IOException {
+		SubscribeService subscribeService = subscribeService();
+		when(dynamoDbRepository.scan(any(ScanRequest.class))).thenReturn(ScanResponse.builder()
+				.items(List.of(item("Java", "a@example.com"), item("Spring", "a@example.com")))
+				.build());
+
+		subscribeService.deleteSubscribe("a@example.com");
+
+		InOrder order = inOrder(dynamoDbRepository, subscriptionMatcher);
+		order.verify(dynamoDbRepository, times(2)).deleteItem(any(DeleteItemRequest.class));
+		order.verify(subscriptionMatcher).unsubscribe("a@example.com");
+	}
+
+	@Test
+	void updatesIndexWhenNoSubscriptionsRemain() throws IOException {
+		SubscribeService subscribeService = subscribeService();
+		when(dynamoDbRepository.scan(any(ScanRequest.class))).thenReturn(ScanResponse.builder().items(List.of()).build());
+
+		subscribeService.deleteSubscribe("a@example.com");
+
+		InOrder order = inOrder(dynamoDbRepository, subscriptionMatcher);
+		order.verify(dynamoDbRepository).scan(any(ScanRequest.class));
+		order.verify(subscriptionMatcher).unsubscribe("a@example.com");
+	}
+
+	private SubscribeService subscribeService() throws IOException {
+		SubscribeService subscribeService = new SubscribeService(dynamoDbRepository,
+				new SkillDictionary(new ClassPathResource("skill-dictionary.tsv")), subscriptionMatcher);
+		ReflectionTestUtils.setField(subscribeService, "subscribeTable", "subscribe");
+		return subscribeService;
+	}
+
+	private static Map<String, AttributeValue> item(String tag, String email) {
+		return Map.of(
+				"tag", AttributeValue.builder().s(tag).build(),
+				"email", AttributeValue.builder().s(email).build());
+	}
+}
@@ -14,5 +14,7 @@ create table member (
 create table tag (
      id serial primary key,
      name varchar(100),
+     skill_id int,
      member_id int references member(id) on delete cascade
-);
\ No newline at end of file
+);
+-- 기존 데이터베이스의 스키마 변경과 태그 정리는 src/main/resources/db/migration의 Flyway 마이그레이션으로 적용된다.
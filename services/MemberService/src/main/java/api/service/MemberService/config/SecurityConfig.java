@@ -1,5 +1,7 @@
 package api.service.MemberService.config;
 
+import api.service.MemberService.security.JwksKeyResolver;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -11,6 +13,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -29,4 +33,12 @@ public class SecurityConfig {
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
+
+    // 회원가입 토큰 검증 키 (EmailService의 JWKS)
+    @Bean
+    public JwksKeyResolver jwksKeyResolver(
+            @Value("${jwt.signup.jwks-uri}") String jwksUri,
+            @Value("${jwt.signup.jwks-refresh-interval:10m}") Duration refreshInterval) {
+        return new JwksKeyResolver(jwksUri, refreshInterval);
+    }
 }
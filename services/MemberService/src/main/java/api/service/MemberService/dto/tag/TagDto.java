@@ -13,4 +13,5 @@ public class TagDto {
 
     private Integer id;
     private String name;
+    private Integer skillId;
 }
@@ -1,29 +1,20 @@
 package api.service.MemberService.entity;
 
-import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.index.Indexed;
 
+/**
+ * Redis의 refresh_token:{email} 키에 저장되는 리프레시 토큰 정보이다.
+ * AuthorizationService(Gateway)가 같은 키를 조회하여 토큰을 재발급한다.
+ */
 @Getter
-@RedisHash(value = "token", timeToLive = 2592000)   // TTL 30일
+@Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class RefreshToken {
 
-    @Id
-    private Long id;
     private String refreshToken;
-
-    @Indexed
-    private String email;   // 이메일 값으로 리프레시 토큰 조회
-
-    @Builder
-    public RefreshToken(String refreshToken, String email) {
-        this.refreshToken = refreshToken;
-        this.email = email;
-    }
+    private String email;   // 이메일 값이 곧 Redis 키
 }
@@ -30,6 +30,10 @@ public class Tag {
     @Column(name="name")
     private String name;
 
+    @Comment("기술 사전 ID (사전에 없는 태그는 null)")
+    @Column(name="skill_id")
+    private Integer skillId;
+
     @ManyToOne
     @JoinColumn(name = "member_id")
     @Comment("회원 고유 번호")
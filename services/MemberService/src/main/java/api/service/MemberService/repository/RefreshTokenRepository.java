@@ -1,7 +1,25 @@
 package api.service.MemberService.repository;
 
 import api.service.MemberService.entity.RefreshToken;
-import org.springframework.data.repository.CrudRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
 
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
+import java.time.Duration;
+
+/**
+ * 리프레시 토큰을 Redis의 refresh_token:{email} 키에 저장하는 저장소이다.
+ * AuthorizationService의 토큰 교체 스크립트와 같은 키 구조를 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepository {
+
+    private static final String KEY_PREFIX = "refresh_token:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void save(RefreshToken token, Duration timeToLive) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + token.getEmail(), token.getRefreshToken(), timeToLive);
+    }
 }
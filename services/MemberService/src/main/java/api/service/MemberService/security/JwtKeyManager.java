@@ -0,0 +1,47 @@
+package api.service.MemberService.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+
+/**
+ * 액세스/리프레시 토큰 서명용 RSA 개인 키를 관리하는 클래스이다.
+ * AuthorizationService(Gateway)와 같은 키(jwt.signing.*)를 사용하며,
+ * 공개 키는 Gateway의 /.well-known/jwks.json 으로 공개된다.
+ */
+@Slf4j
+@Getter
+@Component
+public class JwtKeyManager {
+
+    public static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.RS256;
+
+    @Value("${jwt.signing.kid}")
+    private String activeKid;
+    @Value("${jwt.signing.private-key}")
+    private String privateKey;
+
+    private PrivateKey signingKey;
+
+    /**
+     * 애플리케이션 초기화 시 서명 키를 생성하는 메서드이다.
+     * 키는 Base64로 인코딩된 PKCS#8 DER 또는 PEM 형식으로 설정한다.
+     *
+     * @throws GeneralSecurityException 키 형식이 올바르지 않을 경우 발생
+     */
+    @PostConstruct
+    public void initKeys() throws GeneralSecurityException {
+        log.info("JWT 서명 키 로드: {}", activeKid);
+        byte[] keyByte = Decoders.BASE64.decode(privateKey.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", ""));
+        signingKey = KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(keyByte));
+    }
+}
@@ -4,10 +4,9 @@ import api.service.MemberService.dto.login.LoginRequestDto;
 import api.service.MemberService.dto.login.LoginResponseDto;
 import api.service.MemberService.entity.RefreshToken;
 import api.service.MemberService.repository.RefreshTokenRepository;
+import api.service.MemberService.security.JwtKeyManager;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,8 +19,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.crypto.spec.SecretKeySpec;
-import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.stream.Collectors;
 
@@ -36,17 +34,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LoginService {
 
-    @Value("${jwt.secret-key}")
-    private String secretKey;
-
     @Value("${jwt.access-expire-time}")
     private long accessExpireTime;
 
     @Value("${jwt.refresh-expire-time}")
     private long refreshExpireTime;
 
-    private Key signature;
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private final JwtKeyManager jwtKeyManager;
     private final AuthenticationManagerBuilder authManagerBuilder;
     private final RefreshTokenRepository refreshTokenRepository;
 
@@ -108,8 +102,9 @@ public class LoginService {
     public String createToken(String email, String authorities, long expireTime){
         return Jwts.builder()
                 .setSubject(email)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyManager.getActiveKid())
                 .claim("auth", authorities)
-                .signWith(signature, signatureAlgorithm)
+                .signWith(jwtKeyManager.getSigningKey(), JwtKeyManager.SIGNATURE_ALGORITHM)
                 .setExpiration(new Date(System.currentTimeMillis() + expireTime))
                 .compact();
     }
@@ -118,12 +113,6 @@ public class LoginService {
     public void saveRefreshToken(RefreshToken token){
         refreshTokenRepository.save(RefreshToken.builder()
                 .refreshToken(token.getRefreshToken())
-                .email(token.getEmail()).build());
-    }
-
-    @PostConstruct
-    public void initSignature() throws Exception {
-        byte[] keyByte = Decoders.BASE64.decode(secretKey);
-        signature = new SecretKeySpec(keyByte, SignatureAlgorithm.HS256.getJcaName());
+                .email(token.getEmail()).build(), Duration.ofMillis(refreshExpireTime));
     }
 }
@@ -6,6 +6,7 @@ import api.service.MemberService.dto.tag.TagDto;
 import api.service.MemberService.entity.Member;
 import api.service.MemberService.entity.Tag;
 import api.service.MemberService.repository.MemberRepository;
+import api.service.MemberService.skill.SkillDictionary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -14,7 +15,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -24,6 +27,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SkillDictionary skillDictionary;
 
     /**
      * 회원 정보를 DB에서 조회하여 반환하는 서비스 메서드이다.
@@ -42,6 +46,7 @@ public class MemberService {
                     .tags(member.getTags().stream().map(tag -> TagDto.builder()
                             .id(tag.getId())
                             .name(tag.getName())
+                            .skillId(tag.getSkillId())
                             .build()).toList())
                     .subscribed(member.getSubscribed())
                     .build();
@@ -51,6 +56,7 @@ public class MemberService {
 
     /**
      * 회원 정보를 수정하는 서비스 메서드이다.
+     * 태그 이름은 기술 사전의 표준 이름으로 바꾸고, 같은 기술의 태그는 하나만 저장한다.
      *
      * @param memberRequestDto 수정할 회원 정보를 담은 DTO
      * @throws IllegalArgumentException 회원 정보가 존재하지 않을 경우 예외 발생
@@ -67,10 +73,17 @@ public class MemberService {
         List<Tag> tags = member.getTags();
         tags.clear();
 
+        Set<String> names = new HashSet<>();
         memberRequestDto.getTags().forEach(tagDto -> {
+            String name = skillDictionary.canonicalize(tagDto.getName());
+            if (name == null || !names.add(name)) return;
+
+            int skillId = skillDictionary.id(name);
             Tag tag = Tag.builder()
                     .id(tagDto.getId())
-                    .name(tagDto.getName())
+                    .name(name)
+                    .skillId(skillId == SkillDictionary.UNKNOWN ? null : skillId)
+                    .member(member)
                     .build();
             tags.add(tag);
         });
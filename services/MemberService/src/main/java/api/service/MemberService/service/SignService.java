@@ -4,20 +4,16 @@ import api.service.MemberService.dto.signup.SignUpRequestDto;
 import api.service.MemberService.entity.Member;
 import api.service.MemberService.entity.Role;
 import api.service.MemberService.repository.MemberRepository;
+import api.service.MemberService.security.JwksKeyResolver;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.crypto.spec.SecretKeySpec;
-import java.security.Key;
-
 /**
  * 사용자의 회원가입 요청을 처리하는 서비스 클래스이다.
  *
@@ -29,10 +25,9 @@ import java.security.Key;
 @RequiredArgsConstructor
 public class SignService {
 
-    @Value("${jwt.signup.secret-key}")
-    private String signUpSecretKey;
-    private Key signature;
+    private JwtParser signUpTokenParser;
 
+    private final JwksKeyResolver jwksKeyResolver;
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -67,7 +62,7 @@ public class SignService {
 
     public boolean validateSignUpToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(signature).build().parseClaimsJws(token);
+            signUpTokenParser.parseClaimsJws(token);
         } catch (ExpiredJwtException e) {
             log.error("JWT 토큰이 만료됨: {}", e.getMessage());
             return false;
@@ -87,9 +82,12 @@ public class SignService {
         return true;
     }
 
+    /**
+     * 회원가입 토큰 검증에 사용할 JwtParser를 생성하는 메서드이다.
+     * 회원가입 토큰은 EmailService의 RSA 키로 서명되므로, 캐시된 JWKS에서 kid로 공개 키를 찾아 검증한다.
+     */
     @PostConstruct
-    public void initSignature() throws Exception {
-        byte[] keyByte = Decoders.BASE64.decode(signUpSecretKey);
-        signature = new SecretKeySpec(keyByte, SignatureAlgorithm.HS256.getJcaName());
+    public void initSignature() {
+        signUpTokenParser = Jwts.parserBuilder().setSigningKeyResolver(jwksKeyResolver).build();
     }
 }
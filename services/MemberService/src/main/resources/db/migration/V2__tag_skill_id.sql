@@ -0,0 +1,176 @@
+-- 태그에 기술 사전 ID 컬럼을 추가하고, 기존 태그를 기술 사전의 표준 이름과 ID로 바꾼다.
+-- 별칭 목록은 이 마이그레이션을 만들 때의 skill-dictionary.tsv 내용이며, 이후 추가되는 별칭은 회원 정보를 수정할 때 반영된다.
+-- 비교 키는 SkillDictionary.key와 같이 소문자로 바꾸고 공백, '.', '-', '_'를 제거한다.
+alter table tag add column if not exists skill_id int;
+
+create temporary table skill_alias (
+    alias varchar(100) not null,
+    skill_id int not null,
+    name varchar(100) not null
+) on commit drop;
+
+insert into skill_alias (alias, skill_id, name) values
+    ('Java', 1, 'Java'),
+    ('자바', 1, 'Java'),
+    ('java8', 1, 'Java'),
+    ('java11', 1, 'Java'),
+    ('java17', 1, 'Java'),
+    ('Python', 2, 'Python'),
+    ('파이썬', 2, 'Python'),
+    ('python3', 2, 'Python'),
+    ('JavaScript', 3, 'JavaScript'),
+    ('자바스크립트', 3, 'JavaScript'),
+    ('js', 3, 'JavaScript'),
+    ('ecmascript', 3, 'JavaScript'),
+    ('es6', 3, 'JavaScript'),
+    ('TypeScript', 4, 'TypeScript'),
+    ('타입스크립트', 4, 'TypeScript'),
+    ('ts', 4, 'TypeScript'),
+    ('Kotlin', 5, 'Kotlin'),
+    ('코틀린', 5, 'Kotlin'),
+    ('Go', 6, 'Go'),
+    ('golang', 6, 'Go'),
+    ('C', 7, 'C'),
+    ('c언어', 7, 'C'),
+    ('C++', 8, 'C++'),
+    ('cpp', 8, 'C++'),
+    ('C#', 9, 'C#'),
+    ('csharp', 9, 'C#'),
+    ('Swift', 10, 'Swift'),
+    ('스위프트', 10, 'Swift'),
+    ('Objective-C', 11, 'Objective-C'),
+    ('objc', 11, 'Objective-C'),
+    ('Ruby', 12, 'Ruby'),
+    ('루비', 12, 'Ruby'),
+    ('PHP', 13, 'PHP'),
+    ('Rust', 14, 'Rust'),
+    ('러스트', 14, 'Rust'),
+    ('Scala', 15, 'Scala'),
+    ('스칼라', 15, 'Scala'),
+    ('Dart', 16, 'Dart'),
+    ('다트', 16, 'Dart'),
+    ('R', 17, 'R'),
+    ('SQL', 18, 'SQL'),
+    ('Spring', 19, 'Spring'),
+    ('스프링', 19, 'Spring'),
+    ('springframework', 19, 'Spring'),
+    ('Spring Boot', 20, 'Spring Boot'),
+    ('스프링부트', 20, 'Spring Boot'),
+    ('JPA', 21, 'JPA'),
+    ('spring data jpa', 21, 'JPA'),
+    ('Hibernate', 22, 'Hibernate'),
+    ('하이버네이트', 22, 'Hibernate'),
+    ('MyBatis', 23, 'MyBatis'),
+    ('마이바티스', 23, 'MyBatis'),
+    ('ibatis', 23, 'MyBatis'),
+    ('Node.js', 24, 'Node.js'),
+    ('node', 24, 'Node.js'),
+    ('Express', 25, 'Express'),
+    ('NestJS', 26, 'NestJS'),
+    ('nest', 26, 'NestJS'),
+    ('네스트', 26, 'NestJS'),
+    ('Django', 27, 'Django'),
+    ('장고', 27, 'Django'),
+    ('Flask', 28, 'Flask'),
+    ('플라스크', 28, 'Flask'),
+    ('FastAPI', 29, 'FastAPI'),
+    ('React', 30, 'React'),
+    ('리액트', 30, 'React'),
+    ('Vue.js', 31, 'Vue.js'),
+    ('vue', 31, 'Vue.js'),
+    ('Angular', 32, 'Angular'),
+    ('angularjs', 32, 'Angular'),
+    ('앵귤러', 32, 'Angular'),
+    ('Next.js', 33, 'Next.js'),
+    ('next', 33, 'Next.js'),
+    ('Svelte', 34, 'Svelte'),
+    ('HTML', 35, 'HTML'),
+    ('html5', 35, 'HTML'),
+    ('CSS', 36, 'CSS'),
+    ('css3', 36, 'CSS'),
+    ('Redux', 37, 'Redux'),
+    ('React Native', 38, 'React Native'),
+    ('리액트네이티브', 38, 'React Native'),
+    ('Flutter', 39, 'Flutter'),
+    ('플러터', 39, 'Flutter'),
+    ('Android', 40, 'Android'),
+    ('안드로이드', 40, 'Android'),
+    ('iOS', 41, 'iOS'),
+    ('MySQL', 42, 'MySQL'),
+    ('PostgreSQL', 43, 'PostgreSQL'),
+    ('postgres', 43, 'PostgreSQL'),
+    ('포스트그레스', 43, 'PostgreSQL'),
+    ('Oracle', 44, 'Oracle'),
+    ('oracle db', 44, 'Oracle'),
+    ('MongoDB', 45, 'MongoDB'),
+    ('mongo', 45, 'MongoDB'),
+    ('몽고db', 45, 'MongoDB'),
+    ('Redis', 46, 'Redis'),
+    ('레디스', 46, 'Redis'),
+    ('Elasticsearch', 47, 'Elasticsearch'),
+    ('엘라스틱서치', 47, 'Elasticsearch'),
+    ('OpenSearch', 48, 'OpenSearch'),
+    ('Kafka', 49, 'Kafka'),
+    ('apache kafka', 49, 'Kafka'),
+    ('카프카', 49, 'Kafka'),
+    ('RabbitMQ', 50, 'RabbitMQ'),
+    ('AWS', 51, 'AWS'),
+    ('amazon web services', 51, 'AWS'),
+    ('아마존웹서비스', 51, 'AWS'),
+    ('GCP', 52, 'GCP'),
+    ('google cloud', 52, 'GCP'),
+    ('google cloud platform', 52, 'GCP'),
+    ('Azure', 53, 'Azure'),
+    ('microsoft azure', 53, 'Azure'),
+    ('Docker', 54, 'Docker'),
+    ('도커', 54, 'Docker'),
+    ('Kubernetes', 55, 'Kubernetes'),
+    ('k8s', 55, 'Kubernetes'),
+    ('쿠버네티스', 55, 'Kubernetes'),
+    ('Terraform', 56, 'Terraform'),
+    ('테라폼', 56, 'Terraform'),
+    ('Jenkins', 57, 'Jenkins'),
+    ('젠킨스', 57, 'Jenkins'),
+    ('GitHub Actions', 58, 'GitHub Actions'),
+    ('Git', 59, 'Git'),
+    ('깃', 59, 'Git'),
+    ('Linux', 60, 'Linux'),
+    ('리눅스', 60, 'Linux'),
+    ('Nginx', 61, 'Nginx'),
+    ('GraphQL', 62, 'GraphQL'),
+    ('gRPC', 63, 'gRPC'),
+    ('Spark', 64, 'Spark'),
+    ('apache spark', 64, 'Spark'),
+    ('스파크', 64, 'Spark'),
+    ('Hadoop', 65, 'Hadoop'),
+    ('하둡', 65, 'Hadoop'),
+    ('Airflow', 66, 'Airflow'),
+    ('apache airflow', 66, 'Airflow'),
+    ('TensorFlow', 67, 'TensorFlow'),
+    ('텐서플로우', 67, 'TensorFlow'),
+    ('PyTorch', 68, 'PyTorch'),
+    ('파이토치', 68, 'PyTorch'),
+    ('Pandas', 69, 'Pandas'),
+    ('Unity', 70, 'Unity'),
+    ('유니티', 70, 'Unity'),
+    ('Unreal Engine', 71, 'Unreal Engine'),
+    ('unreal', 71, 'Unreal Engine'),
+    ('언리얼', 71, 'Unreal Engine');
+
+update tag t
+set name = s.name,
+    skill_id = s.skill_id
+from (select distinct lower(regexp_replace(alias, '[[:space:]._-]', '', 'g')) as key, skill_id, name
+      from skill_alias) s
+where s.key = lower(regexp_replace(t.name, '[[:space:]._-]', '', 'g'));
+
+-- 사전에 없는 태그는 앞뒤 공백만 제거하고, 빈 태그는 삭제한다.
+update tag set name = trim(name) where skill_id is null and name <> trim(name);
+delete from tag where name is null or name = '';
+
+-- 표준 이름으로 바꾼 뒤 같은 회원에게 중복된 태그는 먼저 만든 태그만 남긴다.
+delete from tag a
+using tag b
+where a.member_id = b.member_id
+  and a.name = b.name
+  and a.id > b.id;
@@ -0,0 +1,55 @@
+package api.service.SearchService.cache;
+
+import api.service.SearchService.dto.FacetResult;
+import api.service.SearchService.query.SearchQuery;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 필터 조건({@link SearchQuery})별 facet 집계 결과를 보관하는 캐시이다.
+ * 검색 결과 캐시와 같이 진행 중인 집계를 공유하고, 인덱스가 새로 적재되면 전체를 비운다.
+ */
+@Component
+public class FacetCache {
+
+    @Value("${search.facet.cache.max-size:1000}")
+    private long maxSize;
+    @Value("${search.facet.cache.ttl:5m}")
+    private Duration ttl;
+
+    private AsyncCache<SearchQuery, FacetResult> cache;
+
+    @PostConstruct
+    public void initCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .buildAsync();
+    }
+
+    /**
+     * 캐시된 집계 결과를 반환하고, 없으면 aggregate 함수로 집계하여 캐시에 저장하는 메서드이다.
+     *
+     * @param query 정규화된 필터 조건
+     * @param aggregate 캐시에 없을 때 실행할 집계 함수
+     * @return CompletableFuture<FacetResult> 집계 결과
+     */
+    public CompletableFuture<FacetResult> get(
+            SearchQuery query,
+            Function<SearchQuery, CompletableFuture<FacetResult>> aggregate) {
+        return cache.get(query, (key, executor) -> aggregate.apply(key));
+    }
+
+    @EventListener
+    public void onIndexChanged(SearchIndexChangedEvent event) {
+        cache.synchronous().invalidateAll();
+    }
+}
@@ -0,0 +1,10 @@
+package api.service.SearchService.cache;
+
+/**
+ * 검색 대상 인덱스(스냅샷)가 새로 적재되었음을 알리는 이벤트이다.
+ * 이 이벤트를 받으면 인덱스 내용을 기반으로 만든 캐시를 모두 비운다.
+ *
+ * @param index 새로 적재된 인덱스 이름
+ */
+public record SearchIndexChangedEvent(String index) {
+}
@@ -0,0 +1,75 @@
+package api.service.SearchService.cache;
+
+import api.service.SearchService.dto.SearchResult;
+import api.service.SearchService.query.SearchQuery;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 정규화된 검색 조건({@link SearchQuery})을 키로 검색 결과를 보관하는 캐시이다.
+ * 항목은 search.cache.ttl 이 지나면 만료되고, search.cache.max-size 를 넘으면 사용 빈도가 낮은 항목부터 제거된다.
+ * 결과 대신 CompletableFuture를 보관하므로 같은 조건의 검색이 동시에 들어오면 OpenSearch에는 한 번만 요청한다.
+ * 실패한 검색은 캐시에 남지 않는다.
+ * 인덱스가 새로 적재되면({@link SearchIndexChangedEvent}) 전체를 비운다.
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+    @Value("${search.cache.max-size:10000}")
+    private long maxSize;
+    @Value("${search.cache.ttl:60s}")
+    private Duration ttl;
+
+    private AsyncCache<SearchQuery, SearchResult> cache;
+
+    @PostConstruct
+    public void initCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 캐시된 검색 결과를 반환하고, 없으면 search 함수로 검색하여 캐시에 저장하는 메서드이다.
+     *
+     * @param query 정규화된 검색 조건
+     * @param search 캐시에 없을 때 실행할 검색 함수
+     * @return CompletableFuture<SearchResult> 검색 결과
+     */
+    public CompletableFuture<SearchResult> get(
+            SearchQuery query,
+            Function<SearchQuery, CompletableFuture<SearchResult>> search) {
+        return cache.get(query, (key, executor) -> search.apply(key));
+    }
+
+    @EventListener
+    public void onIndexChanged(SearchIndexChangedEvent event) {
+        log.info("search index changed: {}, invalidate search result cache", event.index());
+        cache.synchronous().invalidateAll();
+    }
+
+    // 캐시 적중률 등 통계
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.synchronous().stats();
+        return Map.of(
+                "size", cache.synchronous().estimatedSize(),
+                "hitCount", stats.hitCount(),
+                "missCount", stats.missCount(),
+                "hitRatio", stats.hitRate(),
+                "evictionCount", stats.evictionCount());
+    }
+}
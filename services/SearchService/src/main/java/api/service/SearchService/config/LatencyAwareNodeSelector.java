@@ -0,0 +1,157 @@
+package api.service.SearchService.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+import org.opensearch.client.Node;
+import org.opensearch.client.NodeSelector;
+import org.opensearch.client.RestClient;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드별 응답 시간을 기록하여 응답이 빠른 노드로 요청을 보내는 NodeSelector이다.
+ *
+ * 응답 시간은 지수 이동 평균(EWMA)으로 기록하며, 가장 빠른 노드의 slack-factor 배 이내인 노드만 남긴다.
+ * 아직 응답 시간이 기록되지 않았거나 마지막 기록이 오래된 노드는 다시 측정하기 위해 남긴다.
+ * 요청에 실패한 노드는 연속 실패 횟수에 따라 지수적으로 늘어나는 시간 동안 제외하고, 성공하면 다시 사용한다.
+ * 모든 노드가 제외 대상이면 아무 노드도 제외하지 않는다.
+ */
+@Slf4j
+public class LatencyAwareNodeSelector implements NodeSelector {
+
+    private static final String START_NANOS = LatencyAwareNodeSelector.class.getName() + ".start";
+    // 새 응답 시간의 가중치
+    private static final double ALPHA = 0.2;
+    // 응답 시간을 다시 측정하는 주기
+    private static final long PROBE_INTERVAL_NANOS = Duration.ofSeconds(10).toNanos();
+
+    private final double slackFactor;
+    private final long baseBackoffNanos;
+    private final long maxBackoffNanos;
+    private final Map<HttpHost, NodeStats> stats = new ConcurrentHashMap<>();
+
+    public LatencyAwareNodeSelector(double slackFactor, Duration baseBackoff, Duration maxBackoff) {
+        this.slackFactor = slackFactor;
+        this.baseBackoffNanos = baseBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+    }
+
+    @Override
+    public void select(Iterable<Node> nodes) {
+        long now = System.nanoTime();
+
+        // 제외 중이 아닌 노드 중 가장 빠른 응답 시간
+        double best = Double.MAX_VALUE;
+        int available = 0;
+        for (Node node : nodes) {
+            NodeStats nodeStats = stats.get(normalize(node.getHost()));
+            if (nodeStats == null) {
+                available++;
+                continue;
+            }
+            if (nodeStats.isBackedOff(now)) continue;
+            available++;
+            if (nodeStats.latencyNanos > 0) best = Math.min(best, nodeStats.latencyNanos);
+        }
+        if (available == 0) return;
+
+        double threshold = best * slackFactor;
+        for (Iterator<Node> iterator = nodes.iterator(); iterator.hasNext(); ) {
+            NodeStats nodeStats = stats.get(normalize(iterator.next().getHost()));
+            if (nodeStats == null) continue;
+            if (nodeStats.isBackedOff(now)
+                    || (nodeStats.latencyNanos > threshold && !nodeStats.needsProbe(now))) {
+                iterator.remove();
+            }
+        }
+    }
+
+    // 요청 전송 시각 기록
+    public HttpRequestInterceptor requestInterceptor() {
+        return (HttpRequest request, HttpContext context) -> context.setAttribute(START_NANOS, System.nanoTime());
+    }
+
+    // 응답 수신까지 걸린 시간 기록
+    public HttpResponseInterceptor responseInterceptor() {
+        return (HttpResponse response, HttpContext context) -> {
+            Object start = context.getAttribute(START_NANOS);
+            HttpHost host = HttpCoreContext.adapt(context).getTargetHost();
+            if (start instanceof Long startNanos && host != null) {
+                stats.computeIfAbsent(normalize(host), key -> new NodeStats())
+                        .recordLatency(System.nanoTime() - startNanos);
+            }
+        };
+    }
+
+    // 요청 실패 시 해당 노드를 일정 시간 제외, 다른 FailureListener(예: 스니퍼)에도 전달
+    public RestClient.FailureListener failureListener(RestClient.FailureListener delegate) {
+        return new RestClient.FailureListener() {
+            @Override
+            public void onFailure(Node node) {
+                NodeStats nodeStats = stats.computeIfAbsent(normalize(node.getHost()), key -> new NodeStats());
+                long backoff = nodeStats.recordFailure(System.nanoTime(), baseBackoffNanos, maxBackoffNanos);
+                log.warn("opensearch node failed: {}, back off {}ms", node.getHost(), backoff / 1_000_000);
+                if (delegate != null) delegate.onFailure(node);
+            }
+        };
+    }
+
+    // 노드별 응답 시간과 제외 상태
+    public Map<String, Object> stats() {
+        long now = System.nanoTime();
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (Map.Entry<HttpHost, NodeStats> entry : stats.entrySet()) {
+            NodeStats nodeStats = entry.getValue();
+            result.put(entry.getKey().toURI(), Map.of(
+                    "latencyMillis", nodeStats.latencyNanos / 1_000_000,
+                    "consecutiveFailures", nodeStats.consecutiveFailures,
+                    "backedOff", nodeStats.isBackedOff(now)));
+        }
+        return result;
+    }
+
+    // 요청 컨텍스트의 호스트와 Node의 호스트를 같은 키로 비교하기 위해 경로 등을 제외
+    private static HttpHost normalize(HttpHost host) {
+        return new HttpHost(host.getHostName(), host.getPort(), host.getSchemeName());
+    }
+
+    private static final class NodeStats {
+
+        private volatile double latencyNanos;
+        private volatile int consecutiveFailures;
+        private volatile long backoffUntilNanos;
+        private volatile long sampledAtNanos;
+
+        synchronized void recordLatency(long nanos) {
+            sampledAtNanos = System.nanoTime();
+            latencyNanos = latencyNanos == 0 ? nanos : latencyNanos * (1 - ALPHA) + nanos * ALPHA;
+            consecutiveFailures = 0;
+            backoffUntilNanos = 0;
+        }
+
+        synchronized long recordFailure(long now, long baseBackoffNanos, long maxBackoffNanos) {
+            int failures = ++consecutiveFailures;
+            long backoff = Math.min(maxBackoffNanos, baseBackoffNanos << Math.min(failures - 1, 20));
+            backoffUntilNanos = now + backoff;
+            return backoff;
+        }
+
+        boolean needsProbe(long now) {
+            return now - sampledAtNanos > PROBE_INTERVAL_NANOS;
+        }
+
+        boolean isBackedOff(long now) {
+            return consecutiveFailures > 0 && now - backoffUntilNanos < 0;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package api.service.SearchService.config;
+
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.nio.NHttpClientConnection;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.reactor.ConnectingIOReactor;
+import org.apache.http.pool.PoolStats;
+
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 연결 임대(lease) 횟수와 대기 시간을 기록하는 OpenSearch 클라이언트 연결 풀이다.
+ * 요청이 연결을 받기까지 기다린 시간을 측정하여 풀 크기가 부족한지 판단할 수 있게 한다.
+ */
+public class MeteredConnectionManager extends PoolingNHttpClientConnectionManager {
+
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder leaseFailures = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public MeteredConnectionManager(ConnectingIOReactor ioReactor, Registry<SchemeIOSessionStrategy> registry) {
+        super(ioReactor, registry);
+    }
+
+    @Override
+    public Future<NHttpClientConnection> requestConnection(
+            HttpRoute route,
+            Object state,
+            long connectTimeout,
+            long leaseTimeout,
+            TimeUnit timeUnit,
+            FutureCallback<NHttpClientConnection> callback) {
+        long start = System.nanoTime();
+        return super.requestConnection(route, state, connectTimeout, leaseTimeout, timeUnit,
+                new FutureCallback<>() {
+                    @Override
+                    public void completed(NHttpClientConnection connection) {
+                        long waited = System.nanoTime() - start;
+                        leases.increment();
+                        totalWaitNanos.add(waited);
+                        maxWaitNanos.accumulate(waited);
+                        if (callback != null) callback.completed(connection);
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        leaseFailures.increment();
+                        if (callback != null) callback.failed(e);
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        if (callback != null) callback.cancelled();
+                    }
+                });
+    }
+
+    // 연결 풀 상태와 임대 대기 시간 통계
+    public Map<String, Object> stats() {
+        PoolStats pool = getTotalStats();
+        long count = leases.sum();
+        return Map.of(
+                "leased", pool.getLeased(),
+                "pending", pool.getPending(),
+                "available", pool.getAvailable(),
+                "max", pool.getMax(),
+                "leaseCount", count,
+                "leaseFailureCount", leaseFailures.sum(),
+                "avgLeaseWaitMillis", count == 0 ? 0.0 : totalWaitNanos.sum() / (double) count / 1_000_000,
+                "maxLeaseWaitMillis", maxWaitNanos.get() / 1_000_000.0);
+    }
+}
@@ -4,14 +4,29 @@ import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.conn.ssl.TrustStrategy;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.apache.http.ssl.SSLContextBuilder;
+import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestClient;
 import org.opensearch.client.RestClientBuilder;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.sniff.OpenSearchNodesSniffer;
+import org.opensearch.client.sniff.SniffOnFailureListener;
+import org.opensearch.client.sniff.Sniffer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,6 +35,8 @@ import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class OpenSearchConfig {
@@ -28,19 +45,67 @@ public class OpenSearchConfig {
     private String host;
     @Value("${opensearch.port}")
     private int port;
+    // 여러 노드를 사용하는 경우 host:port 목록 (쉼표로 구분), 없으면 opensearch.host, opensearch.port 사용
+    @Value("${opensearch.hosts:}")
+    private List<String> hosts;
     @Value("${opensearch.scheme}")
     private String scheme;
     @Value("${opensearch.username}")
     private String username;
     @Value("${opensearch.password}")
     private String password;
+
+    // 연결 풀, I/O 스레드, 타임아웃, keep-alive, 압축 설정
+    @Value("${opensearch.client.max-conn-total:100}")
+    private int maxConnTotal;
+    @Value("${opensearch.client.max-conn-per-route:50}")
+    private int maxConnPerRoute;
+    @Value("${opensearch.client.io-thread-count:0}")
+    private int ioThreadCount;
+    @Value("${opensearch.client.connect-timeout:1s}")
+    private Duration connectTimeout;
+    @Value("${opensearch.client.socket-timeout:10s}")
+    private Duration socketTimeout;
+    @Value("${opensearch.client.connection-request-timeout:1s}")
+    private Duration connectionRequestTimeout;
+    @Value("${opensearch.client.keep-alive:60s}")
+    private Duration keepAlive;
+    @Value("${opensearch.client.compression:true}")
+    private boolean compression;
+
+    // 노드 선택, 스니핑 설정
+    @Value("${opensearch.node-selector.slack-factor:2.0}")
+    private double slackFactor;
+    @Value("${opensearch.node-selector.base-backoff:1s}")
+    private Duration baseBackoff;
+    @Value("${opensearch.node-selector.max-backoff:60s}")
+    private Duration maxBackoff;
+    @Value("${opensearch.sniff.enabled:false}")
+    private boolean sniffEnabled;
+    @Value("${opensearch.sniff.interval:5m}")
+    private Duration sniffInterval;
+    @Value("${opensearch.sniff.after-failure-delay:1m}")
+    private Duration sniffAfterFailureDelay;
+
     private final CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
 
+    /**
+     * 모든 OpenSearch 요청에 공통으로 사용하는 RequestOptions이다.
+     * 요청마다 헤더를 추가해 새로 만들지 않도록 한 번만 생성한다.
+     */
     @Bean
-    public RestHighLevelClient restHighLevelClient() {
-        credentialsProvider.setCredentials(AuthScope.ANY,
-                new UsernamePasswordCredentials(username, password));
+    public RequestOptions requestOptions() {
+        return RequestOptions.DEFAULT.toBuilder()
+                .addHeader("Content-Type", ContentType.APPLICATION_JSON.getMimeType())
+                .build();
+    }
 
+    /**
+     * 임대 대기 시간을 기록하는 OpenSearch 클라이언트 연결 풀이다.
+     * io-thread-count가 0 이하이면 사용 가능한 프로세서 수만큼 I/O 스레드를 사용한다.
+     */
+    @Bean
+    public MeteredConnectionManager openSearchConnectionManager() {
         try {
             // 모든 인증서를 신뢰하도록 설정 - 임시
             TrustStrategy trustStrategy = (X509Certificate[] chain, String authType) -> true;
@@ -48,22 +113,110 @@ public class OpenSearchConfig {
                     .loadTrustMaterial(null, trustStrategy)
                     .build();
 
-            RestClientBuilder restClientBuilder = RestClient.builder(new HttpHost(host, port, scheme))
-                    .setHttpClientConfigCallback(new RestClientBuilder.HttpClientConfigCallback() {
-                        @Override
-                        public HttpAsyncClientBuilder customizeHttpClient(HttpAsyncClientBuilder httpAsyncClientBuilder) {
-                            return httpAsyncClientBuilder
-                                    .setSSLContext(sslContext)  // 임시 설정
-                                    .setDefaultCredentialsProvider(credentialsProvider);
-                        }
-                    });
-            return new RestHighLevelClient(restClientBuilder);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException(e);
-        } catch (KeyStoreException e) {
-            throw new RuntimeException(e);
-        } catch (KeyManagementException e) {
+            IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                    .setIoThreadCount(ioThreadCount > 0 ? ioThreadCount : Runtime.getRuntime().availableProcessors())
+                    .setConnectTimeout((int) connectTimeout.toMillis())
+                    .setSoTimeout((int) socketTimeout.toMillis())
+                    .setSoKeepAlive(true)
+                    .setTcpNoDelay(true)
+                    .build();
+
+            MeteredConnectionManager connectionManager = new MeteredConnectionManager(
+                    new DefaultConnectingIOReactor(ioReactorConfig),
+                    RegistryBuilder.<SchemeIOSessionStrategy>create()
+                            .register("http", NoopIOSessionStrategy.INSTANCE)
+                            .register("https", new SSLIOSessionStrategy(sslContext,  // 임시 설정
+                                    SSLIOSessionStrategy.getDefaultHostnameVerifier()))
+                            .build());
+            connectionManager.setMaxTotal(maxConnTotal);
+            connectionManager.setDefaultMaxPerRoute(maxConnPerRoute);
+            return connectionManager;
+        } catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException | IOReactorException e) {
             throw new RuntimeException(e);
         }
     }
+
+    @Bean
+    public LatencyAwareNodeSelector latencyAwareNodeSelector() {
+        return new LatencyAwareNodeSelector(slackFactor, baseBackoff, maxBackoff);
+    }
+
+    // 스니핑을 사용하는 경우 노드 실패 시 즉시 스니핑하도록 연결
+    @Bean
+    public SniffOnFailureListener sniffOnFailureListener() {
+        return new SniffOnFailureListener();
+    }
+
+    /**
+     * 클러스터의 노드 목록을 주기적으로 조회하여 클라이언트의 노드 목록을 갱신하는 Sniffer이다.
+     * opensearch.sniff.enabled가 false이면 설정한 호스트만 사용한다.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "opensearch.sniff.enabled", havingValue = "true")
+    public Sniffer sniffer(RestHighLevelClient restHighLevelClient, SniffOnFailureListener sniffOnFailureListener) {
+        RestClient restClient = restHighLevelClient.getLowLevelClient();
+        Sniffer sniffer = Sniffer.builder(restClient)
+                .setSniffIntervalMillis((int) sniffInterval.toMillis())
+                .setSniffAfterFailureDelayMillis((int) sniffAfterFailureDelay.toMillis())
+                .setNodesSniffer(new OpenSearchNodesSniffer(restClient,
+                        OpenSearchNodesSniffer.DEFAULT_SNIFF_REQUEST_TIMEOUT,
+                        "https".equals(scheme) ? OpenSearchNodesSniffer.Scheme.HTTPS : OpenSearchNodesSniffer.Scheme.HTTP))
+                .build();
+        sniffOnFailureListener.setSniffer(sniffer);
+        return sniffer;
+    }
+
+    @Bean
+    public RestHighLevelClient restHighLevelClient(
+            MeteredConnectionManager openSearchConnectionManager,
+            LatencyAwareNodeSelector latencyAwareNodeSelector,
+            SniffOnFailureListener sniffOnFailureListener) {
+        credentialsProvider.setCredentials(AuthScope.ANY,
+                new UsernamePasswordCredentials(username, password));
+
+        // 서버가 알려준 keep-alive 시간을 사용하되, 설정 값보다 길게 유지하지 않는다.
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive.toMillis()) : keepAlive.toMillis();
+        };
+
+        RestClientBuilder restClientBuilder = RestClient.builder(httpHosts())
+                .setNodeSelector(latencyAwareNodeSelector)
+                .setFailureListener(latencyAwareNodeSelector.failureListener(sniffEnabled ? sniffOnFailureListener : null))
+                .setCompressionEnabled(compression)
+                .setRequestConfigCallback(requestConfigBuilder -> requestConfigBuilder
+                        .setConnectTimeout((int) connectTimeout.toMillis())
+                        .setSocketTimeout((int) socketTimeout.toMillis())
+                        .setConnectionRequestTimeout((int) connectionRequestTimeout.toMillis()))
+                .setHttpClientConfigCallback(new RestClientBuilder.HttpClientConfigCallback() {
+                    @Override
+                    public HttpAsyncClientBuilder customizeHttpClient(HttpAsyncClientBuilder httpAsyncClientBuilder) {
+                        return httpAsyncClientBuilder
+                                .setConnectionManager(openSearchConnectionManager)
+                                .setConnectionManagerShared(false)
+                                .setKeepAliveStrategy(keepAliveStrategy)
+                                .addInterceptorLast(latencyAwareNodeSelector.requestInterceptor())
+                                .addInterceptorLast(latencyAwareNodeSelector.responseInterceptor())
+                                .setDefaultCredentialsProvider(credentialsProvider);
+                    }
+                });
+        return new RestHighLevelClient(restClientBuilder);
+    }
+
+    // 설정한 OpenSearch 노드 목록
+    private HttpHost[] httpHosts() {
+        if (hosts == null || hosts.isEmpty()) {
+            return new HttpHost[]{new HttpHost(host, port, scheme)};
+        }
+        return hosts.stream()
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(value -> {
+                    int separator = value.lastIndexOf(':');
+                    return separator < 0
+                            ? new HttpHost(value, port, scheme)
+                            : new HttpHost(value.substring(0, separator), Integer.parseInt(value.substring(separator + 1)), scheme);
+                })
+                .toArray(HttpHost[]::new);
+    }
 }
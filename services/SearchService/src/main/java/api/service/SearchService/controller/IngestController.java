@@ -0,0 +1,171 @@
+package api.service.SearchService.controller;
+
+import api.service.SearchService.dto.IngestResponseDto;
+import api.service.SearchService.dto.IngestResult;
+import api.service.SearchService.dto.SnapshotResponseDto;
+import api.service.SearchService.dto.SnapshotResult;
+import api.service.SearchService.ingest.IngestTargetResolver;
+import api.service.SearchService.service.BulkIngestService;
+import api.service.SearchService.service.ReindexService;
+import api.service.SearchService.service.SnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class IngestController {
+
+    private final IngestTargetResolver ingestTargetResolver;
+    private final BulkIngestService bulkIngestService;
+    private final ReindexService reindexService;
+    private final SnapshotService snapshotService;
+
+    /**
+     * 수집된 채용 공고 파일을 검색 인덱스에 저장하는 관리자 API이다.
+     *
+     * @param location 파일 또는 디렉터리 위치 (ingest.local-root 안의 로컬 경로 또는 s3://버킷/접두사)
+     * @param index 저장할 인덱스 이름(검색 alias 또는 alias가 관리하는 인덱스), 생략하면 검색 alias
+     * @return ResponseEntity<IngestResponseDto> 저장 결과
+     */
+    @PostMapping("/admin/job/ingest")
+    public ResponseEntity<IngestResponseDto> ingest(
+            @RequestParam(value = "location") String location,
+            @RequestParam(value = "index", required = false) String index)
+    {
+        log.info("Ingest job postings: {}", location);
+
+        try {
+            IngestResult ingestResult = bulkIngestService.ingest(
+                    ingestTargetResolver.location(location), ingestTargetResolver.index(index));
+            return new ResponseEntity<>(IngestResponseDto.builder()
+                    .statusCode(200)
+                    .message("success to ingest job postings")
+                    .result(ingestResult)
+                    .build(), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            log.info("Invalid ingest request: {}", e.getMessage());
+            return new ResponseEntity<>(IngestResponseDto.builder()
+                    .statusCode(400)
+                    .message("invalid ingest request")
+                    .build(), HttpStatus.BAD_REQUEST);
+        } catch (IOException e) {
+            log.error("Failed to ingest job postings", e);
+            return new ResponseEntity<>(IngestResponseDto.builder()
+                    .statusCode(500)
+                    .message("failed to ingest job postings")
+                    .build(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 수집된 채용 공고 파일을 새 인덱스에 적재하고 검색 alias를 새 인덱스로 옮기는 관리자 API이다.
+     * 적재는 백그라운드에서 진행하고, 결과는 로그로 남긴다.
+     *
+     * @param location 파일 또는 디렉터리 위치 (ingest.local-root 안의 로컬 경로 또는 s3://버킷/접두사)
+     * @return ResponseEntity<IngestResponseDto> 재적재 시작 여부
+     */
+    @PostMapping("/admin/job/reindex")
+    public ResponseEntity<IngestResponseDto> reindex(@RequestParam(value = "location") String location) {
+        log.info("Reindex job postings: {}", location);
+
+        try {
+            reindexService.reindexAsync(ingestTargetResolver.location(location)).exceptionally(e -> {
+                log.error("Failed to reindex job postings", e);
+                return null;
+            });
+            return new ResponseEntity<>(IngestResponseDto.builder()
+                    .statusCode(202)
+                    .message("reindex started")
+                    .build(), HttpStatus.ACCEPTED);
+        } catch (IllegalArgumentException e) {
+            log.info("Invalid reindex request: {}", e.getMessage());
+            return new ResponseEntity<>(IngestResponseDto.builder()
+                    .statusCode(400)
+                    .message("invalid reindex request")
+                    .build(), HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            log.warn("Reindex rejected: {}", e.getMessage());
+            return new ResponseEntity<>(IngestResponseDto.builder()
+                    .statusCode(409)
+                    .message(e.getMessage())
+                    .build(), HttpStatus.CONFLICT);
+        } catch (IOException e) {
+            log.error("Failed to reindex job postings", e);
+            return new ResponseEntity<>(IngestResponseDto.builder()
+                    .statusCode(500)
+                    .message("failed to reindex job postings")
+                    .build(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 수집된 채용 공고 파일을 내장 검색 엔진용 컬럼 스냅샷 파일로 변환하는 관리자 API이다.
+     * 스냅샷은 항상 내장 검색 엔진이 사용하는 스냅샷 경로(search.embedded.snapshot)에 저장한다.
+     *
+     * @param location 파일 또는 디렉터리 위치 (ingest.local-root 안의 로컬 경로 또는 s3://버킷/접두사)
+     * @return ResponseEntity<SnapshotResponseDto> 저장 결과와 검사 결과
+     */
+    @PostMapping("/admin/job/snapshot")
+    public ResponseEntity<SnapshotResponseDto> writeSnapshot(
+            @RequestParam(value = "location") String location)
+    {
+        log.info("Write posting snapshot: {}", location);
+
+        try {
+            SnapshotResult snapshotResult = snapshotService.write(ingestTargetResolver.location(location));
+            return new ResponseEntity<>(SnapshotResponseDto.builder()
+                    .statusCode(200)
+                    .message("success to write posting snapshot")
+                    .result(snapshotResult)
+                    .build(), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            log.info("Invalid snapshot request: {}", e.getMessage());
+            return new ResponseEntity<>(SnapshotResponseDto.builder()
+                    .statusCode(400)
+                    .message("invalid snapshot request")
+                    .build(), HttpStatus.BAD_REQUEST);
+        } catch (IOException e) {
+            log.error("Failed to write posting snapshot", e);
+            return new ResponseEntity<>(SnapshotResponseDto.builder()
+                    .statusCode(500)
+                    .message("failed to write posting snapshot")
+                    .build(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 컬럼 스냅샷 파일을 검사하는 관리자 API이다.
+     *
+     * @param path 스냅샷 디렉터리 안의 스냅샷 파일 경로, 생략하면 내장 검색 엔진이 사용하는 스냅샷 경로
+     * @return ResponseEntity<SnapshotResponseDto> 검사 결과
+     */
+    @GetMapping("/admin/job/snapshot/validate")
+    public ResponseEntity<SnapshotResponseDto> validateSnapshot(
+            @RequestParam(value = "path", required = false) String path)
+    {
+        try {
+            SnapshotResult snapshotResult = snapshotService.validate(path);
+            boolean valid = snapshotResult.getProblems().isEmpty();
+            return new ResponseEntity<>(SnapshotResponseDto.builder()
+                    .statusCode(200)
+                    .message(valid ? "valid posting snapshot" : "invalid posting snapshot")
+                    .result(snapshotResult)
+                    .build(), HttpStatus.OK);
+        } catch (IllegalArgumentException | IOException e) {
+            log.info("Failed to validate posting snapshot: {}", e.getMessage());
+            return new ResponseEntity<>(SnapshotResponseDto.builder()
+                    .statusCode(400)
+                    .message("failed to validate posting snapshot")
+                    .build(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -1,18 +1,32 @@
 package api.service.SearchService.controller;
 
+import api.service.SearchService.cache.SearchResultCache;
+import api.service.SearchService.config.LatencyAwareNodeSelector;
+import api.service.SearchService.config.MeteredConnectionManager;
+import api.service.SearchService.dto.FacetResponseDto;
+import api.service.SearchService.dto.FacetResult;
+import api.service.SearchService.dto.JobPostingResponseDto;
 import api.service.SearchService.dto.SearchResponseDto;
 import api.service.SearchService.dto.SearchResult;
+import api.service.SearchService.dto.SuggestResponseDto;
+import api.service.SearchService.dto.SuggestResult;
+import api.service.SearchService.query.Projection;
+import api.service.SearchService.service.FacetService;
 import api.service.SearchService.service.SearchService;
+import api.service.SearchService.service.SuggestService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -20,6 +34,11 @@ import java.util.Objects;
 public class SearchController {
 
     private final SearchService searchService;
+    private final FacetService facetService;
+    private final SuggestService suggestService;
+    private final SearchResultCache searchResultCache;
+    private final MeteredConnectionManager openSearchConnectionManager;
+    private final LatencyAwareNodeSelector latencyAwareNodeSelector;
 
     /**
      * 채용 공고를 검색하는 API이다.
@@ -28,35 +47,172 @@ public class SearchController {
      * @param skills 채용공고에서 요구하는 기술 목록
      * @param experienceTypes 채용공고에서 요구하는 경력 유형 목록(신입, 경력, 무관)
      * @param sortByDeadline 마감일 순으로 정렬하는 방법 (-1: 내림차순, 0: 상시채용, 1: 오름차순)
-     * @param searchAfter 검색 이후의 결과를 가져오기 위한 값
+     * @param cursor 이전 검색 결과의 다음 페이지 커서, 첫 페이지면 생략
+     * @param size 페이지 크기
+     * @param view 가져올 필드 범위 (listing: 목록 표시 필드, full: 전체), 기본값은 listing
      * @return ResponseEntity<SearchResponseDto> 검색 결과
      */
     @GetMapping("/job/search")
-    public ResponseEntity<SearchResponseDto> searchRecruitment(
+    public CompletableFuture<ResponseEntity<SearchResponseDto>> searchRecruitment(
             @RequestParam(value = "title", required = false) String title,
             @RequestParam(value = "skills", required = false) List<String> skills,
             @RequestParam(value = "experienceTypes", required = false) List<String> experienceTypes,
             @RequestParam(value = "sortByDeadline", required = false) Integer sortByDeadline,
-            @RequestParam(value = "searchAfter", required = false) Object[] searchAfter)
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "view", required = false) String view)
     {
         log.info("Search recruitment");
 
+        CompletableFuture<SearchResult> search;
         try {
-            SearchResult searchResult = searchService.searchJob(title, skills, experienceTypes, sortByDeadline, searchAfter);
-            log.info("Search job postings: {}", searchResult);
-
-            return new ResponseEntity<>(SearchResponseDto.builder()
-                    .statusCode(200)
-                    .message("success to search job postings")
-                    .jobPostings(searchResult.getJobPostings())
-                    .searchAfter(searchResult.getSearchAfter())
-                    .build(), HttpStatus.OK);
-        } catch (Exception e) {
-            log.error("Failed to search job postings", e);
-            return new ResponseEntity<>(SearchResponseDto.builder()
+            search = searchService.searchJob(title, skills, experienceTypes, sortByDeadline, cursor, size, Projection.from(view));
+        } catch (IllegalArgumentException e) {
+            log.info("Invalid search request: {}", e.getMessage());
+            return CompletableFuture.completedFuture(new ResponseEntity<>(SearchResponseDto.builder()
                     .statusCode(400)
-                    .message("failed to search job postings")
-                    .build(), HttpStatus.BAD_REQUEST);
+                    .message("invalid search request")
+                    .build(), HttpStatus.BAD_REQUEST));
         }
+
+        return search
+                .thenApply(searchResult -> {
+                    log.info("Search job postings: {}", searchResult);
+
+                    return new ResponseEntity<>(SearchResponseDto.builder()
+                            .statusCode(200)
+                            .message("success to search job postings")
+                            .jobPostings(searchResult.getJobPostings())
+                            .cursor(searchResult.getCursor())
+                            .build(), HttpStatus.OK);
+                })
+                .exceptionally(e -> {
+                    log.error("Failed to search job postings", e);
+                    return new ResponseEntity<>(SearchResponseDto.builder()
+                            .statusCode(400)
+                            .message("failed to search job postings")
+                            .build(), HttpStatus.BAD_REQUEST);
+                });
+    }
+
+    /**
+     * 채용 공고 하나의 전체 정보를 조회하는 API이다.
+     *
+     * @param id 채용 공고 문서 ID
+     * @return ResponseEntity<JobPostingResponseDto> 채용 공고 상세 정보
+     */
+    @GetMapping("/job/posting/{id}")
+    public CompletableFuture<ResponseEntity<JobPostingResponseDto>> getJobPosting(@PathVariable("id") String id) {
+        log.info("Get job posting: {}", id);
+
+        return searchService.getJob(id)
+                .thenApply(jobPosting -> {
+                    if (jobPosting == null) {
+                        return new ResponseEntity<>(JobPostingResponseDto.builder()
+                                .statusCode(404)
+                                .message("job posting not found")
+                                .build(), HttpStatus.NOT_FOUND);
+                    }
+                    return new ResponseEntity<>(JobPostingResponseDto.builder()
+                            .statusCode(200)
+                            .message("success to get job posting")
+                            .jobPosting(jobPosting)
+                            .build(), HttpStatus.OK);
+                })
+                .exceptionally(e -> {
+                    log.error("Failed to get job posting", e);
+                    return new ResponseEntity<>(JobPostingResponseDto.builder()
+                            .statusCode(400)
+                            .message("failed to get job posting")
+                            .build(), HttpStatus.BAD_REQUEST);
+                });
+    }
+
+    /**
+     * 검색 조건에 해당하는 채용 공고의 기술별, 경력 유형별 개수를 조회하는 API이다.
+     *
+     * @param title 채용공고 제목
+     * @param skills 채용공고에서 요구하는 기술 목록
+     * @param experienceTypes 채용공고에서 요구하는 경력 유형 목록(신입, 경력, 무관)
+     * @param sortByDeadline 마감일 정렬 방법 (-1: 마감일이 있는 공고, 0: 상시채용, 1 또는 생략: 전체)
+     * @return ResponseEntity<FacetResponseDto> 기술별, 경력 유형별 채용 공고 개수
+     */
+    @GetMapping("/job/facets")
+    public CompletableFuture<ResponseEntity<FacetResponseDto>> countFacets(
+            @RequestParam(value = "title", required = false) String title,
+            @RequestParam(value = "skills", required = false) List<String> skills,
+            @RequestParam(value = "experienceTypes", required = false) List<String> experienceTypes,
+            @RequestParam(value = "sortByDeadline", required = false) Integer sortByDeadline)
+    {
+        CompletableFuture<FacetResult> facets;
+        try {
+            facets = facetService.countFacets(title, skills, experienceTypes, sortByDeadline);
+        } catch (IllegalArgumentException e) {
+            log.info("Invalid facet request: {}", e.getMessage());
+            return CompletableFuture.completedFuture(new ResponseEntity<>(FacetResponseDto.builder()
+                    .statusCode(400)
+                    .message("invalid facet request")
+                    .build(), HttpStatus.BAD_REQUEST));
+        }
+
+        return facets
+                .thenApply(facetResult -> new ResponseEntity<>(FacetResponseDto.builder()
+                        .statusCode(200)
+                        .message("success to count facets")
+                        .skills(facetResult.getSkills())
+                        .experienceTypes(facetResult.getExperienceTypes())
+                        .build(), HttpStatus.OK))
+                .exceptionally(e -> {
+                    log.error("Failed to count facets", e);
+                    return new ResponseEntity<>(FacetResponseDto.builder()
+                            .statusCode(400)
+                            .message("failed to count facets")
+                            .build(), HttpStatus.BAD_REQUEST);
+                });
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 채용공고 제목, 회사명, 기술을 조회하는 자동 완성 API이다.
+     *
+     * @param prefix 입력 중인 검색어
+     * @param size 종류별 최대 결과 수
+     * @return ResponseEntity<SuggestResponseDto> 자동 완성 결과
+     */
+    @GetMapping("/job/suggest")
+    public ResponseEntity<SuggestResponseDto> suggest(
+            @RequestParam(value = "prefix") String prefix,
+            @RequestParam(value = "size", required = false) Integer size)
+    {
+        SuggestResult suggestResult = suggestService.suggest(prefix, size);
+
+        return new ResponseEntity<>(SuggestResponseDto.builder()
+                .statusCode(200)
+                .message("success to suggest")
+                .titles(suggestResult.getTitles())
+                .companies(suggestResult.getCompanies())
+                .skills(suggestResult.getSkills())
+                .build(), HttpStatus.OK);
+    }
+
+    /**
+     * 검색 결과 캐시의 크기와 적중률을 조회하는 API이다.
+     *
+     * @return ResponseEntity<Map<String, Object>> 캐시 통계
+     */
+    @GetMapping("/admin/job/search/cache-stats")
+    public ResponseEntity<Map<String, Object>> searchCacheStats() {
+        return ResponseEntity.ok(searchResultCache.stats());
+    }
+
+    /**
+     * OpenSearch 클라이언트 연결 풀 상태, 연결 대기 시간과 노드별 응답 시간을 조회하는 API이다.
+     *
+     * @return ResponseEntity<Map<String, Object>> 연결 풀 통계
+     */
+    @GetMapping("/admin/job/search/client-stats")
+    public ResponseEntity<Map<String, Object>> searchClientStats() {
+        return ResponseEntity.ok(Map.of(
+                "pool", openSearchConnectionManager.stats(),
+                "nodes", latencyAwareNodeSelector.stats()));
     }
 }
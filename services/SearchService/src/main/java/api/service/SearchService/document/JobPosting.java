@@ -1,12 +1,15 @@
 package api.service.SearchService.document;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.util.List;
 
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JobPosting {
 
+    private String id;
     private String url;
     private String title;
     private String company;
@@ -0,0 +1,17 @@
+package api.service.SearchService.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetResponseDto {
+
+    private int statusCode;
+    private String message;
+    private Map<String, Long> skills;
+    private Map<String, Long> experienceTypes;
+}
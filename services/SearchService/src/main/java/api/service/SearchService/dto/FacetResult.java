@@ -0,0 +1,18 @@
+package api.service.SearchService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetResult {
+
+    private Map<String, Long> skills;
+    private Map<String, Long> experienceTypes;
+}
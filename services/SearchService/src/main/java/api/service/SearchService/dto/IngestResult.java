@@ -0,0 +1,23 @@
+package api.service.SearchService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestResult {
+
+    private String index;
+    private int files;
+    private long read;
+    private long skipped;
+    private long indexed;
+    private long failed;
+    private long retried;
+    private long bulkRequests;
+    private long elapsedMillis;
+}
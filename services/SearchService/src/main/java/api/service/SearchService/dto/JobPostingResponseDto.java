@@ -0,0 +1,15 @@
+package api.service.SearchService.dto;
+
+import api.service.SearchService.document.JobPosting;
+import lombok.*;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPostingResponseDto {
+
+    private int statusCode;
+    private String message;
+    private JobPosting jobPosting;
+}
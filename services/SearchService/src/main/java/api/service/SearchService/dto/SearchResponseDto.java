@@ -14,5 +14,5 @@ public class SearchResponseDto {
     private int statusCode;
     private String message;
     private List<JobPosting> jobPostings;
-    private Object[] searchAfter;
+    private String cursor;
 }
@@ -15,5 +15,5 @@ import java.util.List;
 public class SearchResult {
 
     private List<JobPosting> jobPostings;
-    private Object[] searchAfter;
+    private String cursor;
 }
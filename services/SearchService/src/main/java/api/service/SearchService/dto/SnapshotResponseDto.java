@@ -0,0 +1,14 @@
+package api.service.SearchService.dto;
+
+import lombok.*;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotResponseDto {
+
+    private int statusCode;
+    private String message;
+    private SnapshotResult result;
+}
@@ -0,0 +1,21 @@
+package api.service.SearchService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotResult {
+
+    private String path;
+    private int postings;
+    private long bytes;
+    private List<String> problems;
+    private long elapsedMillis;
+}
@@ -0,0 +1,18 @@
+package api.service.SearchService.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestResponseDto {
+
+    private int statusCode;
+    private String message;
+    private List<String> titles;
+    private List<String> companies;
+    private List<String> skills;
+}
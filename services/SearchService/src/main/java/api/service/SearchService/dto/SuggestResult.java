@@ -0,0 +1,19 @@
+package api.service.SearchService.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestResult {
+
+    private List<String> titles;
+    private List<String> companies;
+    private List<String> skills;
+}
@@ -0,0 +1,232 @@
+package api.service.SearchService.engine;
+
+import api.service.SearchService.cache.SearchIndexChangedEvent;
+import api.service.SearchService.document.JobPosting;
+import api.service.SearchService.dto.SearchResult;
+import api.service.SearchService.ingest.PostingReader;
+import api.service.SearchService.query.PageCursor;
+import api.service.SearchService.query.SearchQuery;
+import api.service.SearchService.snapshot.PostingSnapshot;
+import api.service.SearchService.snapshot.PostingSnapshotValidator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * OpenSearch 없이 프로세스 안에서 채용 공고 검색을 처리하는 검색 엔진이다.
+ *
+ * search.embedded.snapshot 위치의 채용 공고 파일(수집 결과 또는 재적재에 사용한 파일)을 읽어
+ * {@link PostingIndex}를 만들고, 새 인덱스가 완성되면 통째로 교체한다.
+ * 위치가 컬럼 스냅샷 파일이면 공고를 힙에 올리지 않고 메모리 맵으로 읽는다.
+ * 다음 페이지 커서의 PIT ID 자리에는 "embedded"를 넣어 OpenSearch 커서와 구분한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmbeddedSearchEngine {
+
+    public static final String CURSOR_PIT_ID = "embedded";
+
+    @Value("${search.embedded.mode:off}")
+    private String modeName;
+    @Value("${search.embedded.snapshot:}")
+    private String snapshot;
+    // 컬럼 스냅샷을 열기 전에 전체 내용을 검사할지 여부
+    @Value("${search.embedded.validate:true}")
+    private boolean validate;
+    private final PostingReader postingReader;
+
+    // 조회 중에는 교체만 일어나므로 volatile 참조로 충분하다.
+    private volatile PostingIndex index;
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    // 마지막으로 불러온 로컬 스냅샷의 수정 시각과 크기, 같으면 다시 읽지 않는다.
+    private volatile Fingerprint loaded;
+    private EngineMode mode;
+
+    // 검색 요청마다 파싱하지 않도록 시작할 때 한 번 변환하고, 잘못된 값이면 시작하지 않는다.
+    @PostConstruct
+    public void init() {
+        try {
+            mode = EngineMode.valueOf(modeName.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("invalid search.embedded.mode: " + modeName, e);
+        }
+    }
+
+    public EngineMode mode() {
+        return mode;
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * 커서가 내장 검색 엔진이 만든 커서인지 확인하는 메서드이다.
+     *
+     * @param cursor 다음 페이지 커서
+     * @return 내장 검색 엔진 커서이면 true
+     */
+    public boolean owns(PageCursor cursor) {
+        return CURSOR_PIT_ID.equals(cursor.pitId());
+    }
+
+    /**
+     * 메모리 인덱스에서 채용 공고를 검색하는 메서드이다.
+     *
+     * @param query 정규화된 검색 조건
+     * @param cursor 이전 검색 결과의 커서, 첫 페이지면 null
+     * @return SearchResult 검색 결과
+     * @throws IllegalStateException 인덱스를 아직 불러오지 않은 경우
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public SearchResult search(SearchQuery query, PageCursor cursor) {
+        PostingIndex current = requireIndex();
+        PostingIndex.Page page = current.search(query, cursor == null ? null : cursor.searchAfter());
+        String nextCursor = page.postings().size() == query.size() && page.sortValues() != null
+                ? new PageCursor(CURSOR_PIT_ID, page.sortValues()).encode()
+                : null;
+        return SearchResult.builder()
+                .jobPostings(page.postings())
+                .cursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 메모리 인덱스에서 채용 공고 하나를 조회하는 메서드이다.
+     *
+     * @param id 채용 공고 ID
+     * @return JobPosting, 없으면 null
+     * @throws IllegalStateException 인덱스를 아직 불러오지 않은 경우
+     */
+    public JobPosting get(String id) {
+        return requireIndex().get(id);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Async
+    @EventListener
+    public void onIndexChanged(SearchIndexChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${search.embedded.refresh-interval:PT10M}",
+            initialDelayString = "${search.embedded.refresh-interval:PT10M}")
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * 스냅샷 파일을 읽어 인덱스를 새로 만들고 교체하는 메서드이다.
+     * 사용하지 않도록 설정했거나 스냅샷 위치가 없으면 아무것도 하지 않는다.
+     * 새 인덱스가 완성될 때까지는 이전 인덱스로 응답하며, 이미 불러오는 중이면 아무것도 하지 않는다.
+     * 로컬 스냅샷의 수정 시각과 크기가 마지막으로 불러온 때와 같으면 다시 읽지 않는다.
+     */
+    public void reload() {
+        if (mode == EngineMode.OFF || snapshot.isBlank()) return;
+        if (!reloading.compareAndSet(false, true)) return;
+        try {
+            Fingerprint current = fingerprint();
+            if (current != null && current.equals(loaded)) {
+                log.debug("embedded search snapshot {} is unchanged, skip reload", snapshot);
+                return;
+            }
+            long start = System.nanoTime();
+            PostingIndex built = load();
+            index = built;
+            loaded = current;
+            log.info("load embedded search index from {}: postings={}, {}ms",
+                    snapshot, built.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to load embedded search index", e);
+        } finally {
+            reloading.set(false);
+        }
+    }
+
+    private PostingIndex load() throws IOException {
+        Path path = Path.of(snapshot);
+        if (PostingSnapshot.isSnapshot(path)) {
+            if (validate) {
+                List<String> problems = PostingSnapshotValidator.validate(path);
+                if (!problems.isEmpty()) {
+                    throw new IllegalStateException("invalid snapshot " + path + ": " + problems);
+                }
+            }
+            return PostingIndex.of(PostingSnapshot.open(path));
+        }
+
+        List<JobPosting> postings = new ArrayList<>();
+        for (String file : postingReader.list(snapshot)) {
+            postingReader.read(file, posting -> {
+                if (posting != null) postings.add(posting);
+            });
+        }
+        return PostingIndex.of(postings);
+    }
+
+    // 로컬 파일이면 그 파일, 디렉터리면 안의 모든 파일의 최신 수정 시각과 크기 합계, S3 위치 등 로컬이 아니면 null
+    private Fingerprint fingerprint() throws IOException {
+        Path path;
+        try {
+            path = Path.of(snapshot);
+        } catch (InvalidPathException e) {
+            return null;
+        }
+        if (!Files.exists(path)) return null;
+        try (Stream<Path> files = Files.walk(path)) {
+            return files.map(EmbeddedSearchEngine::attributes)
+                    .filter(BasicFileAttributes::isRegularFile)
+                    .map(attributes -> new Fingerprint(attributes.lastModifiedTime().toMillis(), attributes.size(), 1))
+                    .reduce(new Fingerprint(0, 0, 0), Fingerprint::merge);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static BasicFileAttributes attributes(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Fingerprint(long lastModified, long size, int files) {
+
+        Fingerprint merge(Fingerprint other) {
+            return new Fingerprint(Math.max(lastModified, other.lastModified), size + other.size, files + other.files);
+        }
+    }
+
+    private PostingIndex requireIndex() {
+        PostingIndex current = index;
+        if (current == null) {
+            throw new IllegalStateException("embedded search index is not loaded");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,11 @@
+package api.service.SearchService.engine;
+
+/**
+ * 내장 검색 엔진 사용 방법이다.
+ * OFF는 사용하지 않고, FALLBACK은 OpenSearch 요청이 실패하거나 느릴 때만, PRIMARY는 모든 검색에 사용한다.
+ */
+public enum EngineMode {
+    OFF,
+    FALLBACK,
+    PRIMARY
+}
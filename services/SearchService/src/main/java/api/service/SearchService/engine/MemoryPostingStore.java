@@ -0,0 +1,101 @@
+package api.service.SearchService.engine;
+
+import api.service.SearchService.document.JobPosting;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 채용 공고 객체를 힙에 두는 {@link PostingStore}이다.
+ */
+public final class MemoryPostingStore implements PostingStore {
+
+    // 정렬 순서, deadline_ts가 없는 공고는 마지막
+    public static final Comparator<JobPosting> ORDER = Comparator
+            .comparingLong((JobPosting posting) -> Objects.requireNonNullElse(posting.getDeadline_ts(), Long.MAX_VALUE))
+            .thenComparing(JobPosting::getId);
+
+    private final JobPosting[] postings;
+    private final Map<String, Integer> docIds;
+
+    private MemoryPostingStore(JobPosting[] postings) {
+        this.postings = postings;
+        this.docIds = new HashMap<>(postings.length * 2);
+        for (int doc = 0; doc < postings.length; doc++) {
+            docIds.put(postings[doc].getId(), doc);
+        }
+    }
+
+    /**
+     * ID가 있는 채용 공고를 정렬하여 저장소를 만드는 메서드이다.
+     * ID가 같은 공고가 여러 개이면 마지막 공고를 사용한다.
+     *
+     * @param postings 채용 공고 목록
+     * @return MemoryPostingStore
+     */
+    public static MemoryPostingStore of(List<JobPosting> postings) {
+        return new MemoryPostingStore(sorted(postings).toArray(JobPosting[]::new));
+    }
+
+    /**
+     * ID가 없는 공고를 제외하고 ID 중복을 제거한 뒤 저장 순서대로 정렬하는 메서드이다.
+     *
+     * @param postings 채용 공고 목록
+     * @return 정렬된 채용 공고 목록
+     */
+    public static List<JobPosting> sorted(List<JobPosting> postings) {
+        Map<String, JobPosting> unique = new HashMap<>(postings.size() * 2);
+        for (JobPosting posting : postings) {
+            if (posting.getId() != null) unique.put(posting.getId(), posting);
+        }
+        List<JobPosting> sorted = new ArrayList<>(unique.values());
+        sorted.sort(ORDER);
+        return sorted;
+    }
+
+    @Override
+    public int size() {
+        return postings.length;
+    }
+
+    @Override
+    public long deadline(int doc) {
+        return Objects.requireNonNullElse(postings[doc].getDeadline_ts(), Long.MAX_VALUE);
+    }
+
+    @Override
+    public String id(int doc) {
+        return postings[doc].getId();
+    }
+
+    @Override
+    public String title(int doc) {
+        return postings[doc].getTitle();
+    }
+
+    @Override
+    public List<String> skills(int doc) {
+        List<String> skills = postings[doc].getSkills();
+        return skills == null ? List.of() : skills;
+    }
+
+    @Override
+    public String experienceType(int doc) {
+        return postings[doc].getExperienceType();
+    }
+
+    @Override
+    public JobPosting posting(int doc) {
+        return postings[doc];
+    }
+
+    @Override
+    public int find(String id) {
+        Integer doc = docIds.get(id);
+        return doc == null ? -1 : doc;
+    }
+}
@@ -0,0 +1,295 @@
+package api.service.SearchService.engine;
+
+import api.service.SearchService.document.JobPosting;
+import api.service.SearchService.query.Projection;
+import api.service.SearchService.query.QueryPlanner;
+import api.service.SearchService.query.SearchQuery;
+import api.service.SearchService.query.SortMode;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 채용 공고 검색을 메모리에서 처리하는 읽기 전용 인덱스이다.
+ * 공고 자체는 {@link PostingStore}에 두고, 인덱스는 필터에 필요한 문서 번호 집합만 가진다.
+ *
+ * 문서 번호는 (deadline_ts, id) 순서로 부여하므로 문서 번호 순서가 곧 마감일 정렬 순서이고,
+ * 마감일 범위 조건은 연속된 문서 번호 구간이 된다.
+ * 마감일 내림차순 검색도 같은 마감일 안에서는 id 오름차순으로, OpenSearch의 tiebreaker 정렬과 방향이 같다.
+ * 제목 토큰, 기술, 경력 유형마다 해당 문서 번호를 RoaringBitmap으로 저장하여
+ * 같은 조건 안의 값은 합집합, 서로 다른 조건은 교집합으로 필터링한다.
+ * OpenSearch 검색과 같이 제목은 토큰 중 하나라도 포함하면, 기술과 경력 유형은 값 중 하나와 같으면 일치한다.
+ */
+public final class PostingIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final PostingStore store;
+    private final Map<String, RoaringBitmap> titleTerms;
+    private final Map<String, RoaringBitmap> skills;
+    private final Map<String, RoaringBitmap> experienceTypes;
+    // 마감일이 있는 공고는 [0, datedEnd), 상시채용 공고는 [openEndedStart, size)
+    private final int datedEnd;
+    private final int openEndedStart;
+
+    private PostingIndex(PostingStore store) {
+        this.store = store;
+        Map<String, RoaringBitmap> titleTerms = new HashMap<>();
+        Map<String, RoaringBitmap> skills = new HashMap<>();
+        Map<String, RoaringBitmap> experienceTypes = new HashMap<>();
+        for (int doc = 0; doc < store.size(); doc++) {
+            for (String token : tokenize(store.title(doc))) {
+                titleTerms.computeIfAbsent(token, key -> new RoaringBitmap()).add(doc);
+            }
+            for (String skill : store.skills(doc)) {
+                skills.computeIfAbsent(skill, key -> new RoaringBitmap()).add(doc);
+            }
+            String experienceType = store.experienceType(doc);
+            if (experienceType != null) {
+                experienceTypes.computeIfAbsent(experienceType, key -> new RoaringBitmap()).add(doc);
+            }
+        }
+        this.titleTerms = optimize(titleTerms);
+        this.skills = optimize(skills);
+        this.experienceTypes = optimize(experienceTypes);
+        datedEnd = lowerBound(QueryPlanner.OPEN_ENDED_DEADLINE_TS);
+        openEndedStart = datedEnd;
+    }
+
+    /**
+     * 채용 공고 목록으로 힙에 인덱스를 만드는 메서드이다.
+     * ID가 같은 공고가 여러 개이면 마지막 공고를 사용한다.
+     *
+     * @param postings ID가 있는 채용 공고 목록
+     * @return PostingIndex
+     */
+    public static PostingIndex of(List<JobPosting> postings) {
+        return new PostingIndex(MemoryPostingStore.of(postings));
+    }
+
+    /**
+     * 정렬된 채용 공고 저장소로 인덱스를 만드는 메서드이다.
+     *
+     * @param store 채용 공고 저장소
+     * @return PostingIndex
+     */
+    public static PostingIndex of(PostingStore store) {
+        return new PostingIndex(store);
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * ID로 채용 공고를 조회하는 메서드이다.
+     *
+     * @param id 채용 공고 ID
+     * @return JobPosting, 없으면 null
+     */
+    public JobPosting get(String id) {
+        int doc = store.find(id);
+        return doc < 0 ? null : store.posting(doc);
+    }
+
+    /**
+     * 검색 조건에 해당하는 채용 공고를 정렬 순서대로 한 페이지 반환하는 메서드이다.
+     *
+     * @param query 정규화된 검색 조건
+     * @param searchAfter 이전 페이지 마지막 공고의 (deadline_ts, id), 첫 페이지면 null
+     * @return Page 검색 결과와 마지막 공고의 sort 값
+     * @throws IllegalArgumentException searchAfter 형식이 올바르지 않은 경우
+     */
+    public Page search(SearchQuery query, Object[] searchAfter) {
+        if (searchAfter != null && (searchAfter.length != 2
+                || !(searchAfter[0] instanceof Long) || !(searchAfter[1] instanceof String))) {
+            throw new IllegalArgumentException("invalid embedded cursor");
+        }
+        RoaringBitmap matches = filter(query);
+        Long deadline = searchAfter == null ? null : (Long) searchAfter[0];
+        String id = searchAfter == null ? null : (String) searchAfter[1];
+
+        List<JobPosting> page = new ArrayList<>(query.size());
+        int last = query.sortMode() == SortMode.DEADLINE_DESC
+                ? collectDescending(matches, deadline, id, query, page)
+                : collectAscending(matches, deadline, id, query, page);
+        Object[] sortValues = last < 0 ? null : new Object[]{store.deadline(last), store.id(last)};
+        return new Page(page, sortValues);
+    }
+
+    // (deadline_ts, id) 오름차순으로 이전 페이지 마지막 공고 다음부터 채우고, 마지막 문서 번호를 반환
+    private int collectAscending(RoaringBitmap matches, Long deadline, String id, SearchQuery query, List<JobPosting> page) {
+        // 해당 공고가 없어졌어도 정렬 순서상 다음 위치부터 이어간다.
+        int position = 0;
+        if (deadline != null) {
+            position = lowerBound(deadline, id);
+            if (isAt(position, deadline, id)) position++;
+        }
+        int last = -1;
+        while (page.size() < query.size() && position < store.size()) {
+            long doc = matches.nextValue(position);
+            if (doc < 0) break;
+            last = (int) doc;
+            page.add(project(store.posting(last), query.projection()));
+            position = last + 1;
+        }
+        return last;
+    }
+
+    // deadline_ts 내림차순, 같은 마감일 안에서는 id 오름차순으로 채우고, 마지막 문서 번호를 반환
+    // OpenSearch 검색의 tiebreaker(오름차순)와 같은 방향이어서 두 엔진의 페이지 순서가 같다.
+    private int collectDescending(RoaringBitmap matches, Long deadline, String id, SearchQuery query, List<JobPosting> page) {
+        // 현재 마감일 그룹 [groupStart, groupEnd)와 그 안에서 다음으로 볼 문서 번호
+        int groupStart = store.size(), groupEnd = store.size(), position = store.size();
+        if (deadline != null) {
+            groupStart = lowerBound(deadline);
+            groupEnd = upperBound(deadline);
+            position = lowerBound(deadline, id);
+            if (isAt(position, deadline, id)) position++;
+        }
+        int last = -1;
+        while (page.size() < query.size()) {
+            long doc = position < groupEnd ? matches.nextValue(position) : -1;
+            if (doc >= 0 && doc < groupEnd) {
+                last = (int) doc;
+                page.add(project(store.posting(last), query.projection()));
+                position = last + 1;
+                continue;
+            }
+            // 현재 그룹을 다 보았으면 바로 앞(더 이른 마감일) 그룹의 처음으로 이동
+            long previous = groupStart > 0 ? matches.previousValue(groupStart - 1) : -1;
+            if (previous < 0) break;
+            long previousDeadline = store.deadline((int) previous);
+            groupStart = lowerBound(previousDeadline);
+            groupEnd = upperBound(previousDeadline);
+            position = groupStart;
+        }
+        return last;
+    }
+
+    private boolean isAt(int doc, long deadline, String id) {
+        return doc < store.size() && store.deadline(doc) == deadline && store.id(doc).equals(id);
+    }
+
+    // 조건별 문서 번호 집합의 교집합, 조건이 없으면 전체
+    private RoaringBitmap filter(SearchQuery query) {
+        List<RoaringBitmap> conditions = new ArrayList<>(4);
+        if (query.hasTitle()) {
+            conditions.add(union(titleTerms, tokenize(query.title())));
+        }
+        if (!query.skills().isEmpty()) {
+            conditions.add(union(skills, query.skills()));
+        }
+        if (!query.experienceTypes().isEmpty()) {
+            conditions.add(union(experienceTypes, query.experienceTypes()));
+        }
+        if (query.sortMode() == SortMode.DEADLINE_DESC) {
+            conditions.add(RoaringBitmap.bitmapOfRange(0, datedEnd));
+        } else if (query.sortMode() == SortMode.OPEN_ENDED) {
+            conditions.add(RoaringBitmap.bitmapOfRange(openEndedStart, store.size()));
+        }
+        if (conditions.isEmpty()) {
+            return RoaringBitmap.bitmapOfRange(0, store.size());
+        }
+        // 작은 집합부터 교집합
+        conditions.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+        RoaringBitmap result = conditions.get(0);
+        for (int i = 1; i < conditions.size() && !result.isEmpty(); i++) {
+            result = RoaringBitmap.and(result, conditions.get(i));
+        }
+        return result;
+    }
+
+    private static RoaringBitmap union(Map<String, RoaringBitmap> postings, Iterable<String> values) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>();
+        for (String value : values) {
+            RoaringBitmap bitmap = postings.get(value);
+            if (bitmap != null) bitmaps.add(bitmap);
+        }
+        if (bitmaps.isEmpty()) return EMPTY;
+        if (bitmaps.size() == 1) return bitmaps.get(0);
+        Iterator<RoaringBitmap> iterator = bitmaps.iterator();
+        return FastAggregation.or(iterator);
+    }
+
+    // 검색 결과 목록에는 Projection.LISTING 필드만 포함
+    private static JobPosting project(JobPosting posting, Projection projection) {
+        if (projection == Projection.FULL) return posting;
+        JobPosting listing = new JobPosting();
+        listing.setId(posting.getId());
+        listing.setUrl(posting.getUrl());
+        listing.setTitle(posting.getTitle());
+        listing.setCompany(posting.getCompany());
+        listing.setLocation(posting.getLocation());
+        listing.setDeadline(posting.getDeadline());
+        listing.setExperience(posting.getExperience());
+        listing.setSkills(posting.getSkills());
+        return listing;
+    }
+
+    // deadline_ts가 value 이상인 첫 문서 번호
+    private int lowerBound(long value) {
+        int low = 0, high = store.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (store.deadline(mid) < value) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // deadline_ts가 value보다 큰 첫 문서 번호
+    private int upperBound(long value) {
+        int low = 0, high = store.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (store.deadline(mid) <= value) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // (deadline_ts, id)가 주어진 값 이상인 첫 문서 번호
+    private int lowerBound(long deadline, String id) {
+        int low = lowerBound(deadline), high = upperBound(deadline);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (store.id(mid).compareTo(id) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static Map<String, RoaringBitmap> optimize(Map<String, RoaringBitmap> postings) {
+        postings.values().forEach(RoaringBitmap::runOptimize);
+        return Map.copyOf(postings);
+    }
+
+    // 소문자로 바꾸고 문자, 숫자가 아닌 문자로 나눈 토큰 (OpenSearch standard 분석기와 비슷하게)
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 검색 결과 한 페이지이다.
+     *
+     * @param postings 채용 공고 목록
+     * @param sortValues 마지막 공고의 (deadline_ts, id), 결과가 없으면 null
+     */
+    public record Page(List<JobPosting> postings, Object[] sortValues) {
+    }
+}
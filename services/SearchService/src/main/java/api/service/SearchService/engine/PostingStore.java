@@ -0,0 +1,41 @@
+package api.service.SearchService.engine;
+
+import api.service.SearchService.document.JobPosting;
+
+import java.util.List;
+
+/**
+ * {@link PostingIndex}가 사용하는 채용 공고 저장소이다.
+ * 문서 번호는 0부터 size() - 1까지이며 (deadline_ts, id) 순서로 정렬되어 있어야 한다.
+ * 힙에 객체로 두는 구현과 메모리 맵 스냅샷 파일을 읽는 구현이 있다.
+ */
+public interface PostingStore {
+
+    int size();
+
+    long deadline(int doc);
+
+    String id(int doc);
+
+    String title(int doc);
+
+    List<String> skills(int doc);
+
+    String experienceType(int doc);
+
+    /**
+     * 문서 번호의 채용 공고 전체를 반환하는 메서드이다.
+     *
+     * @param doc 문서 번호
+     * @return JobPosting
+     */
+    JobPosting posting(int doc);
+
+    /**
+     * ID로 문서 번호를 찾는 메서드이다.
+     *
+     * @param id 채용 공고 ID
+     * @return 문서 번호, 없으면 -1
+     */
+    int find(String id);
+}
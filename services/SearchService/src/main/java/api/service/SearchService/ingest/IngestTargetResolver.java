@@ -0,0 +1,83 @@
+package api.service.SearchService.ingest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+/**
+ * 관리자 적재 API가 받은 위치와 인덱스 이름을 검사하는 클래스이다.
+ *
+ * 로컬 위치는 ingest.local-root 디렉터리 안으로 제한하고, 설정하지 않으면 S3 위치만 허용한다.
+ * 인덱스는 검색 alias(opensearch.index) 또는 재적재가 만드는 "{alias}-yyyyMMdd-HHmmss" 인덱스만 허용한다.
+ */
+@Component
+public class IngestTargetResolver {
+
+    @Value("${ingest.local-root:}")
+    private String localRoot;
+    @Value("${opensearch.index}")
+    private String alias;
+
+    /**
+     * 적재할 파일 위치를 검사하는 메서드이다.
+     *
+     * @param location 로컬 경로(ingest.local-root 기준 상대 경로 또는 그 안의 절대 경로) 또는 s3://버킷/접두사
+     * @return 읽을 위치, 로컬 경로는 정규화한 절대 경로
+     * @throws IOException 경로의 실제 위치를 확인할 수 없는 경우
+     * @throws IllegalArgumentException 위치가 비어 있거나 ingest.local-root를 벗어나는 경우
+     */
+    public String location(String location) throws IOException {
+        if (location == null || location.isBlank()) {
+            throw new IllegalArgumentException("location is empty");
+        }
+        String trimmed = location.trim();
+        if (trimmed.startsWith(S3PostingSource.SCHEME)) return trimmed;
+        if (localRoot.isBlank()) {
+            throw new IllegalArgumentException("ingest.local-root is not set, local location is not allowed: " + location);
+        }
+
+        Path root = Path.of(localRoot).toAbsolutePath().normalize();
+        Path requested;
+        try {
+            requested = Path.of(trimmed);
+        } catch (InvalidPathException e) {
+            throw new IllegalArgumentException("invalid location: " + location, e);
+        }
+        for (Path name : requested) {
+            if (name.toString().equals("..")) {
+                throw new IllegalArgumentException("location must not contain '..': " + location);
+            }
+        }
+        Path path = root.resolve(requested).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("location is outside " + root + ": " + location);
+        }
+        // 심볼릭 링크로 디렉터리 밖을 가리키는 경우
+        if (Files.exists(path) && !path.toRealPath().startsWith(root.toRealPath())) {
+            throw new IllegalArgumentException("location is outside " + root + ": " + location);
+        }
+        return path.toString();
+    }
+
+    /**
+     * 저장할 인덱스 이름을 검사하는 메서드이다.
+     *
+     * @param index 인덱스 이름, 비어 있으면 검색 alias
+     * @return 저장할 인덱스 이름
+     * @throws IllegalArgumentException alias도, alias가 관리하는 인덱스도 아닌 경우
+     */
+    public String index(String index) {
+        if (index == null || index.isBlank()) return alias;
+        String trimmed = index.trim();
+        Pattern versioned = Pattern.compile(Pattern.quote(alias) + "-\\d{8}-\\d{6}");
+        if (!trimmed.equals(alias) && !versioned.matcher(trimmed).matches()) {
+            throw new IllegalArgumentException("index must be " + alias + " or " + alias + "-yyyyMMdd-HHmmss: " + index);
+        }
+        return trimmed;
+    }
+}
@@ -0,0 +1,43 @@
+package api.service.SearchService.ingest;
+
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일 시스템의 채용 공고 파일을 읽는 저장소이다.
+ * s3:// 로 시작하지 않는 모든 위치를 처리한다.
+ */
+@Component
+public class LocalPostingSource implements PostingSource {
+
+    @Override
+    public boolean supports(String location) {
+        return !location.startsWith(S3PostingSource.SCHEME);
+    }
+
+    @Override
+    public List<String> list(String location) throws IOException {
+        Path path = Path.of(location);
+        if (!Files.isDirectory(path)) {
+            return List.of(path.toString());
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            return files.filter(Files::isRegularFile)
+                    .map(Path::toString)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    @Override
+    public InputStream open(String file) throws IOException {
+        return new BufferedInputStream(Files.newInputStream(Path.of(file)), 64 * 1024);
+    }
+}
@@ -0,0 +1,125 @@
+package api.service.SearchService.ingest;
+
+import api.service.SearchService.document.JobPosting;
+import api.service.SearchService.query.QueryPlanner;
+import api.service.SearchService.skill.SkillDictionary;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 수집된 채용 공고(src/models/job_posting.py)를 검색 인덱스의 {@link JobPosting} 문서로 변환하는 클래스이다.
+ * 이미 JobPosting 형식(title 필드가 있는 문서)이면 필드를 그대로 사용한다.
+ * 크롤러(src/connectors)가 수집한 공고도 같은 형식이며, deadline은 Unix timestamp(초) 또는 "상시채용" 같은 원문이다.
+ * 기술은 기술 사전의 표준 이름으로 바꾸어 검색 필터와 같은 값으로 색인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostingMapper {
+
+    private static final String OPEN_ENDED_DEADLINE = "상시채용";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private final SkillDictionary skillDictionary;
+
+    /**
+     * 수집된 채용 공고 하나를 JobPosting으로 변환하는 메서드이다.
+     * 문서 ID는 id, 없으면 url을 사용한다.
+     *
+     * @param node 수집된 채용 공고 JSON
+     * @return JobPosting, 제목이 없으면 null
+     */
+    public JobPosting map(JsonNode node) {
+        JobPosting posting = new JobPosting();
+        boolean indexShape = node.hasNonNull("title");
+
+        posting.setId(text(node, "id", text(node, "url", null)));
+        posting.setUrl(text(node, "url", null));
+        posting.setTitle(text(node, indexShape ? "title" : "job_title", null));
+        posting.setCompany(text(node, indexShape ? "company" : "company_name", null));
+        posting.setLocation(text(node, "location", null));
+        posting.setExperience(text(node, indexShape ? "experience" : "experience_level", null));
+        posting.setExperienceType(text(node, "experienceType", experienceType(posting.getExperience())));
+        posting.setSkills(skills(node.get("skills")));
+
+        if (indexShape && node.hasNonNull("deadline_ts")) {
+            posting.setDeadline_ts(node.get("deadline_ts").asLong());
+            posting.setDeadline(text(node, "deadline", null));
+        } else {
+            setDeadline(posting, node.get(indexShape ? "deadline" : "application_end_date"));
+        }
+
+        return posting.getTitle() == null ? null : posting;
+    }
+
+    // 마감일을 deadline(yyyy-MM-dd)과 deadline_ts(epoch seconds)로 변환, 없거나 해석할 수 없으면 상시채용
+    private void setDeadline(JobPosting posting, JsonNode value) {
+        LocalDateTime deadline = parseDeadline(value);
+        if (deadline == null) {
+            posting.setDeadline(OPEN_ENDED_DEADLINE);
+            posting.setDeadline_ts(QueryPlanner.OPEN_ENDED_DEADLINE_TS);
+            return;
+        }
+        posting.setDeadline(deadline.toLocalDate().toString());
+        posting.setDeadline_ts(deadline.atZone(ZONE).toEpochSecond());
+    }
+
+    // Unix timestamp(초, 크롤러의 convert_deadline_format 결과) 또는 ISO-8601 날짜/시각
+    private LocalDateTime parseDeadline(JsonNode node) {
+        if (node == null || node.isNull()) return null;
+        if (node.isIntegralNumber()) return epochSeconds(node.asLong());
+
+        String value = node.asText().trim();
+        if (value.isEmpty()) return null;
+        if (value.length() <= 12 && value.chars().allMatch(Character::isDigit)) return epochSeconds(Long.parseLong(value));
+        try {
+            return OffsetDateTime.parse(value).atZoneSameInstant(ZONE).toLocalDateTime();
+        } catch (DateTimeParseException ignored) {
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ignored) {
+        }
+        try {
+            return LocalDate.parse(value).atTime(23, 59, 59);
+        } catch (DateTimeParseException ignored) {
+        }
+        return null;
+    }
+
+    private LocalDateTime epochSeconds(long seconds) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(seconds), ZONE);
+    }
+
+    // 경력 문자열을 경력 유형(신입, 경력, 무관)으로 변환
+    private String experienceType(String experience) {
+        if (experience == null) return "무관";
+        boolean newcomer = experience.contains("신입");
+        boolean experienced = experience.contains("경력");
+        if (experience.contains("무관") || newcomer == experienced) return "무관";
+        return newcomer ? "신입" : "경력";
+    }
+
+    private List<String> skills(JsonNode node) {
+        List<String> skills = new ArrayList<>();
+        if (node != null && node.isArray()) {
+            node.forEach(skill -> {
+                if (skill.isTextual()) skills.add(skill.asText());
+            });
+        }
+        return new ArrayList<>(skillDictionary.canonicalize(skills));
+    }
+
+    private String text(JsonNode node, String field, String defaultValue) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? defaultValue : value.asText();
+    }
+}
@@ -0,0 +1,96 @@
+package api.service.SearchService.ingest;
+
+import api.service.SearchService.document.JobPosting;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 수집된 채용 공고 파일을 문서 단위로 읽어 {@link JobPosting}으로 변환하는 클래스이다.
+ * 파일은 줄 단위 JSON(NDJSON) 또는 JSON 배열이며, 파일 전체를 메모리에 올리지 않는다.
+ * 크롤러(src/connectors)의 수집 결과처럼 순번을 키로 공고를 담은 JSON 객체도 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostingReader {
+
+    private final ObjectMapper objectMapper;
+    private final PostingMapper postingMapper;
+    private final List<PostingSource> postingSources;
+
+    /**
+     * 채용 공고 하나를 처리하는 콜백이다.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * @param posting 변환된 채용 공고, 제목이 없어 건너뛴 문서면 null
+         * @throws IOException 처리 중 예외 발생 시
+         */
+        void accept(JobPosting posting) throws IOException;
+    }
+
+    /**
+     * 위치 아래의 채용 공고 파일 목록을 반환하는 메서드이다.
+     *
+     * @param location 파일 또는 디렉터리 위치 (로컬 경로 또는 s3://버킷/접두사)
+     * @return 파일 위치 목록 (이름 순)
+     * @throws IOException 목록 조회 중 예외 발생 시
+     * @throws IllegalArgumentException 위치를 처리할 수 있는 저장소가 없는 경우
+     */
+    public List<String> list(String location) throws IOException {
+        return source(location).list(location);
+    }
+
+    /**
+     * 파일의 채용 공고를 하나씩 읽어 handler에 전달하는 메서드이다.
+     *
+     * @param file 파일 위치
+     * @param handler 채용 공고 처리 콜백
+     * @throws IOException 파일을 읽는 중 예외 발생 시
+     * @throws IllegalArgumentException 위치를 처리할 수 있는 저장소가 없는 경우
+     */
+    public void read(String file, Handler handler) throws IOException {
+        try (InputStream in = source(file).open(file);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            // 최상위 JSON 값을 하나씩 읽는다. 첫 값이 배열이면 배열의 원소를 하나씩 읽는다.
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) token = parser.nextToken();
+            while (token != null && token != JsonToken.END_ARRAY) {
+                JsonNode node = objectMapper.readTree(parser);
+                if (isKeyedPostings(node)) {
+                    for (JsonNode posting : node) {
+                        handler.accept(postingMapper.map(posting));
+                    }
+                } else {
+                    handler.accept(postingMapper.map(node));
+                }
+                token = parser.nextToken();
+            }
+        }
+    }
+
+    // {"0": {...}, "1": {...}} 형식의 크롤러 수집 결과인지 확인
+    private boolean isKeyedPostings(JsonNode node) {
+        if (!node.isObject() || node.isEmpty() || node.has("title") || node.has("job_title")) return false;
+        for (JsonNode value : node) {
+            if (!value.isObject()) return false;
+        }
+        return true;
+    }
+
+    private PostingSource source(String location) {
+        return postingSources.stream()
+                .filter(postingSource -> postingSource.supports(location))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("unsupported location: " + location));
+    }
+}
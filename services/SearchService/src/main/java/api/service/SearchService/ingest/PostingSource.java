@@ -0,0 +1,40 @@
+package api.service.SearchService.ingest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 수집된 채용 공고 파일을 읽어 오는 저장소이다.
+ * 로컬 파일 시스템과 S3 구현이 있으며, 위치 문자열의 형식으로 사용할 구현을 고른다.
+ */
+public interface PostingSource {
+
+    /**
+     * 이 저장소가 처리할 수 있는 위치인지 확인하는 메서드이다.
+     *
+     * @param location 파일 또는 디렉터리(접두사) 위치
+     * @return 처리할 수 있으면 true
+     */
+    boolean supports(String location);
+
+    /**
+     * 위치 아래의 채용 공고 파일 목록을 반환하는 메서드이다.
+     * 위치가 파일이면 그 파일 하나를 반환한다.
+     *
+     * @param location 파일 또는 디렉터리(접두사) 위치
+     * @return 파일 위치 목록 (이름 순)
+     * @throws IOException 목록 조회 중 예외 발생 시
+     */
+    List<String> list(String location) throws IOException;
+
+    /**
+     * 파일을 스트림으로 여는 메서드이다.
+     * 파일 전체를 메모리에 읽지 않으므로 호출한 쪽에서 스트림을 닫아야 한다.
+     *
+     * @param file 파일 위치
+     * @return 파일 내용 스트림
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    InputStream open(String file) throws IOException;
+}
@@ -0,0 +1,79 @@
+package api.service.SearchService.ingest;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * S3에 업로드된 채용 공고 파일을 읽는 저장소이다.
+ * 위치는 s3://버킷/키 또는 s3://버킷/접두사 형식이며, ingest.s3.region이 설정된 경우에만 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "ingest.s3.region")
+public class S3PostingSource implements PostingSource {
+
+    static final String SCHEME = "s3://";
+
+    private final S3Client s3Client;
+
+    public S3PostingSource(@Value("${ingest.s3.region}") String region) {
+        this.s3Client = S3Client.builder()
+                .region(Region.of(region))
+                .build();
+    }
+
+    @Override
+    public boolean supports(String location) {
+        return location.startsWith(SCHEME);
+    }
+
+    @Override
+    public List<String> list(String location) {
+        String[] bucketAndKey = parse(location);
+        String bucket = bucketAndKey[0];
+        return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                        .bucket(bucket)
+                        .prefix(bucketAndKey[1])
+                        .build())
+                .contents()
+                .stream()
+                .map(S3Object::key)
+                .filter(key -> !key.endsWith("/"))
+                .sorted()
+                .map(key -> SCHEME + bucket + "/" + key)
+                .toList();
+    }
+
+    @Override
+    public InputStream open(String file) {
+        String[] bucketAndKey = parse(file);
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketAndKey[0])
+                .key(bucketAndKey[1])
+                .build());
+    }
+
+    @PreDestroy
+    public void close() {
+        s3Client.close();
+    }
+
+    // s3://버킷/키 → [버킷, 키]
+    private String[] parse(String location) {
+        String path = location.substring(SCHEME.length());
+        int separator = path.indexOf('/');
+        if (separator < 0) {
+            return new String[]{path, ""};
+        }
+        return new String[]{path.substring(0, separator), path.substring(separator + 1)};
+    }
+}
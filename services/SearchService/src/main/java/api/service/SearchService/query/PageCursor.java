@@ -0,0 +1,87 @@
+package api.service.SearchService.query;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * 다음 페이지 검색 위치를 나타내는 커서이다.
+ * Point In Time ID와 마지막 문서의 sort 값을 바이너리로 직렬화한 뒤 base64url 문자열로 주고받는다.
+ * 클라이언트는 커서의 내용을 해석하지 않고 그대로 다음 요청에 전달한다.
+ *
+ * @param pitId 검색에 사용한 Point In Time ID
+ * @param searchAfter 마지막 문서의 sort 값
+ */
+public record PageCursor(String pitId, Object[] searchAfter) {
+
+    private static final byte VERSION = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_LONG = 1;
+    private static final byte TYPE_DOUBLE = 2;
+    private static final byte TYPE_STRING = 3;
+
+    /**
+     * 커서를 base64url 문자열로 변환하는 메서드이다.
+     *
+     * @return 커서 문자열
+     */
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(pitId.length() + 32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(pitId);
+            out.writeByte(searchAfter.length);
+            for (Object value : searchAfter) {
+                if (value == null) {
+                    out.writeByte(TYPE_NULL);
+                } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+                    out.writeByte(TYPE_LONG);
+                    out.writeLong(((Number) value).longValue());
+                } else if (value instanceof Number number) {
+                    out.writeByte(TYPE_DOUBLE);
+                    out.writeDouble(number.doubleValue());
+                } else {
+                    out.writeByte(TYPE_STRING);
+                    out.writeUTF(value.toString());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("failed to encode cursor", e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * base64url 커서 문자열을 PageCursor로 변환하는 메서드이다.
+     *
+     * @param cursor 커서 문자열
+     * @return PageCursor
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static PageCursor decode(String cursor) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != VERSION) {
+                throw new IllegalArgumentException("unsupported cursor version");
+            }
+            String pitId = in.readUTF();
+            Object[] searchAfter = new Object[in.readUnsignedByte()];
+            for (int i = 0; i < searchAfter.length; i++) {
+                byte type = in.readByte();
+                searchAfter[i] = switch (type) {
+                    case TYPE_NULL -> null;
+                    case TYPE_LONG -> in.readLong();
+                    case TYPE_DOUBLE -> in.readDouble();
+                    case TYPE_STRING -> in.readUTF();
+                    default -> throw new IllegalArgumentException("invalid cursor value type: " + type);
+                };
+            }
+            return new PageCursor(pitId, searchAfter);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package api.service.SearchService.query;
+
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+
+import java.util.Locale;
+
+/**
+ * 검색 결과에서 가져올 source 필드 범위이다.
+ * LISTING은 검색 결과 목록에 표시하는 필드만, FULL은 문서 전체를 가져온다.
+ */
+public enum Projection {
+
+    LISTING("url", "title", "company", "location", "deadline", "experience", "skills"),
+    FULL;
+
+    private final FetchSourceContext fetchSource;
+
+    Projection(String... includes) {
+        this.fetchSource = includes.length == 0
+                ? FetchSourceContext.FETCH_SOURCE
+                : new FetchSourceContext(true, includes, null);
+    }
+
+    public FetchSourceContext fetchSource() {
+        return fetchSource;
+    }
+
+    /**
+     * 요청 파라미터 값을 Projection으로 변환하는 메서드이다.
+     * 값이 없으면 LISTING을 반환한다.
+     *
+     * @param value 요청 파라미터 값 (listing, full)
+     * @return Projection
+     * @throws IllegalArgumentException 지원하지 않는 값인 경우
+     */
+    public static Projection from(String value) {
+        if (value == null || value.isBlank()) return LISTING;
+        return Projection.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,141 @@
+package api.service.SearchService.query;
+
+import api.service.SearchService.skill.SkillDictionary;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 정규화된 검색 조건({@link SearchQuery})을 OpenSearch 검색 요청으로 변환하는 클래스이다.
+ *
+ * 검색 결과는 항상 마감일과 tiebreaker 순으로 정렬하고 점수(_score)를 사용하지 않으므로,
+ * 제목 검색을 포함한 모든 조건을 filter context에 넣어 점수 계산을 생략하고 필터 캐시를 사용할 수 있게 한다.
+ * 조건에는 현재 시각에 따라 바뀌는 값이 없으므로 같은 조건이면 같은 요청이 만들어지고,
+ * 요청에 request cache 사용을 명시하여 샤드 단위 캐시가 적중할 수 있게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryPlanner {
+
+    // 상시채용 공고의 deadline_ts (PostingMapper가 색인할 때 사용), 마감일이 있는 공고는 이 값보다 작다.
+    public static final long OPEN_ENDED_DEADLINE_TS = 9_999_999_999L;
+
+    private static final String SHARD_DOC = "_shard_doc";
+
+    // Point In Time 검색의 정렬 tiebreaker, 공고마다 값이 다른 keyword 필드를 사용한다.
+    @Value("${search.pit.tiebreaker:url}")
+    private String tiebreaker;
+    // _shard_doc은 OpenSearch 2.17에서 지원하지 않으므로 지원하는 클러스터에서만 명시적으로 허용한다.
+    @Value("${search.pit.allow-shard-doc:false}")
+    private boolean allowShardDoc;
+    // 기술 사전 적용 전에 적재한 문서의 원래 표기도 함께 찾을지 여부, 모든 문서를 다시 적재한 뒤에는 끈다.
+    @Value("${search.skills.match-raw:true}")
+    private boolean matchRawSkills;
+    private final SkillDictionary skillDictionary;
+
+    @PostConstruct
+    public void init() {
+        if (tiebreaker == null || tiebreaker.isBlank()) {
+            throw new IllegalStateException("search.pit.tiebreaker must not be empty");
+        }
+        if (SHARD_DOC.equals(tiebreaker) && !allowShardDoc) {
+            throw new IllegalStateException("search.pit.tiebreaker=_shard_doc requires search.pit.allow-shard-doc=true");
+        }
+    }
+
+    /**
+     * 검색 조건의 필터를 bool 쿼리로 만드는 메서드이다.
+     * 모든 조건은 filter context로 추가한다.
+     *
+     * @param query 정규화된 검색 조건
+     * @return BoolQueryBuilder 필터 쿼리
+     */
+    public BoolQueryBuilder filter(SearchQuery query) {
+        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
+
+        // 제목 필터링
+        if (query.hasTitle()) {
+            boolQuery.filter(QueryBuilders.matchQuery("title", query.title()));
+        }
+
+        // 스킬 필터링
+        if (!query.skills().isEmpty()) {
+            boolQuery.filter(QueryBuilders.termsQuery("skills", matchRawSkills ? skillTerms(query.skills()) : query.skills()));
+        }
+
+        // 경력 유형 필터링
+        if (!query.experienceTypes().isEmpty()) {
+            boolQuery.filter(QueryBuilders.termsQuery("experienceType", query.experienceTypes()));
+        }
+
+        // 마감일 정렬 방법에 따른 필터링
+        SortMode sortMode = query.sortMode();
+        if (sortMode == SortMode.DEADLINE_DESC) {
+            boolQuery.filter(QueryBuilders.rangeQuery("deadline_ts").lt(OPEN_ENDED_DEADLINE_TS));
+        } else if (sortMode == SortMode.OPEN_ENDED) {
+            boolQuery.filter(QueryBuilders.rangeQuery("deadline_ts").gte(OPEN_ENDED_DEADLINE_TS));
+        }
+
+        return boolQuery;
+    }
+
+    // 표준 이름과 사전에 등록된 표기
+    private List<String> skillTerms(List<String> skills) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String skill : skills) {
+            terms.addAll(skillDictionary.variants(skill));
+        }
+        return List.copyOf(terms);
+    }
+
+    /**
+     * 검색 조건으로 Point In Time 검색 요청을 만드는 메서드이다.
+     *
+     * @param query 정규화된 검색 조건
+     * @param pitId Point In Time ID
+     * @param keepAlive Point In Time 유지 시간
+     * @param searchAfter 이전 페이지 마지막 문서의 sort 값, 첫 페이지면 null
+     * @return SearchRequest 검색 요청
+     */
+    public SearchRequest plan(
+            SearchQuery query,
+            String pitId,
+            TimeValue keepAlive,
+            Object[] searchAfter) {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+                .query(filter(query))
+                .size(query.size())
+                .fetchSource(query.projection().fetchSource())
+                .trackTotalHits(false)
+                .pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(keepAlive));
+
+        SortMode sortMode = query.sortMode();
+        if (sortMode.order() != null) {
+            sourceBuilder.sort("deadline_ts", sortMode.order());
+        }
+        // tiebreaker 값이 search_after의 마지막 값이 된다.
+        sourceBuilder.sort(tiebreaker, SortOrder.ASC);
+
+        // search_after 설정
+        if (searchAfter != null && searchAfter.length > 0) {
+            sourceBuilder.searchAfter(searchAfter);
+        }
+
+        // PIT 검색은 인덱스를 지정하지 않는다.
+        return new SearchRequest()
+                .source(sourceBuilder)
+                .requestCache(true);
+    }
+}
@@ -0,0 +1,66 @@
+package api.service.SearchService.query;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 정규화된 채용 공고 검색 조건이다.
+ * 같은 조건이면 파라미터 순서나 중복과 관계없이 equals/hashCode가 같으므로 캐시 키로 사용한다.
+ *
+ * @param title 채용공고 제목 (앞뒤 공백 제거, 비어 있으면 null)
+ * @param skills 기술 목록 (중복 제거 후 정렬)
+ * @param experienceTypes 경력 유형 목록 (중복 제거 후 정렬)
+ * @param sortMode 마감일 정렬 방법
+ * @param cursor 다음 페이지 커서 ({@link PageCursor}), 첫 페이지면 null
+ * @param size 페이지 크기
+ * @param projection 가져올 source 필드 범위
+ */
+public record SearchQuery(
+        String title,
+        List<String> skills,
+        List<String> experienceTypes,
+        SortMode sortMode,
+        String cursor,
+        int size,
+        Projection projection) {
+
+    /**
+     * 요청 파라미터를 정규화하여 SearchQuery를 생성하는 메서드이다.
+     *
+     * @return 정규화된 SearchQuery
+     * @throws IllegalArgumentException sortByDeadline 값이 올바르지 않은 경우
+     */
+    public static SearchQuery of(
+            String title,
+            List<String> skills,
+            List<String> experienceTypes,
+            Integer sortByDeadline,
+            String cursor,
+            int size,
+            Projection projection) {
+        return new SearchQuery(
+                title == null || title.isBlank() ? null : title.trim(),
+                normalize(skills),
+                normalize(experienceTypes),
+                SortMode.from(sortByDeadline),
+                cursor == null || cursor.isBlank() ? null : cursor.trim(),
+                size,
+                projection == null ? Projection.LISTING : projection);
+    }
+
+    public boolean hasTitle() {
+        return title != null;
+    }
+
+    // null, 빈 값 제거 후 중복 제거 및 정렬
+    private static List<String> normalize(List<String> values) {
+        if (values == null) return List.of();
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,43 @@
+package api.service.SearchService.query;
+
+import org.opensearch.search.sort.SortOrder;
+
+/**
+ * 검색 결과의 마감일 정렬 방법이다.
+ */
+public enum SortMode {
+
+    // 마감일 오름차순 정렬 (기본)
+    DEADLINE_ASC(SortOrder.ASC),
+    // 마감일 내림차순 정렬, 상시채용 제외
+    DEADLINE_DESC(SortOrder.DESC),
+    // 상시채용만 조회
+    OPEN_ENDED(null);
+
+    private final SortOrder order;
+
+    SortMode(SortOrder order) {
+        this.order = order;
+    }
+
+    public SortOrder order() {
+        return order;
+    }
+
+    /**
+     * 요청 파라미터 sortByDeadline 값을 SortMode로 변환하는 메서드이다.
+     *
+     * @param sortByDeadline -1: 내림차순, 0: 상시채용, 1 또는 null: 오름차순
+     * @return SortMode
+     * @throws IllegalArgumentException 지원하지 않는 값인 경우
+     */
+    public static SortMode from(Integer sortByDeadline) {
+        if (sortByDeadline == null) return DEADLINE_ASC;
+        return switch (sortByDeadline) {
+            case -1 -> DEADLINE_DESC;
+            case 0 -> OPEN_ENDED;
+            case 1 -> DEADLINE_ASC;
+            default -> throw new IllegalArgumentException("invalid sortByDeadline: " + sortByDeadline);
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package api.service.SearchService.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 원격 JWKS의 공개 키를 캐시해 두고 토큰 헤더의 kid로 검증 키를 찾는 클래스이다.
+ * 액세스 토큰을 Gateway의 JWKS(jwt.access.jwks-uri)로 검증하는 데 사용한다.
+ * MemberService의 JwksKeyResolver와 같은 코드이며 (서비스 간 공유 모듈이 없음), 수정할 때는 함께 맞춘다.
+ *
+ * <p>키 목록은 요청마다 가져오지 않는다. 캐시가 refreshInterval 보다 오래되었거나
+ * 처음 보는 kid(키 교체)가 들어온 경우에만 다시 가져오며, 연속 조회는 최소 간격으로 제한한다.</p>
+ */
+@Slf4j
+public class JwksKeyResolver extends SigningKeyResolverAdapter {
+
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    private final String jwksUri;
+    private final Duration refreshInterval;
+
+    private final RestClient restClient = RestClient.create();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long fetchedAt;
+
+    public JwksKeyResolver(String jwksUri, Duration refreshInterval) {
+        this.jwksUri = jwksUri;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        if (kid == null) throw new UnsupportedJwtException("JWT key id is missing");
+
+        if (fetchedAt == 0 || System.nanoTime() - fetchedAt > refreshInterval.toNanos()) refresh();
+
+        PublicKey key = keys.get(kid);
+        if (key == null && refresh()) key = keys.get(kid);
+        if (key == null) throw new UnsupportedJwtException("unknown JWT key id: " + kid);
+        return key;
+    }
+
+    /**
+     * JWKS를 다시 가져와 캐시를 교체하는 메서드이다.
+     * 조회에 실패하면 기존 키 목록을 그대로 유지한다.
+     *
+     * @return 키 목록을 새로 가져왔으면 true, 최소 간격 이내이거나 실패했으면 false
+     */
+    private synchronized boolean refresh() {
+        long now = System.nanoTime();
+        if (fetchedAt != 0 && now - fetchedAt < MIN_REFRESH_INTERVAL.toNanos()) return false;
+        fetchedAt = now;
+
+        try {
+            Map<?, ?> jwks = restClient.get().uri(jwksUri).retrieve().body(Map.class);
+            Map<String, PublicKey> fetched = new HashMap<>();
+            for (Object jwk : (List<?>) jwks.get("keys")) {
+                Map<?, ?> values = (Map<?, ?>) jwk;
+                if (!"RSA".equals(values.get("kty"))) continue;
+                fetched.put((String) values.get("kid"), toPublicKey((String) values.get("n"), (String) values.get("e")));
+            }
+            keys = Map.copyOf(fetched);
+            log.info("JWKS 갱신: {} keys", fetched.size());
+            return true;
+        } catch (Exception e) {
+            log.error("JWKS 조회 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static PublicKey toPublicKey(String modulus, String exponent) throws Exception {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(
+                new BigInteger(1, decoder.decode(modulus)),
+                new BigInteger(1, decoder.decode(exponent)));
+        return KeyFactory.getInstance("RSA").generatePublic(spec);
+    }
+}
@@ -0,0 +1,281 @@
+package api.service.SearchService.service;
+
+import api.service.SearchService.cache.SearchIndexChangedEvent;
+import api.service.SearchService.document.JobPosting;
+import api.service.SearchService.dto.IngestResult;
+import api.service.SearchService.ingest.PostingReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkIngestService {
+
+    @Value("${opensearch.index}")
+    private String searchIndex;
+    @Value("${ingest.bulk.initial-bytes:5MB}")
+    private DataSize initialBatchSize;
+    @Value("${ingest.bulk.min-bytes:1MB}")
+    private DataSize minBatchSize;
+    @Value("${ingest.bulk.max-bytes:15MB}")
+    private DataSize maxBatchSize;
+    // 이 시간보다 빨리 끝나면 배치를 키우고, 느리면 줄인다.
+    @Value("${ingest.bulk.target-latency:1s}")
+    private Duration targetLatency;
+    @Value("${ingest.bulk.concurrency:4}")
+    private int concurrency;
+    @Value("${ingest.bulk.max-retries:5}")
+    private int maxRetries;
+    @Value("${ingest.bulk.retry-backoff:500ms}")
+    private Duration retryBackoff;
+
+    private final RestHighLevelClient restHighLevelClient;
+    private final RequestOptions requestOptions;
+    private final ObjectMapper objectMapper;
+    private final PostingReader postingReader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private ObjectWriter jobPostingWriter;
+    private ScheduledExecutorService retryScheduler;
+
+    @PostConstruct
+    public void init() {
+        jobPostingWriter = objectMapper.writerFor(JobPosting.class);
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bulk-ingest-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+    }
+
+    /**
+     * 채용 공고 파일을 읽어 OpenSearch 인덱스에 bulk API로 저장하는 메서드이다.
+     *
+     * 파일은 줄 단위 JSON(NDJSON) 또는 JSON 배열이며, 전체를 메모리에 올리지 않고 문서 단위로 읽는다.
+     * bulk 요청은 바이트 크기 기준으로 나누고, 응답 시간과 거절(429) 여부에 따라 배치 크기를 조절한다.
+     * 동시에 보내는 bulk 요청 수는 ingest.bulk.concurrency로 제한하고,
+     * 거절된 문서는 지수 백오프로 ingest.bulk.max-retries번까지 다시 보낸다.
+     * 재시도를 기다리는 요청도 permit을 계속 가지고 있으므로, 거절이 이어지면 파일 읽기가 함께 느려진다.
+     * 검색 중인 인덱스에 저장한 경우 SearchIndexChangedEvent를 발행하여 인덱스 기반 캐시를 비운다.
+     *
+     * @param location 파일 또는 디렉터리 위치 (로컬 경로 또는 s3://버킷/접두사)
+     * @param index 저장할 인덱스 이름
+     * @return IngestResult 저장 결과
+     * @throws IOException 파일을 읽는 중 예외 발생 시
+     * @throws IllegalArgumentException 위치를 처리할 수 있는 저장소가 없는 경우
+     */
+    public IngestResult ingest(String location, String index) throws IOException {
+        long start = System.nanoTime();
+        BulkRun run = new BulkRun(index);
+        List<String> files = postingReader.list(location);
+        try {
+            for (String file : files) {
+                postingReader.read(file, run::add);
+                log.info("read posting file: {}", file);
+            }
+            run.flush();
+        } finally {
+            run.awaitCompletion();
+        }
+
+        IngestResult result = IngestResult.builder()
+                .index(index)
+                .files(files.size())
+                .read(run.read.get())
+                .skipped(run.skipped.get())
+                .indexed(run.indexed.get())
+                .failed(run.failed.get())
+                .retried(run.retried.get())
+                .bulkRequests(run.bulkRequests.get())
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+        // 검색 중인 인덱스에 바로 저장한 경우에만 발행, 새 인덱스는 alias를 옮길 때 발행한다.
+        if (result.getIndexed() > 0 && index.equals(searchIndex)) {
+            eventPublisher.publishEvent(new SearchIndexChangedEvent(index));
+        }
+        log.info("ingest {} into {}: read={}, indexed={}, failed={}, retried={}, {}ms", location, index,
+                result.getRead(), result.getIndexed(), result.getFailed(), result.getRetried(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 한 번의 ingest 실행 동안의 bulk 요청 상태이다.
+     */
+    private final class BulkRun {
+
+        private final String index;
+        private final Semaphore permits = new Semaphore(concurrency);
+        // 진행 중인 bulk 요청과 예약된 재시도를 추적, 실행 스레드가 1 party로 참여한다.
+        private final Phaser inFlight = new Phaser(1);
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong indexed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong retried = new AtomicLong();
+        private final AtomicLong bulkRequests = new AtomicLong();
+        private volatile long batchBytes = initialBatchSize.toBytes();
+        private BulkRequest current = new BulkRequest();
+
+        BulkRun(String index) {
+            this.index = index;
+        }
+
+        void add(JobPosting posting) throws IOException {
+            read.incrementAndGet();
+            if (posting == null) {
+                skipped.incrementAndGet();
+                return;
+            }
+            String id = posting.getId();
+            posting.setId(null);
+            current.add(new IndexRequest(index)
+                    .id(id)
+                    .source(jobPostingWriter.writeValueAsBytes(posting), XContentType.JSON));
+            if (current.estimatedSizeInBytes() >= batchBytes) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (current.numberOfActions() == 0) return;
+            BulkRequest request = current;
+            current = new BulkRequest();
+            permits.acquireUninterruptibly();
+            inFlight.register();
+            send(request, 0);
+        }
+
+        // permit을 가진 상태에서 호출한다. 요청을 보내지 못하면 실패로 집계하고 permit과 party를 반납한다.
+        private void send(BulkRequest request, int attempt) {
+            bulkRequests.incrementAndGet();
+            try {
+                restHighLevelClient.bulkAsync(request, requestOptions, listener(request, attempt));
+            } catch (RuntimeException e) {
+                log.error("Failed to submit bulk request", e);
+                failed.addAndGet(request.numberOfActions());
+                complete();
+            }
+        }
+
+        private ActionListener<BulkResponse> listener(BulkRequest request, int attempt) {
+            long start = System.nanoTime();
+            return new ActionListener<>() {
+                @Override
+                public void onResponse(BulkResponse bulkResponse) {
+                    List<DocWriteRequest<?>> rejected = new ArrayList<>();
+                    BulkItemResponse[] items = bulkResponse.getItems();
+                    for (int i = 0; i < items.length; i++) {
+                        BulkItemResponse item = items[i];
+                        if (!item.isFailed()) {
+                            indexed.incrementAndGet();
+                        } else if (item.status() == RestStatus.TOO_MANY_REQUESTS) {
+                            rejected.add(request.requests().get(i));
+                        } else {
+                            failed.incrementAndGet();
+                            log.warn("Failed to index posting {}: {}", item.getId(), item.getFailureMessage());
+                        }
+                    }
+                    adjustBatchSize(System.nanoTime() - start, !rejected.isEmpty());
+                    if (rejected.isEmpty()) {
+                        complete();
+                    } else {
+                        BulkRequest retry = new BulkRequest();
+                        rejected.forEach(retry::add);
+                        retryLater(retry, attempt);
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    boolean rejected = e instanceof OpenSearchStatusException statusException
+                            && statusException.status() == RestStatus.TOO_MANY_REQUESTS;
+                    adjustBatchSize(System.nanoTime() - start, true);
+                    if (rejected) {
+                        retryLater(request, attempt);
+                    } else {
+                        log.error("Failed to send bulk request", e);
+                        failed.addAndGet(request.numberOfActions());
+                        complete();
+                    }
+                }
+            };
+        }
+
+        // 거절된 요청을 지수 백오프 후 다시 보낸다.
+        // permit은 반납하지 않고 재시도까지 가지고 있어, 스케줄러 스레드가 permit을 기다리며 멈추지 않는다.
+        private void retryLater(BulkRequest request, int attempt) {
+            if (attempt >= maxRetries) {
+                log.warn("give up {} rejected postings after {} retries", request.numberOfActions(), attempt);
+                failed.addAndGet(request.numberOfActions());
+                complete();
+                return;
+            }
+            retried.addAndGet(request.numberOfActions());
+            long delay = retryBackoff.toMillis() << Math.min(attempt, 10);
+            try {
+                retryScheduler.schedule(() -> send(request, attempt + 1), delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                log.warn("retry scheduler is shut down, give up {} rejected postings", request.numberOfActions());
+                failed.addAndGet(request.numberOfActions());
+                complete();
+            }
+        }
+
+        private void complete() {
+            permits.release();
+            inFlight.arriveAndDeregister();
+        }
+
+        // 응답이 빠르면 배치를 키우고(x1.25), 느리거나 거절되면 줄인다(x0.5).
+        private void adjustBatchSize(long tookNanos, boolean pressure) {
+            long bytes = batchBytes;
+            if (pressure || tookNanos > targetLatency.toNanos()) {
+                bytes = Math.max(minBatchSize.toBytes(), bytes / 2);
+            } else {
+                bytes = Math.min(maxBatchSize.toBytes(), bytes + bytes / 4);
+            }
+            batchBytes = bytes;
+        }
+
+        void awaitCompletion() {
+            inFlight.arriveAndAwaitAdvance();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package api.service.SearchService.service;
+
+import api.service.SearchService.cache.FacetCache;
+import api.service.SearchService.dto.FacetResult;
+import api.service.SearchService.query.QueryPlanner;
+import api.service.SearchService.query.SearchQuery;
+import api.service.SearchService.skill.SkillDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FacetService {
+
+    private static final String SKILLS_AGGREGATION = "skills";
+    private static final String EXPERIENCE_TYPES_AGGREGATION = "experienceTypes";
+
+    @Value("${opensearch.index}")
+    private String index;
+    @Value("${search.facet.skill-size:50}")
+    private int skillSize;
+    private final RestHighLevelClient restHighLevelClient;
+    private final RequestOptions requestOptions;
+    private final QueryPlanner queryPlanner;
+    private final FacetCache facetCache;
+    private final SkillDictionary skillDictionary;
+
+    /**
+     * 검색 조건에 해당하는 채용 공고의 기술별, 경력 유형별 개수를 집계하는 메서드이다.
+     * 채용 공고 검색과 같은 필터를 사용하며, 문서는 가져오지 않고(size 0) 집계 결과만 요청한다.
+     * 같은 필터 조건의 집계 결과는 캐시된 값을 반환한다.
+     *
+     * @param title 채용공고 제목
+     * @param skills 채용공고에서 요구하는 기술 목록
+     * @param experienceTypes 채용공고에서 요구하는 경력 유형 목록(신입, 경력, 무관)
+     * @param sortByDeadline 마감일 정렬 방법 (-1: 마감일이 있는 공고, 0: 상시채용, 1 또는 null: 전체)
+     * @return CompletableFuture<FacetResult> 집계 결과
+     * @throws IllegalArgumentException 정렬 방법이 올바르지 않은 경우
+     */
+    public CompletableFuture<FacetResult> countFacets(
+            String title,
+            List<String> skills,
+            List<String> experienceTypes,
+            Integer sortByDeadline) {
+        SearchQuery query = SearchQuery.of(title, skillDictionary.canonicalize(skills), experienceTypes, sortByDeadline, null, 0, null);
+        return facetCache.get(query, this::aggregate);
+    }
+
+    // OpenSearch 비동기 집계 요청
+    private CompletableFuture<FacetResult> aggregate(SearchQuery query) {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder()
+                .query(queryPlanner.filter(query))
+                .size(0)
+                .trackTotalHits(false)
+                .aggregation(AggregationBuilders.terms(SKILLS_AGGREGATION).field("skills").size(skillSize))
+                .aggregation(AggregationBuilders.terms(EXPERIENCE_TYPES_AGGREGATION).field("experienceType"));
+        SearchRequest searchRequest = new SearchRequest(index)
+                .source(sourceBuilder)
+                .requestCache(true);
+
+        CompletableFuture<FacetResult> future = new CompletableFuture<>();
+        restHighLevelClient.searchAsync(searchRequest, requestOptions, new ActionListener<>() {
+            @Override
+            public void onResponse(SearchResponse searchResponse) {
+                future.complete(FacetResult.builder()
+                        .skills(toSkillCounts(searchResponse.getAggregations().get(SKILLS_AGGREGATION)))
+                        .experienceTypes(toCounts(searchResponse.getAggregations().get(EXPERIENCE_TYPES_AGGREGATION)))
+                        .build());
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    // 기술 집계 결과를 표준 이름별로 합쳐 개수 내림차순으로 변환
+    // 기술 사전 적용 전에 적재한 문서의 원래 표기도 표준 이름으로 센다.
+    private Map<String, Long> toSkillCounts(Terms terms) {
+        Map<String, Long> merged = new LinkedHashMap<>();
+        for (Terms.Bucket bucket : terms.getBuckets()) {
+            String skill = skillDictionary.canonicalize(bucket.getKeyAsString());
+            if (skill != null) merged.merge(skill, bucket.getDocCount(), Long::sum);
+        }
+        Map<String, Long> counts = new LinkedHashMap<>();
+        merged.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+        return counts;
+    }
+
+    // terms 집계 결과를 (값, 개수) Map으로 변환, 개수 내림차순 유지
+    private Map<String, Long> toCounts(Terms terms) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Terms.Bucket bucket : terms.getBuckets()) {
+            counts.put(bucket.getKeyAsString(), bucket.getDocCount());
+        }
+        return counts;
+    }
+}
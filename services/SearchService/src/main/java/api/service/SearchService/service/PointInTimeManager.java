@@ -0,0 +1,96 @@
+package api.service.SearchService.service;
+
+import api.service.SearchService.cache.SearchIndexChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 첫 페이지 검색에 사용할 Point In Time(PIT)을 관리하는 클래스이다.
+ * 검색마다 PIT을 만들지 않고 search.pit.rotate-interval 동안 하나의 PIT을 공유하여
+ * 열려 있는 PIT 수를 제한한다.
+ * 이전 PIT은 삭제하지 않으며, 이어지는 페이지 요청이 없으면 search.pit.keep-alive 후 만료된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointInTimeManager {
+
+    @Value("${opensearch.index}")
+    private String index;
+    @Value("${search.pit.keep-alive:5m}")
+    private Duration keepAlive;
+    @Value("${search.pit.rotate-interval:1m}")
+    private Duration rotateInterval;
+    private final RestHighLevelClient restHighLevelClient;
+    private final RequestOptions requestOptions;
+
+    private volatile CompletableFuture<String> current;
+    private volatile long createdAt;
+
+    public TimeValue keepAlive() {
+        return TimeValue.timeValueMillis(keepAlive.toMillis());
+    }
+
+    /**
+     * 현재 공유 중인 PIT ID를 반환하는 메서드이다.
+     * PIT이 없거나, 생성에 실패했거나, rotate-interval이 지났으면 새 PIT을 만든다.
+     *
+     * @return CompletableFuture<String> PIT ID
+     */
+    public CompletableFuture<String> current() {
+        CompletableFuture<String> pit = current;
+        if (pit != null && !pit.isCompletedExceptionally()
+                && System.nanoTime() - createdAt < rotateInterval.toNanos()) {
+            return pit;
+        }
+        synchronized (this) {
+            pit = current;
+            if (pit != null && !pit.isCompletedExceptionally()
+                    && System.nanoTime() - createdAt < rotateInterval.toNanos()) {
+                return pit;
+            }
+            createdAt = System.nanoTime();
+            current = pit = create();
+            return pit;
+        }
+    }
+
+    @EventListener
+    public void onIndexChanged(SearchIndexChangedEvent event) {
+        current = null;
+    }
+
+    // PIT 생성 요청
+    private CompletableFuture<String> create() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        restHighLevelClient.createPitAsync(
+                new CreatePitRequest(keepAlive(), false, index),
+                requestOptions,
+                new ActionListener<>() {
+                    @Override
+                    public void onResponse(CreatePitResponse createPitResponse) {
+                        log.info("create point in time: {}", createPitResponse.getId());
+                        future.complete(createPitResponse.getId());
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        log.error("Failed to create point in time", e);
+                        future.completeExceptionally(e);
+                    }
+                });
+        return future;
+    }
+}
@@ -0,0 +1,304 @@
+package api.service.SearchService.service;
+
+import api.service.SearchService.cache.SearchIndexChangedEvent;
+import api.service.SearchService.dto.IngestResult;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.admin.cluster.health.ClusterHealthRequest;
+import org.opensearch.action.admin.cluster.health.ClusterHealthResponse;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.opensearch.action.admin.indices.alias.get.GetAliasesRequest;
+import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.opensearch.action.admin.indices.forcemerge.ForceMergeRequest;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.indices.CreateIndexRequest;
+import org.opensearch.client.indices.GetIndexRequest;
+import org.opensearch.client.indices.GetIndexResponse;
+import org.opensearch.client.indices.GetMappingsRequest;
+import org.opensearch.cluster.health.ClusterHealthStatus;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 인덱스를 새 인덱스로 다시 적재하고 alias를 옮겨 무중단으로 교체하는 클래스이다.
+ *
+ * opensearch.index는 alias 이름이며, 실제 데이터는 "{alias}-{적재 시각}" 인덱스에 저장한다.
+ * 새 인덱스는 적재하는 동안 refresh를 끄고 replica를 0으로 두어 검색 중인 인덱스와 자원 경합을 줄이고,
+ * 적재가 끝나면 force merge, replica 복원 후 alias를 한 번의 요청으로 옮긴다.
+ * 이전 인덱스는 열려 있는 PIT 커서가 만료될 수 있도록 search.reindex.retain개까지 남겨 둔다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReindexService {
+
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String MAPPING_RESOURCE = "opensearch/job-posting-mapping.json";
+
+    @Value("${opensearch.index}")
+    private String alias;
+    @Value("${search.reindex.location:}")
+    private String scheduledLocation;
+    @Value("${search.reindex.shards:1}")
+    private int shards;
+    @Value("${search.reindex.replicas:1}")
+    private int replicas;
+    @Value("${search.reindex.refresh-interval:1s}")
+    private String refreshInterval;
+    @Value("${search.reindex.max-segments:1}")
+    private int maxSegments;
+    @Value("${search.reindex.health-timeout:10m}")
+    private Duration healthTimeout;
+    // 실패한 문서 비율이 이 값을 넘으면 alias를 옮기지 않는다.
+    @Value("${search.reindex.max-failure-ratio:0.01}")
+    private double maxFailureRatio;
+    // alias가 가리키는 인덱스 외에 남겨 둘 이전 인덱스 수
+    @Value("${search.reindex.retain:1}")
+    private int retain;
+    private final RestHighLevelClient restHighLevelClient;
+    private final RequestOptions requestOptions;
+    private final ObjectMapper objectMapper;
+    private final BulkIngestService bulkIngestService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-reindex");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * search.reindex.cron 주기로 search.reindex.location의 채용 공고를 다시 적재하는 메서드이다.
+     * cron을 설정하지 않으면 실행하지 않는다.
+     */
+    @Scheduled(cron = "${search.reindex.cron:-}", zone = "Asia/Seoul")
+    public void scheduledReindex() {
+        if (scheduledLocation.isBlank()) {
+            log.warn("search.reindex.location is not set, skip scheduled reindex");
+            return;
+        }
+        try {
+            reindex(scheduledLocation);
+        } catch (Exception e) {
+            log.error("Failed to reindex job postings", e);
+        }
+    }
+
+    /**
+     * 채용 공고를 새 인덱스에 적재한 뒤 검색 alias를 새 인덱스로 옮기는 메서드이다.
+     *
+     * 적재 결과가 비어 있거나 실패 비율이 search.reindex.max-failure-ratio를 넘으면
+     * 새 인덱스를 삭제하고 기존 인덱스를 계속 사용한다.
+     *
+     * @param location 파일 또는 디렉터리 위치 (로컬 경로 또는 s3://버킷/접두사)
+     * @return IngestResult 새 인덱스 적재 결과
+     * @throws IOException OpenSearch 요청 또는 파일 읽기 중 예외 발생 시
+     * @throws IllegalStateException 다른 재적재가 진행 중이거나 적재 결과가 기준에 못 미치는 경우
+     */
+    public IngestResult reindex(String location) throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("reindex is already running");
+        }
+        try {
+            return load(location);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 재적재를 백그라운드에서 시작하는 메서드이다.
+     * 다른 재적재가 진행 중인지는 호출한 스레드에서 바로 확인하고, 적재와 alias 교체는 별도 스레드에서 진행한다.
+     *
+     * @param location 파일 또는 디렉터리 위치 (로컬 경로 또는 s3://버킷/접두사)
+     * @return CompletableFuture<IngestResult> 새 인덱스 적재 결과, 실패하면 예외로 완료된다.
+     * @throws IllegalStateException 다른 재적재가 진행 중인 경우
+     */
+    public CompletableFuture<IngestResult> reindexAsync(String location) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("reindex is already running");
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return load(location);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor).whenComplete((result, e) -> running.set(false));
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    // running을 가진 상태에서 호출한다.
+    private IngestResult load(String location) throws IOException {
+        String index = alias + "-" + LocalDateTime.now().format(VERSION_FORMAT);
+        Set<String> current = currentIndices();
+        boolean concreteIndex = current.isEmpty() && exists(alias);
+
+        createIndex(index, concreteIndex ? alias : current.stream().findFirst().orElse(null));
+        IngestResult result;
+        try {
+            result = bulkIngestService.ingest(location, index);
+            if (result.getIndexed() == 0
+                    || result.getFailed() > (result.getIndexed() + result.getFailed()) * maxFailureRatio) {
+                throw new IllegalStateException("reindex into " + index + " indexed " + result.getIndexed()
+                        + ", failed " + result.getFailed());
+            }
+            finishLoad(index);
+        } catch (IOException | RuntimeException e) {
+            restHighLevelClient.indices().delete(new DeleteIndexRequest(index), requestOptions);
+            throw e;
+        }
+
+        swapAlias(index, current, concreteIndex);
+        eventPublisher.publishEvent(new SearchIndexChangedEvent(alias));
+        deleteOldIndices(index);
+        return result;
+    }
+
+    // alias가 가리키는 인덱스 목록, alias가 없으면 빈 목록
+    private Set<String> currentIndices() throws IOException {
+        return restHighLevelClient.indices()
+                .getAlias(new GetAliasesRequest(alias), requestOptions)
+                .getAliases()
+                .keySet();
+    }
+
+    private boolean exists(String index) throws IOException {
+        return restHighLevelClient.indices().exists(new GetIndexRequest(index), requestOptions);
+    }
+
+    // 적재용 설정으로 새 인덱스 생성, 매핑은 현재 인덱스에서 복사하고 없으면 기본 매핑 사용
+    private void createIndex(String index, String source) throws IOException {
+        Map<String, Object> mapping = source == null ? defaultMapping() : mappingOf(source);
+        CreateIndexRequest request = new CreateIndexRequest(index)
+                .settings(Settings.builder()
+                        .put("index.number_of_shards", shards)
+                        .put("index.number_of_replicas", 0)
+                        .put("index.refresh_interval", "-1"))
+                .mapping(mapping);
+        restHighLevelClient.indices().create(request, requestOptions);
+        log.info("created index {} with mapping from {}", index, source == null ? MAPPING_RESOURCE : source);
+    }
+
+    private Map<String, Object> mappingOf(String index) throws IOException {
+        Map<String, MappingMetadata> mappings = restHighLevelClient.indices()
+                .getMapping(new GetMappingsRequest().indices(index), requestOptions)
+                .mappings();
+        return mappings.values().stream()
+                .findFirst()
+                .map(MappingMetadata::sourceAsMap)
+                .orElseGet(this::defaultMapping);
+    }
+
+    private Map<String, Object> defaultMapping() {
+        try (InputStream in = new ClassPathResource(MAPPING_RESOURCE).getInputStream()) {
+            return objectMapper.readValue(in, new TypeReference<>() {});
+        } catch (IOException e) {
+            throw new IllegalStateException("failed to read " + MAPPING_RESOURCE, e);
+        }
+    }
+
+    // refresh 후 세그먼트를 합치고, 검색용 refresh 주기와 replica를 복원한 뒤 replica 할당을 기다림
+    private void finishLoad(String index) throws IOException {
+        restHighLevelClient.indices().refresh(new RefreshRequest(index), requestOptions);
+        restHighLevelClient.indices().forcemerge(new ForceMergeRequest(index).maxNumSegments(maxSegments), requestOptions);
+        restHighLevelClient.indices().putSettings(new UpdateSettingsRequest(index)
+                .settings(Settings.builder()
+                        .put("index.number_of_replicas", replicas)
+                        .put("index.refresh_interval", refreshInterval)), requestOptions);
+
+        ClusterHealthResponse health = restHighLevelClient.cluster().health(new ClusterHealthRequest(index)
+                .waitForGreenStatus()
+                .waitForNoInitializingShards(true)
+                .timeout(TimeValue.timeValueMillis(healthTimeout.toMillis())), requestOptions);
+        if (health.getStatus() == ClusterHealthStatus.RED) {
+            throw new IllegalStateException("index " + index + " is red");
+        }
+        if (health.isTimedOut()) {
+            log.warn("index {} is {} after {}, swap alias anyway", index, health.getStatus(), healthTimeout);
+        }
+    }
+
+    // alias를 새 인덱스로 옮김, alias와 같은 이름의 인덱스를 쓰고 있었다면 같은 요청에서 그 인덱스를 삭제
+    private void swapAlias(String index, Set<String> current, boolean concreteIndex) throws IOException {
+        IndicesAliasesRequest request = new IndicesAliasesRequest()
+                .addAliasAction(AliasActions.add().index(index).alias(alias));
+        if (concreteIndex) {
+            log.warn("index {} is not an alias, replace it with alias to {}", alias, index);
+            request.addAliasAction(AliasActions.removeIndex().index(alias));
+        } else if (!current.isEmpty()) {
+            request.addAliasAction(AliasActions.remove().indices(current.toArray(String[]::new)).alias(alias));
+        }
+        restHighLevelClient.indices().updateAliases(request, requestOptions);
+        log.info("moved alias {} from {} to {}", alias, current, index);
+    }
+
+    // 적재 시각 순으로 최근 retain개를 제외한 이전 인덱스 삭제
+    // "{alias}-yyyyMMdd-HHmmss" 형식이 아니거나 어떤 alias든 가리키고 있는 인덱스는 삭제하지 않는다.
+    private void deleteOldIndices(String index) throws IOException {
+        GetIndexResponse response = restHighLevelClient.indices()
+                .get(new GetIndexRequest(alias + "-*"), requestOptions);
+        Pattern versioned = Pattern.compile(Pattern.quote(alias) + "-\\d{8}-\\d{6}");
+        List<String> old = Arrays.stream(response.getIndices())
+                .filter(name -> !name.equals(index))
+                .filter(name -> versioned.matcher(name).matches())
+                .filter(name -> {
+                    List<AliasMetadata> aliases = response.getAliases().get(name);
+                    return aliases == null || aliases.isEmpty();
+                })
+                .sorted(Comparator.reverseOrder())
+                .skip(retain)
+                .toList();
+        if (old.isEmpty()) return;
+        restHighLevelClient.indices().delete(new DeleteIndexRequest(old.toArray(String[]::new)), requestOptions);
+        log.info("deleted old indices {}", old);
+    }
+}
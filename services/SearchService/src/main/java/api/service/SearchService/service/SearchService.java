@@ -1,26 +1,40 @@
 package api.service.SearchService.service;
 
+import api.service.SearchService.cache.SearchResultCache;
 import api.service.SearchService.document.JobPosting;
 import api.service.SearchService.dto.SearchResult;
+import api.service.SearchService.engine.EmbeddedSearchEngine;
+import api.service.SearchService.engine.EngineMode;
+import api.service.SearchService.query.PageCursor;
+import api.service.SearchService.query.Projection;
+import api.service.SearchService.query.QueryPlanner;
+import api.service.SearchService.query.SearchQuery;
+import api.service.SearchService.skill.SkillDictionary;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.http.entity.ContentType;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
-import org.opensearch.index.query.BoolQueryBuilder;
-import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.search.SearchHit;
-import org.opensearch.search.builder.SearchSourceBuilder;
-import org.opensearch.search.sort.SortOrder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -30,105 +44,196 @@ public class SearchService {
     @Value("${opensearch.index}")
     private String index;
     private final RestHighLevelClient restHighLevelClient;
+    private final RequestOptions requestOptions;
     private final ObjectMapper objectMapper;
+    @Value("${search.page.default-size:10}")
+    private int defaultPageSize;
+    @Value("${search.page.max-size:50}")
+    private int maxPageSize;
+    // 내장 검색 엔진으로 대신 응답하기 전까지 OpenSearch 응답을 기다리는 시간
+    @Value("${search.embedded.fallback-timeout:2s}")
+    private Duration fallbackTimeout;
+    private final SearchResultCache searchResultCache;
+    private final PointInTimeManager pointInTimeManager;
+    private final QueryPlanner queryPlanner;
+    private final EmbeddedSearchEngine embeddedSearchEngine;
+    private final SkillDictionary skillDictionary;
+    private ObjectReader jobPostingReader;
+
+    @PostConstruct
+    public void initReader() {
+        jobPostingReader = objectMapper.readerFor(JobPosting.class);
+    }
 
     /**
      * 채용 공고를 검색하는 메서드이다.
      * OpenSearch를 사용하여 채용 공고를 검색한다.
+     * 정규화된 검색 조건이 같은 요청은 캐시된 결과를 반환하고,
+     * 같은 조건의 검색이 진행 중이면 새로 요청하지 않고 진행 중인 결과를 함께 기다린다.
+     * OpenSearch 비동기 API를 사용하므로 응답을 기다리는 동안 요청 스레드를 점유하지 않는다.
+     * 페이지는 Point In Time(PIT)을 기준으로 나누므로 스크롤하는 동안 인덱스가 바뀌어도 결과가 밀리지 않는다.
+     * 내장 검색 엔진이 PRIMARY이면 내장 검색 엔진만 사용하고, FALLBACK이면 첫 페이지 검색이 실패하거나
+     * search.embedded.fallback-timeout 안에 끝나지 않을 때 내장 검색 엔진 결과를 반환한다.
      *
      * @param title 채용공고 제목
      * @param skills 채용공고에서 요구하는 기술 목록
      * @param experienceTypes 채용공고에서 요구하는 경력 유형 목록(신입, 경력, 무관)
      * @param sortByDeadline 마감일 순으로 정렬하는 방법 (-1: 내림차순, 0: 상시채용, 1: 오름차순)
-     * @param searchAfter 검색 이후의 결과를 가져오기 위한 값
-     * @return SearchResult 검색 결과
-     *
-     * @throws IOException OpenSearch API 호출 중 예외 발생 시 발생
+     * @param cursor 이전 검색 결과의 다음 페이지 커서, 첫 페이지면 null
+     * @param size 페이지 크기, null이면 기본값이며 search.page.max-size를 넘을 수 없다.
+     * @param projection 가져올 source 필드 범위 (LISTING: 목록 표시 필드, FULL: 전체)
+     * @return CompletableFuture<SearchResult> 검색 결과, OpenSearch API 호출 중 예외 발생 시 예외로 완료된다.
+     * @throws IllegalArgumentException 커서 형식이나 정렬 방법이 올바르지 않은 경우
      */
-    public SearchResult searchJob(
+    public CompletableFuture<SearchResult> searchJob(
             String title,
             List<String> skills,
             List<String> experienceTypes,
             Integer sortByDeadline,  // -1: 내림차순, 0: 상시채용, 1: 오름차순
-            Object[] searchAfter) throws IOException {
-        SearchRequest searchRequest = new SearchRequest(index);
-        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
-
-        BoolQueryBuilder boolQuery = QueryBuilders.boolQuery();
+            String cursor,
+            Integer size,
+            Projection projection) {
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        SearchQuery query = SearchQuery.of(title, skillDictionary.canonicalize(skills), experienceTypes, sortByDeadline, cursor, pageSize, projection);
+        PageCursor pageCursor = query.cursor() == null ? null : PageCursor.decode(query.cursor());
+        EngineMode engineMode = embeddedSearchEngine.mode();
+        if ((pageCursor != null && embeddedSearchEngine.owns(pageCursor)) || engineMode == EngineMode.PRIMARY) {
+            return embedded(() -> embeddedSearchEngine.search(query, pageCursor));
+        }
+        if (pageCursor != null) {
+            // 이어지는 페이지는 커서의 PIT을 그대로 사용
+            return searchResultCache.get(query, key -> search(key, pageCursor.pitId(), pageCursor.searchAfter()));
+        }
+        CompletableFuture<SearchResult> result = searchResultCache.get(query, key -> pointInTimeManager.current()
+                .thenCompose(pitId -> search(key, pitId, null)));
+        if (engineMode != EngineMode.FALLBACK) {
+            return result;
+        }
+        // 캐시에 공유된 future에 timeout이 걸리지 않도록 복사본에 설정
+        return result.copy()
+                .orTimeout(fallbackTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(e -> fallback(e, () -> embeddedSearchEngine.search(query, null)));
+    }
 
-        // 제목 필터링
-        if (title != null && !title.isEmpty()) {
-            boolQuery.must(QueryBuilders.matchQuery("title", title));
+    /**
+     * 채용 공고 하나의 전체 정보를 조회하는 메서드이다.
+     *
+     * @param id 채용 공고 문서 ID
+     * @return CompletableFuture<JobPosting> 채용 공고, 없으면 null로 완료된다.
+     */
+    public CompletableFuture<JobPosting> getJob(String id) {
+        EngineMode engineMode = embeddedSearchEngine.mode();
+        if (engineMode == EngineMode.PRIMARY) {
+            return embedded(() -> embeddedSearchEngine.get(id));
+        }
+        CompletableFuture<JobPosting> result = get(id);
+        if (engineMode != EngineMode.FALLBACK) {
+            return result;
         }
+        return result
+                .orTimeout(fallbackTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(e -> fallback(e, () -> embeddedSearchEngine.get(id)));
+    }
 
-        // 스킬 필터링
-        if (skills != null && !skills.isEmpty()) {
-            boolQuery.filter(QueryBuilders.termsQuery("skills", skills));
+    // 내장 검색 엔진 결과, 인덱스를 아직 불러오지 않았으면 예외로 완료
+    private <T> CompletableFuture<T> embedded(Supplier<T> embedded) {
+        try {
+            return CompletableFuture.completedFuture(embedded.get());
+        } catch (IllegalStateException e) {
+            return CompletableFuture.failedFuture(e);
         }
+    }
 
-        // 경력 유형 필터링
-        if (experienceTypes != null && !experienceTypes.isEmpty()) {
-            boolQuery.filter(QueryBuilders.termsQuery("experienceType", experienceTypes));
+    // OpenSearch 요청이 실패하면 내장 검색 엔진 결과로 완료, 내장 검색 엔진도 준비되지 않았으면 원래 예외로 완료
+    private <T> CompletableFuture<T> fallback(Throwable e, Supplier<T> embedded) {
+        if (!embeddedSearchEngine.isReady()) {
+            return CompletableFuture.failedFuture(e);
         }
+        log.warn("OpenSearch request failed, answer from embedded search engine: {}", e.toString());
+        return CompletableFuture.completedFuture(embedded.get());
+    }
 
-        // sortByDeadline 값에 따른 처리
-        if (sortByDeadline != null) {
-            if (sortByDeadline == -1) {
-                // 마감일 내림차순 정렬
-                sourceBuilder.sort("deadline_ts", SortOrder.DESC);
-                boolQuery.filter(QueryBuilders.rangeQuery("deadline_ts").lt(Integer.MAX_VALUE));
-            } else if (sortByDeadline == 0) {
-                // 상시채용 필터링
-                boolQuery.filter(QueryBuilders.rangeQuery("deadline_ts").gt(Integer.MAX_VALUE));
-            } else if (sortByDeadline == 1) {
-                // 마감일 오름차순 정렬
-                sourceBuilder.sort("deadline_ts", SortOrder.ASC);
+    // OpenSearch 비동기 문서 조회 요청
+    private CompletableFuture<JobPosting> get(String id) {
+        CompletableFuture<JobPosting> future = new CompletableFuture<>();
+        restHighLevelClient.getAsync(new GetRequest(index, id), requestOptions, new ActionListener<>() {
+            @Override
+            public void onResponse(GetResponse getResponse) {
+                if (!getResponse.isExists() || getResponse.isSourceEmpty()) {
+                    future.complete(null);
+                    return;
+                }
+                try {
+                    future.complete(readJobPosting(getResponse.getId(), getResponse.getSourceAsBytesRef()));
+                } catch (IOException e) {
+                    future.completeExceptionally(e);
+                }
             }
-        } else {
-            // sortByDeadline이 null인 경우에도 정렬 필드를 지정
-            sourceBuilder.sort("deadline_ts", SortOrder.ASC);
-        }
 
-        sourceBuilder.sort("_id", SortOrder.ASC);
+            @Override
+            public void onFailure(Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
 
-        // search_after 설정
-        if (searchAfter != null && searchAfter.length > 0) {
-            log.info("search after");
-            sourceBuilder.searchAfter(searchAfter);
-        }
-        sourceBuilder.size(10);
-        sourceBuilder.query(boolQuery);
-        searchRequest.source(sourceBuilder);
+    // OpenSearch 비동기 검색 요청
+    private CompletableFuture<SearchResult> search(SearchQuery query, String pitId, Object[] searchAfter) {
+        SearchRequest searchRequest = queryPlanner.plan(query, pitId, pointInTimeManager.keepAlive(), searchAfter);
 
-        // 검색 요청 후 응답 저장
-        SearchResponse searchResponse = restHighLevelClient.search(
+        CompletableFuture<SearchResult> future = new CompletableFuture<>();
+        restHighLevelClient.searchAsync(
                 searchRequest,
-                RequestOptions.DEFAULT.toBuilder()
-                        .addHeader("Content-Type", ContentType.APPLICATION_JSON.getMimeType())
-                        .build());
+                requestOptions,
+                new ActionListener<>() {
+                    @Override
+                    public void onResponse(SearchResponse searchResponse) {
+                        future.complete(toSearchResult(searchResponse, pitId, query.size()));
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        future.completeExceptionally(e);
+                    }
+                });
+        return future;
+    }
 
+    // 검색 응답을 SearchResult로 변환
+    private SearchResult toSearchResult(SearchResponse searchResponse, String pitId, int size) {
         // 검색 결과 파싱하여 source 추출 후 JobPosting 객체로 변환
-        List<JobPosting> jobPostings = new ArrayList<>();
         SearchHit[] hits = searchResponse.getHits().getHits();
+        List<JobPosting> jobPostings = new ArrayList<>(hits.length);
         for(SearchHit hit : hits){
+            BytesReference source = hit.getSourceRef();
+            if (source == null) continue;
             try {
-                JobPosting job = objectMapper.readValue(hit.getSourceAsString(), JobPosting.class);
-                jobPostings.add(job);
+                jobPostings.add(readJobPosting(hit.getId(), source));
             } catch (IOException e) {
                 log.info("Failed to parse search response", e);
             }
         }
 
-        // 검색 결과에서 마지막 문서 sort 필드 추출
-        Object[] sortValues = null;
-        if(hits.length>0){
+        // 검색 결과에서 마지막 문서 sort 필드로 다음 페이지 커서 생성, 마지막 페이지면 null
+        String nextCursor = null;
+        if(hits.length == size){
             SearchHit lastHit = hits[hits.length-1];
-            sortValues = lastHit.getSortValues();
+            nextCursor = new PageCursor(pitId, lastHit.getSortValues()).encode();
         }
 
         return SearchResult.builder()
                 .jobPostings(jobPostings)
-                .searchAfter(sortValues)
+                .cursor(nextCursor)
                 .build();
     }
+
+    // source 바이트를 문자열로 변환하지 않고 바로 JobPosting 객체로 변환
+    private JobPosting readJobPosting(String id, BytesReference source) throws IOException {
+        try (InputStream in = source.streamInput()) {
+            JobPosting job = jobPostingReader.readValue(in);
+            job.setId(id);
+            return job;
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package api.service.SearchService.service;
+
+import api.service.SearchService.document.JobPosting;
+import api.service.SearchService.dto.SnapshotResult;
+import api.service.SearchService.engine.EmbeddedSearchEngine;
+import api.service.SearchService.ingest.PostingReader;
+import api.service.SearchService.snapshot.PostingSnapshotValidator;
+import api.service.SearchService.snapshot.PostingSnapshotWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SnapshotService {
+
+    @Value("${search.embedded.snapshot:}")
+    private String embeddedSnapshot;
+    private final PostingReader postingReader;
+    private final EmbeddedSearchEngine embeddedSearchEngine;
+
+    /**
+     * 수집된 채용 공고 파일을 내장 검색 엔진이 사용하는 스냅샷 파일로 변환하는 메서드이다.
+     * 저장한 파일을 검사하고, 문제가 없으면 내장 검색 엔진을 다시 불러온다.
+     *
+     * @param location 파일 또는 디렉터리 위치 (로컬 경로 또는 s3://버킷/접두사)
+     * @return SnapshotResult 저장 결과와 검사 결과
+     * @throws IOException 파일을 읽거나 저장하는 중 예외 발생 시
+     * @throws IllegalArgumentException 스냅샷 경로를 설정하지 않았거나 위치를 처리할 수 있는 저장소가 없는 경우
+     */
+    public SnapshotResult write(String location) throws IOException {
+        long start = System.nanoTime();
+        Path path = resolve(null);
+        List<JobPosting> postings = new ArrayList<>();
+        for (String file : postingReader.list(location)) {
+            postingReader.read(file, posting -> {
+                if (posting != null) postings.add(posting);
+            });
+        }
+
+        int written = PostingSnapshotWriter.write(postings, path);
+        List<String> problems = PostingSnapshotValidator.validate(path);
+        log.info("write posting snapshot {}: postings={}, bytes={}, problems={}", path, written, Files.size(path), problems);
+
+        if (problems.isEmpty()) {
+            embeddedSearchEngine.reload();
+        }
+        return SnapshotResult.builder()
+                .path(path.toString())
+                .postings(written)
+                .bytes(Files.size(path))
+                .problems(problems)
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
+    /**
+     * 스냅샷 디렉터리 안의 컬럼 스냅샷 파일을 검사하는 메서드이다.
+     *
+     * @param snapshot 스냅샷 디렉터리 기준 상대 경로 또는 디렉터리 안의 절대 경로, 없으면 내장 검색 엔진이 사용하는 스냅샷
+     * @return SnapshotResult 검사 결과
+     * @throws IOException 파일을 열 수 없는 경우
+     * @throws IllegalArgumentException 스냅샷 경로를 설정하지 않았거나 경로가 스냅샷 디렉터리를 벗어나는 경우
+     */
+    public SnapshotResult validate(String snapshot) throws IOException {
+        long start = System.nanoTime();
+        Path path = resolve(snapshot);
+        List<String> problems = PostingSnapshotValidator.validate(path);
+        return SnapshotResult.builder()
+                .path(path.toString())
+                .bytes(Files.size(path))
+                .problems(problems)
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
+    // search.embedded.snapshot의 상위 디렉터리 안으로 경로를 제한, ".."이나 디렉터리 밖의 절대 경로는 거부
+    Path resolve(String snapshot) throws IOException {
+        if (embeddedSnapshot.isBlank()) {
+            throw new IllegalArgumentException("search.embedded.snapshot is not set");
+        }
+        Path defaultPath = Path.of(embeddedSnapshot).toAbsolutePath().normalize();
+        if (snapshot == null || snapshot.isBlank()) return defaultPath;
+
+        Path directory = defaultPath.getParent();
+        Path requested = Path.of(snapshot.trim());
+        for (Path name : requested) {
+            if (name.toString().equals("..")) {
+                throw new IllegalArgumentException("snapshot path must not contain '..': " + snapshot);
+            }
+        }
+        Path path = directory.resolve(requested).normalize();
+        if (!path.startsWith(directory) || path.equals(directory)) {
+            throw new IllegalArgumentException("snapshot path is outside " + directory + ": " + snapshot);
+        }
+        // 심볼릭 링크로 디렉터리 밖을 가리키는 경우
+        if (Files.exists(path) && !path.toRealPath().startsWith(directory.toRealPath())) {
+            throw new IllegalArgumentException("snapshot path is outside " + directory + ": " + snapshot);
+        }
+        return path;
+    }
+}
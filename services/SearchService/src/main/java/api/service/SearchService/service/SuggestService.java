@@ -0,0 +1,148 @@
+package api.service.SearchService.service;
+
+import api.service.SearchService.cache.SearchIndexChangedEvent;
+import api.service.SearchService.dto.SuggestResult;
+import api.service.SearchService.suggest.PrefixIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestService {
+
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+    private static final int SCROLL_SIZE = 1000;
+
+    @Value("${opensearch.index}")
+    private String index;
+    @Value("${search.suggest.max-size:10}")
+    private int maxSize;
+    private final RestHighLevelClient restHighLevelClient;
+    private final RequestOptions requestOptions;
+
+    // 조회 중에는 교체만 일어나므로 volatile 참조로 충분하다.
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /**
+     * 접두사로 시작하는 채용공고 제목, 회사명, 기술을 빈도가 높은 순으로 반환하는 메서드이다.
+     * 메모리의 접두사 인덱스만 사용하며 OpenSearch를 호출하지 않는다.
+     *
+     * @param prefix 입력 중인 검색어
+     * @param size 종류별 최대 결과 수
+     * @return SuggestResult 자동 완성 결과
+     */
+    public SuggestResult suggest(String prefix, Integer size) {
+        int limit = size == null || size <= 0 ? maxSize : Math.min(size, maxSize);
+        Snapshot current = snapshot;
+        return SuggestResult.builder()
+                .titles(current.titles().suggest(prefix, limit))
+                .companies(current.companies().suggest(prefix, limit))
+                .skills(current.skills().suggest(prefix, limit))
+                .build();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Async
+    @EventListener
+    public void onIndexChanged(SearchIndexChangedEvent event) {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${search.suggest.refresh-interval:PT10M}",
+            initialDelayString = "${search.suggest.refresh-interval:PT10M}")
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * 인덱스의 모든 채용 공고를 읽어 접두사 인덱스를 새로 만들고 교체하는 메서드이다.
+     * 새 인덱스가 완성될 때까지는 이전 인덱스로 응답하며, 이미 재구성 중이면 아무것도 하지 않는다.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+        try {
+            long start = System.nanoTime();
+            Snapshot built = load();
+            snapshot = built;
+            log.info("rebuild suggest index: titles={}, companies={}, skills={}, {}ms",
+                    built.titles().size(), built.companies().size(), built.skills().size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Failed to rebuild suggest index", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    // scroll로 제목, 회사명, 기술 필드만 읽어 접두사 인덱스 생성
+    private Snapshot load() throws IOException {
+        PrefixIndex.Builder titles = new PrefixIndex.Builder(maxSize);
+        PrefixIndex.Builder companies = new PrefixIndex.Builder(maxSize);
+        PrefixIndex.Builder skills = new PrefixIndex.Builder(maxSize);
+
+        SearchRequest searchRequest = new SearchRequest(index)
+                .scroll(SCROLL_KEEP_ALIVE)
+                .source(new SearchSourceBuilder()
+                        .size(SCROLL_SIZE)
+                        .fetchSource(new String[]{"title", "company", "skills"}, null)
+                        .sort("_doc"));
+        SearchResponse searchResponse = restHighLevelClient.search(searchRequest, requestOptions);
+        String scrollId = searchResponse.getScrollId();
+        try {
+            SearchHit[] hits = searchResponse.getHits().getHits();
+            while (hits.length > 0) {
+                for (SearchHit hit : hits) {
+                    Map<String, Object> source = hit.getSourceAsMap();
+                    if (source.get("title") instanceof String title) titles.add(title);
+                    if (source.get("company") instanceof String company) companies.add(company);
+                    if (source.get("skills") instanceof List<?> values) {
+                        for (Object skill : values) {
+                            if (skill instanceof String value) skills.add(value);
+                        }
+                    }
+                }
+                searchResponse = restHighLevelClient.scroll(
+                        new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE), requestOptions);
+                scrollId = searchResponse.getScrollId();
+                hits = searchResponse.getHits().getHits();
+            }
+        } finally {
+            ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+            clearScrollRequest.addScrollId(scrollId);
+            restHighLevelClient.clearScroll(clearScrollRequest, requestOptions);
+        }
+
+        return new Snapshot(titles.build(), companies.build(), skills.build());
+    }
+
+    private record Snapshot(PrefixIndex titles, PrefixIndex companies, PrefixIndex skills) {
+        static final Snapshot EMPTY = new Snapshot(PrefixIndex.empty(), PrefixIndex.empty(), PrefixIndex.empty());
+    }
+}
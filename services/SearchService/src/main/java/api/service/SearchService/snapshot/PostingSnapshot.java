@@ -0,0 +1,188 @@
+package api.service.SearchService.snapshot;
+
+import api.service.SearchService.document.JobPosting;
+import api.service.SearchService.engine.PostingStore;
+import api.service.SearchService.snapshot.SnapshotFormat.Section;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메모리 맵으로 연 채용 공고 컬럼 스냅샷 파일이다.
+ *
+ * 파일 내용을 힙에 복사하지 않고 필요한 컬럼 값만 페이지 캐시에서 바로 읽는다.
+ * 필터에는 마감일, 제목, 기술, 경력 유형 컬럼만 사용하고, 나머지 필드는 공고를 반환할 때만 읽는다.
+ * 파일을 교체할 때는 새 파일로 이름을 바꾸므로, 열려 있는 매핑은 GC될 때까지 이전 파일을 계속 읽는다.
+ */
+public final class PostingSnapshot implements PostingStore {
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int deadlinesStart;
+    private final StringTable ids;
+    private final StringTable urls;
+    private final StringTable titles;
+    private final StringTable deadlineTexts;
+    private final StringTable experiences;
+    private final StringTable companies;
+    private final StringTable locations;
+    private final StringTable experienceTypes;
+    private final StringTable skills;
+    private final int companyCodesStart;
+    private final int locationCodesStart;
+    private final int experienceTypeCodesStart;
+    private final int skillOffsetsStart;
+    private final int skillCodesStart;
+    private final int idOrderStart;
+
+    private PostingSnapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != SnapshotFormat.MAGIC) {
+            throw new IllegalArgumentException("not a posting snapshot");
+        }
+        if (buffer.getInt(4) != SnapshotFormat.VERSION) {
+            throw new IllegalArgumentException("unsupported snapshot version: " + buffer.getInt(4));
+        }
+        if (buffer.getInt(12) != Section.values().length) {
+            throw new IllegalArgumentException("unexpected section count: " + buffer.getInt(12));
+        }
+        this.size = buffer.getInt(8);
+        this.deadlinesStart = start(Section.DEADLINES);
+        this.ids = new StringTable(buffer, start(Section.IDS));
+        this.urls = new StringTable(buffer, start(Section.URLS));
+        this.titles = new StringTable(buffer, start(Section.TITLES));
+        this.deadlineTexts = new StringTable(buffer, start(Section.DEADLINE_TEXTS));
+        this.experiences = new StringTable(buffer, start(Section.EXPERIENCES));
+        this.companies = new StringTable(buffer, start(Section.COMPANY_DICTIONARY));
+        this.locations = new StringTable(buffer, start(Section.LOCATION_DICTIONARY));
+        this.experienceTypes = new StringTable(buffer, start(Section.EXPERIENCE_TYPE_DICTIONARY));
+        this.skills = new StringTable(buffer, start(Section.SKILL_DICTIONARY));
+        this.companyCodesStart = start(Section.COMPANY_CODES);
+        this.locationCodesStart = start(Section.LOCATION_CODES);
+        this.experienceTypeCodesStart = start(Section.EXPERIENCE_TYPE_CODES);
+        this.skillOffsetsStart = start(Section.SKILL_OFFSETS);
+        this.skillCodesStart = start(Section.SKILL_CODES);
+        this.idOrderStart = start(Section.ID_ORDER);
+    }
+
+    /**
+     * 스냅샷 파일을 읽기 전용 메모리 맵으로 여는 메서드이다.
+     * 헤더만 확인하므로 내용 전체를 확인하려면 먼저 {@link PostingSnapshotValidator}를 사용한다.
+     *
+     * @param path 스냅샷 파일 경로
+     * @return PostingSnapshot
+     * @throws IOException 파일을 열 수 없는 경우
+     * @throws IllegalArgumentException 스냅샷 파일이 아니거나 지원하지 않는 버전인 경우
+     */
+    public static PostingSnapshot open(Path path) throws IOException {
+        return new PostingSnapshot(map(path));
+    }
+
+    /**
+     * 파일이 스냅샷 파일인지 첫 4바이트로 확인하는 메서드이다.
+     *
+     * @param path 파일 경로
+     * @return 스냅샷 파일이면 true
+     */
+    public static boolean isSnapshot(Path path) {
+        if (!Files.isRegularFile(path)) return false;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            return channel.read(magic, 0) == Integer.BYTES && magic.getInt(0) == SnapshotFormat.MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    static MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("snapshot is larger than 2GB");
+            }
+            // 채널을 닫아도 매핑은 유지된다.
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private int start(Section section) {
+        return (int) buffer.getLong(SnapshotFormat.HEADER_SIZE + section.ordinal() * SnapshotFormat.SECTION_ENTRY_SIZE);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long deadline(int doc) {
+        return buffer.getLong(deadlinesStart + doc * Long.BYTES);
+    }
+
+    @Override
+    public String id(int doc) {
+        return ids.get(doc);
+    }
+
+    @Override
+    public String title(int doc) {
+        return titles.get(doc);
+    }
+
+    @Override
+    public List<String> skills(int doc) {
+        int from = buffer.getInt(skillOffsetsStart + doc * Integer.BYTES);
+        int to = buffer.getInt(skillOffsetsStart + (doc + 1) * Integer.BYTES);
+        List<String> values = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            values.add(skills.get(buffer.getInt(skillCodesStart + i * Integer.BYTES)));
+        }
+        return values;
+    }
+
+    @Override
+    public String experienceType(int doc) {
+        return decode(experienceTypes, experienceTypeCodesStart, doc);
+    }
+
+    @Override
+    public JobPosting posting(int doc) {
+        JobPosting posting = new JobPosting();
+        posting.setId(ids.get(doc));
+        posting.setUrl(urls.get(doc));
+        posting.setTitle(titles.get(doc));
+        posting.setCompany(decode(companies, companyCodesStart, doc));
+        posting.setLocation(decode(locations, locationCodesStart, doc));
+        posting.setDeadline_ts(deadline(doc));
+        posting.setDeadline(deadlineTexts.get(doc));
+        posting.setExperience(experiences.get(doc));
+        posting.setExperienceType(experienceType(doc));
+        posting.setSkills(skills(doc));
+        return posting;
+    }
+
+    @Override
+    public int find(String id) {
+        int low = 0, high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int doc = buffer.getInt(idOrderStart + mid * Integer.BYTES);
+            int compare = ids.get(doc).compareTo(id);
+            if (compare < 0) low = mid + 1;
+            else if (compare > 0) high = mid - 1;
+            else return doc;
+        }
+        return -1;
+    }
+
+    private String decode(StringTable dictionary, int codesStart, int doc) {
+        int code = buffer.getInt(codesStart + doc * Integer.BYTES);
+        return code == SnapshotFormat.NO_CODE ? null : dictionary.get(code);
+    }
+}
@@ -0,0 +1,230 @@
+package api.service.SearchService.snapshot;
+
+import api.service.SearchService.snapshot.SnapshotFormat.Section;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 채용 공고 컬럼 스냅샷 파일의 구조와 내용을 검사하는 클래스이다.
+ *
+ * 헤더, checksum, 섹션 경계, 문자열 목록의 위치와 UTF-8 인코딩, 사전 코드 범위,
+ * 문서 정렬 순서와 id 순 문서 번호를 확인한다.
+ * 구조가 깨져 더 읽을 수 없는 경우 그때까지 찾은 문제만 반환한다.
+ */
+public final class PostingSnapshotValidator {
+
+    // 한 번에 보고하는 문제 수
+    private static final int MAX_PROBLEMS = 20;
+
+    private final ByteBuffer buffer;
+    private final List<String> problems = new ArrayList<>();
+    private int size;
+
+    private PostingSnapshotValidator(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * 스냅샷 파일을 검사하는 메서드이다.
+     *
+     * @param path 스냅샷 파일 경로
+     * @return 발견한 문제 목록, 문제가 없으면 빈 목록
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public static List<String> validate(Path path) throws IOException {
+        PostingSnapshotValidator validator = new PostingSnapshotValidator(PostingSnapshot.map(path));
+        try {
+            validator.run();
+        } catch (StopValidation ignored) {
+        } catch (IndexOutOfBoundsException e) {
+            validator.problems.add("read out of bounds: " + e.getMessage());
+        }
+        return List.copyOf(validator.problems);
+    }
+
+    private void run() {
+        int tableEnd = SnapshotFormat.HEADER_SIZE + SnapshotFormat.sectionTableSize();
+        require(buffer.capacity() >= tableEnd, "file is smaller than header");
+        require(buffer.getInt(0) == SnapshotFormat.MAGIC, "invalid magic");
+        require(buffer.getInt(4) == SnapshotFormat.VERSION, "unsupported version " + buffer.getInt(4));
+        require(buffer.getInt(12) == Section.values().length, "unexpected section count " + buffer.getInt(12));
+        size = buffer.getInt(8);
+        require(size >= 0, "negative document count");
+
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.slice(SnapshotFormat.HEADER_SIZE, buffer.capacity() - SnapshotFormat.HEADER_SIZE));
+        check(checksum.getValue() == buffer.getLong(SnapshotFormat.CHECKSUM_OFFSET), "checksum mismatch");
+
+        // 섹션은 섹션 테이블 뒤에 순서대로 빈틈없이 이어져야 한다.
+        long expected = tableEnd;
+        for (Section section : Section.values()) {
+            long offset = offset(section);
+            long length = length(section);
+            require(offset == expected && length >= 0 && offset + length <= buffer.capacity(),
+                    "invalid bounds of " + section);
+            expected = offset + length;
+        }
+        check(expected == buffer.capacity(), "trailing bytes after last section");
+
+        requireLength(Section.DEADLINES, (long) size * Long.BYTES);
+        for (Section section : List.of(Section.COMPANY_CODES, Section.LOCATION_CODES,
+                Section.EXPERIENCE_TYPE_CODES, Section.ID_ORDER)) {
+            requireLength(section, (long) size * Integer.BYTES);
+        }
+        requireLength(Section.SKILL_OFFSETS, (long) (size + 1) * Integer.BYTES);
+
+        StringTable ids = stringTable(Section.IDS, size);
+        for (Section section : List.of(Section.URLS, Section.TITLES, Section.DEADLINE_TEXTS, Section.EXPERIENCES)) {
+            stringTable(section, size);
+        }
+        codes(Section.COMPANY_CODES, dictionary(Section.COMPANY_DICTIONARY));
+        codes(Section.LOCATION_CODES, dictionary(Section.LOCATION_DICTIONARY));
+        codes(Section.EXPERIENCE_TYPE_CODES, dictionary(Section.EXPERIENCE_TYPE_DICTIONARY));
+        skills(dictionary(Section.SKILL_DICTIONARY));
+        order(ids);
+        idOrder(ids);
+    }
+
+    // 문자열 목록의 개수, 위치, 인코딩
+    private StringTable stringTable(Section section, int expectedCount) {
+        int start = (int) offset(section);
+        long end = start + length(section);
+        require(length(section) >= Integer.BYTES, section + " is too short");
+        StringTable table = new StringTable(buffer, start);
+        if (expectedCount >= 0) {
+            require(table.size() == expectedCount, section + " has " + table.size() + " values, expected " + expectedCount);
+        }
+        require(table.size() >= 0 && table.bytesStart() <= end, section + " offset table exceeds section");
+        long bytesLength = end - table.bytesStart();
+        require(table.offset(0) == 0, section + " does not start at 0");
+        for (int i = 0; i < table.size(); i++) {
+            require(table.offset(i) <= table.offset(i + 1), section + " offsets decrease at " + i);
+        }
+        require(table.offset(table.size()) == bytesLength, section + " offsets do not end at section end");
+
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        try {
+            decoder.decode(buffer.slice(table.bytesStart(), (int) bytesLength));
+        } catch (CharacterCodingException e) {
+            check(false, section + " is not valid UTF-8");
+        }
+        return table;
+    }
+
+    // 사전은 비어 있지 않은 값이 중복 없이 정렬되어 있어야 한다.
+    private int dictionary(Section section) {
+        StringTable dictionary = stringTable(section, -1);
+        String previous = null;
+        for (int code = 0; code < dictionary.size(); code++) {
+            String value = dictionary.get(code);
+            if (!check(value != null, section + " has empty value at " + code)) continue;
+            check(previous == null || previous.compareTo(value) < 0, section + " is not sorted at " + code);
+            previous = value;
+        }
+        return dictionary.size();
+    }
+
+    private void codes(Section section, int dictionarySize) {
+        int start = (int) offset(section);
+        for (int doc = 0; doc < size; doc++) {
+            int code = buffer.getInt(start + doc * Integer.BYTES);
+            check(code == SnapshotFormat.NO_CODE || (code >= 0 && code < dictionarySize),
+                    section + " has invalid code " + code + " at document " + doc);
+        }
+    }
+
+    private void skills(int dictionarySize) {
+        int offsetsStart = (int) offset(Section.SKILL_OFFSETS);
+        long codeCount = length(Section.SKILL_CODES) / Integer.BYTES;
+        check(length(Section.SKILL_CODES) % Integer.BYTES == 0, "SKILL_CODES length is not a multiple of 4");
+        require(buffer.getInt(offsetsStart) == 0, "SKILL_OFFSETS does not start at 0");
+        for (int doc = 0; doc < size; doc++) {
+            require(buffer.getInt(offsetsStart + doc * Integer.BYTES) <= buffer.getInt(offsetsStart + (doc + 1) * Integer.BYTES),
+                    "SKILL_OFFSETS decrease at document " + doc);
+        }
+        require(buffer.getInt(offsetsStart + size * Integer.BYTES) == codeCount, "SKILL_OFFSETS do not end at SKILL_CODES end");
+        int codesStart = (int) offset(Section.SKILL_CODES);
+        for (int i = 0; i < codeCount; i++) {
+            int code = buffer.getInt(codesStart + i * Integer.BYTES);
+            check(code >= 0 && code < dictionarySize, "SKILL_CODES has invalid code " + code + " at " + i);
+        }
+    }
+
+    // 문서는 (deadline_ts, id) 순서이며 id는 비어 있지 않고 중복되지 않아야 한다.
+    private void order(StringTable ids) {
+        int deadlinesStart = (int) offset(Section.DEADLINES);
+        long previousDeadline = Long.MIN_VALUE;
+        String previousId = null;
+        for (int doc = 0; doc < size; doc++) {
+            long deadline = buffer.getLong(deadlinesStart + doc * Long.BYTES);
+            String id = ids.get(doc);
+            if (!check(id != null, "empty id at document " + doc)) continue;
+            check(doc == 0 || deadline > previousDeadline
+                            || (deadline == previousDeadline && previousId != null && previousId.compareTo(id) < 0),
+                    "documents are not sorted by (deadline_ts, id) at " + doc);
+            previousDeadline = deadline;
+            previousId = id;
+        }
+    }
+
+    // id 순 문서 번호는 모든 문서를 한 번씩 id 순서로 가리켜야 한다.
+    private void idOrder(StringTable ids) {
+        int start = (int) offset(Section.ID_ORDER);
+        boolean[] seen = new boolean[size];
+        String previous = null;
+        for (int i = 0; i < size; i++) {
+            int doc = buffer.getInt(start + i * Integer.BYTES);
+            if (!check(doc >= 0 && doc < size && !seen[doc], "ID_ORDER has invalid document " + doc + " at " + i)) continue;
+            seen[doc] = true;
+            String id = ids.get(doc);
+            check(previous == null || id == null || previous.compareTo(id) < 0, "ID_ORDER is not sorted at " + i);
+            previous = id;
+        }
+    }
+
+    private void requireLength(Section section, long expected) {
+        require(length(section) == expected, section + " length is " + length(section) + ", expected " + expected);
+    }
+
+    private long offset(Section section) {
+        return buffer.getLong(SnapshotFormat.HEADER_SIZE + section.ordinal() * SnapshotFormat.SECTION_ENTRY_SIZE);
+    }
+
+    private long length(Section section) {
+        return buffer.getLong(SnapshotFormat.HEADER_SIZE + section.ordinal() * SnapshotFormat.SECTION_ENTRY_SIZE + Long.BYTES);
+    }
+
+    // 문제를 기록하고 계속 검사
+    private boolean check(boolean condition, String problem) {
+        if (condition) return true;
+        problems.add(problem);
+        if (problems.size() >= MAX_PROBLEMS) throw new StopValidation();
+        return false;
+    }
+
+    // 문제를 기록하고 검사 중단 (이후 구조를 믿을 수 없는 경우)
+    private void require(boolean condition, String problem) {
+        if (!condition) {
+            problems.add(problem);
+            throw new StopValidation();
+        }
+    }
+
+    private static final class StopValidation extends RuntimeException {
+
+        StopValidation() {
+            super(null, null, false, false);
+        }
+    }
+}
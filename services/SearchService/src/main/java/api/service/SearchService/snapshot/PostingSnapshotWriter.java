@@ -0,0 +1,190 @@
+package api.service.SearchService.snapshot;
+
+import api.service.SearchService.document.JobPosting;
+import api.service.SearchService.engine.MemoryPostingStore;
+import api.service.SearchService.snapshot.SnapshotFormat.Section;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * 채용 공고 목록을 {@link SnapshotFormat} 형식의 스냅샷 파일로 저장하는 클래스이다.
+ * 같은 디렉터리의 임시 파일에 쓴 뒤 이름을 바꾸므로, 기존 파일을 메모리 맵으로 읽고 있어도 안전하게 교체된다.
+ */
+public final class PostingSnapshotWriter {
+
+    private PostingSnapshotWriter() {
+    }
+
+    /**
+     * 채용 공고 목록을 스냅샷 파일로 저장하는 메서드이다.
+     * ID가 없는 공고는 제외하고, ID가 같은 공고가 여러 개이면 마지막 공고를 사용한다.
+     *
+     * @param postings 채용 공고 목록
+     * @param path 저장할 파일 경로
+     * @return 저장한 공고 수
+     * @throws IOException 파일 저장 중 예외 발생 시
+     * @throws IllegalArgumentException 스냅샷이 2GB를 넘는 경우
+     */
+    public static int write(List<JobPosting> postings, Path path) throws IOException {
+        List<JobPosting> sorted = MemoryPostingStore.sorted(postings);
+        Map<Section, byte[]> sections = encode(sorted);
+
+        // 섹션 테이블과 본문
+        ByteBuffer table = ByteBuffer.allocate(SnapshotFormat.sectionTableSize());
+        long offset = SnapshotFormat.HEADER_SIZE + SnapshotFormat.sectionTableSize();
+        for (Section section : Section.values()) {
+            int length = sections.get(section).length;
+            table.putLong(offset).putLong(length);
+            offset += length;
+        }
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("snapshot is larger than 2GB");
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(table.array());
+        for (Section section : Section.values()) {
+            checksum.update(sections.get(section));
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(SnapshotFormat.HEADER_SIZE)
+                .putInt(SnapshotFormat.MAGIC)
+                .putInt(SnapshotFormat.VERSION)
+                .putInt(sorted.size())
+                .putInt(Section.values().length)
+                .putLong(checksum.getValue())
+                .putLong(0);
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                out.write(header.array());
+                out.write(table.array());
+                for (Section section : Section.values()) {
+                    out.write(sections.get(section));
+                }
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return sorted.size();
+    }
+
+    private static Map<Section, byte[]> encode(List<JobPosting> postings) {
+        int size = postings.size();
+        Map<Section, byte[]> sections = new EnumMap<>(Section.class);
+
+        ByteBuffer deadlines = ByteBuffer.allocate(size * Long.BYTES);
+        for (JobPosting posting : postings) {
+            deadlines.putLong(Objects.requireNonNullElse(posting.getDeadline_ts(), Long.MAX_VALUE));
+        }
+        sections.put(Section.DEADLINES, deadlines.array());
+
+        sections.put(Section.IDS, column(postings, JobPosting::getId));
+        sections.put(Section.URLS, column(postings, JobPosting::getUrl));
+        sections.put(Section.TITLES, column(postings, JobPosting::getTitle));
+        sections.put(Section.DEADLINE_TEXTS, column(postings, JobPosting::getDeadline));
+        sections.put(Section.EXPERIENCES, column(postings, JobPosting::getExperience));
+
+        dictionaryColumn(postings, JobPosting::getCompany,
+                Section.COMPANY_DICTIONARY, Section.COMPANY_CODES, sections);
+        dictionaryColumn(postings, JobPosting::getLocation,
+                Section.LOCATION_DICTIONARY, Section.LOCATION_CODES, sections);
+        dictionaryColumn(postings, JobPosting::getExperienceType,
+                Section.EXPERIENCE_TYPE_DICTIONARY, Section.EXPERIENCE_TYPE_CODES, sections);
+
+        // 기술은 공고마다 여러 개이므로 시작 위치 테이블과 코드 배열로 저장
+        TreeSet<String> skillValues = new TreeSet<>();
+        int skillCount = 0;
+        for (JobPosting posting : postings) {
+            for (String skill : skills(posting)) {
+                skillValues.add(skill);
+                skillCount++;
+            }
+        }
+        List<String> skillDictionary = new ArrayList<>(skillValues);
+        Map<String, Integer> skillCodes = codes(skillDictionary);
+        ByteBuffer skillOffsets = ByteBuffer.allocate((size + 1) * Integer.BYTES);
+        ByteBuffer skillCodeColumn = ByteBuffer.allocate(skillCount * Integer.BYTES);
+        skillOffsets.putInt(0);
+        for (JobPosting posting : postings) {
+            for (String skill : skills(posting)) {
+                skillCodeColumn.putInt(skillCodes.get(skill));
+            }
+            skillOffsets.putInt(skillCodeColumn.position() / Integer.BYTES);
+        }
+        sections.put(Section.SKILL_DICTIONARY, StringTable.encode(skillDictionary));
+        sections.put(Section.SKILL_OFFSETS, skillOffsets.array());
+        sections.put(Section.SKILL_CODES, skillCodeColumn.array());
+
+        // id로 문서 번호를 찾기 위한 id 순 문서 번호
+        Integer[] idOrder = new Integer[size];
+        for (int doc = 0; doc < size; doc++) idOrder[doc] = doc;
+        Arrays.sort(idOrder, Comparator.comparing(doc -> postings.get(doc).getId()));
+        ByteBuffer idOrderColumn = ByteBuffer.allocate(size * Integer.BYTES);
+        for (int doc : idOrder) idOrderColumn.putInt(doc);
+        sections.put(Section.ID_ORDER, idOrderColumn.array());
+
+        return sections;
+    }
+
+    private static byte[] column(List<JobPosting> postings, Function<JobPosting, String> field) {
+        return StringTable.encode(postings.stream().map(field).toList());
+    }
+
+    // 값 사전(정렬)과 문서별 사전 코드 컬럼
+    private static void dictionaryColumn(List<JobPosting> postings, Function<JobPosting, String> field,
+                                         Section dictionarySection, Section codeSection, Map<Section, byte[]> sections) {
+        TreeSet<String> values = new TreeSet<>();
+        for (JobPosting posting : postings) {
+            String value = field.apply(posting);
+            if (value != null && !value.isEmpty()) values.add(value);
+        }
+        List<String> dictionary = new ArrayList<>(values);
+        Map<String, Integer> codes = codes(dictionary);
+        ByteBuffer column = ByteBuffer.allocate(postings.size() * Integer.BYTES);
+        for (JobPosting posting : postings) {
+            column.putInt(codes.getOrDefault(field.apply(posting), SnapshotFormat.NO_CODE));
+        }
+        sections.put(dictionarySection, StringTable.encode(dictionary));
+        sections.put(codeSection, column.array());
+    }
+
+    private static Map<String, Integer> codes(List<String> dictionary) {
+        Map<String, Integer> codes = new HashMap<>(dictionary.size() * 2);
+        for (int code = 0; code < dictionary.size(); code++) {
+            codes.put(dictionary.get(code), code);
+        }
+        return codes;
+    }
+
+    private static List<String> skills(JobPosting posting) {
+        if (posting.getSkills() == null) return List.of();
+        return posting.getSkills().stream()
+                .filter(skill -> skill != null && !skill.isEmpty())
+                .toList();
+    }
+}
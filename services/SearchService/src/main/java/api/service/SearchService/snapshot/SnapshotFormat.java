@@ -0,0 +1,57 @@
+package api.service.SearchService.snapshot;
+
+/**
+ * 채용 공고 컬럼 스냅샷 파일의 형식이다.
+ *
+ * 파일은 고정 크기 헤더, 섹션 테이블, 섹션 본문 순서이며 모든 값은 big-endian이다.
+ * <pre>
+ * header   : magic(int) version(int) docCount(int) sectionCount(int) checksum(long) reserved(long)
+ * sections : sectionCount x (offset(long) length(long)), {@link Section} 순서
+ * </pre>
+ * checksum은 헤더 뒤(섹션 테이블부터 파일 끝까지)의 CRC32 값이다.
+ * 문서 번호는 (deadline_ts, id) 순서이며, 모든 컬럼은 문서 번호 순서로 저장한다.
+ * 문자열 컬럼과 사전은 {@link StringTable} 형식이고, 값이 없는 문자열은 빈 문자열로 저장한다.
+ */
+public final class SnapshotFormat {
+
+    // "JPS1"
+    public static final int MAGIC = 0x4A505331;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int SECTION_ENTRY_SIZE = 16;
+    public static final int CHECKSUM_OFFSET = 16;
+    // 사전 코드 컬럼에서 값이 없음을 나타내는 코드
+    public static final int NO_CODE = -1;
+
+    public enum Section {
+        // long[docCount]
+        DEADLINES,
+        // 문서별 문자열 컬럼
+        IDS,
+        URLS,
+        TITLES,
+        DEADLINE_TEXTS,
+        EXPERIENCES,
+        // 정렬된 값 사전
+        COMPANY_DICTIONARY,
+        LOCATION_DICTIONARY,
+        EXPERIENCE_TYPE_DICTIONARY,
+        SKILL_DICTIONARY,
+        // int[docCount] 사전 코드
+        COMPANY_CODES,
+        LOCATION_CODES,
+        EXPERIENCE_TYPE_CODES,
+        // int[docCount + 1] 문서별 기술 코드 시작 위치, int[] 기술 코드
+        SKILL_OFFSETS,
+        SKILL_CODES,
+        // int[docCount] id 순으로 정렬한 문서 번호
+        ID_ORDER
+    }
+
+    private SnapshotFormat() {
+    }
+
+    public static int sectionTableSize() {
+        return Section.values().length * SECTION_ENTRY_SIZE;
+    }
+}
@@ -0,0 +1,94 @@
+package api.service.SearchService.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 스냅샷 파일의 문자열 목록 섹션이다.
+ * <pre>
+ * count(int) offsets(int[count + 1]) bytes(UTF-8)
+ * </pre>
+ * i번째 문자열은 bytes의 [offsets[i], offsets[i + 1]) 구간이다.
+ * 버퍼에서 필요한 문자열만 읽으며, 읽을 때는 버퍼의 position을 바꾸지 않으므로 여러 스레드에서 함께 사용할 수 있다.
+ */
+final class StringTable {
+
+    private final ByteBuffer buffer;
+    private final int count;
+    private final int offsetsStart;
+    private final int bytesStart;
+
+    StringTable(ByteBuffer buffer, int start) {
+        this.buffer = buffer;
+        this.count = buffer.getInt(start);
+        this.offsetsStart = start + Integer.BYTES;
+        this.bytesStart = offsetsStart + (count + 1) * Integer.BYTES;
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * i번째 문자열을 반환하는 메서드이다.
+     *
+     * @param i 위치
+     * @return 문자열, 빈 문자열이면 null
+     */
+    String get(int i) {
+        int from = offset(i);
+        int length = offset(i + 1) - from;
+        if (length == 0) return null;
+        byte[] bytes = new byte[length];
+        buffer.get(bytesStart + from, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    int offset(int i) {
+        return buffer.getInt(offsetsStart + i * Integer.BYTES);
+    }
+
+    int bytesStart() {
+        return bytesStart;
+    }
+
+    /**
+     * 문자열 목록을 섹션 바이트로 변환하는 메서드이다.
+     *
+     * @param values 문자열 목록, null은 빈 문자열로 저장
+     * @return 섹션 바이트
+     */
+    static byte[] encode(List<String> values) {
+        byte[][] encoded = new byte[values.size()][];
+        long total = 0;
+        for (int i = 0; i < encoded.length; i++) {
+            String value = values.get(i);
+            encoded[i] = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+            total += encoded[i].length;
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("string column is larger than 2GB");
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream((int) total + (encoded.length + 2) * Integer.BYTES);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(encoded.length);
+            int offset = 0;
+            out.writeInt(offset);
+            for (byte[] value : encoded) {
+                offset += value.length;
+                out.writeInt(offset);
+            }
+            for (byte[] value : encoded) {
+                out.write(value);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,166 @@
+package api.service.SearchService.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 자동 완성을 위한 읽기 전용 접두사 인덱스이다.
+ *
+ * 소문자로 정규화한 키를 정렬된 배열로 보관하고, 접두사에 해당하는 구간을 이진 탐색으로 찾은 뒤
+ * 그 구간에서 빈도가 높은 순으로 결과를 고른다.
+ * 한두 글자처럼 구간이 넓은 짧은 접두사는 상위 결과를 미리 계산해 두어 구간 전체를 훑지 않는다.
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 동기화 없이 조회할 수 있다.
+ */
+public final class PrefixIndex {
+
+    // 상위 결과를 미리 계산해 두는 접두사의 최대 길이
+    private static final int PRECOMPUTED_PREFIX_LENGTH = 2;
+
+    private static final PrefixIndex EMPTY = new Builder(0).build();
+
+    private final String[] keys;
+    private final String[] texts;
+    private final int[] weights;
+    private final int maxSuggestions;
+    private final Map<String, int[]> precomputed;
+
+    private PrefixIndex(String[] keys, String[] texts, int[] weights, int maxSuggestions) {
+        this.keys = keys;
+        this.texts = texts;
+        this.weights = weights;
+        this.maxSuggestions = maxSuggestions;
+        this.precomputed = precompute();
+    }
+
+    public static PrefixIndex empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * 접두사로 시작하는 값을 빈도가 높은 순으로 반환하는 메서드이다.
+     *
+     * @param prefix 접두사 (대소문자 구분 없음)
+     * @param limit 최대 결과 수
+     * @return 자동 완성 결과
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) return List.of();
+
+        int[] top = key.length() <= PRECOMPUTED_PREFIX_LENGTH && limit <= maxSuggestions
+                ? precomputed.get(key)
+                : topInRange(lowerBound(key), upperBound(key), limit);
+        if (top == null) return List.of();
+
+        List<String> result = new ArrayList<>(Math.min(limit, top.length));
+        for (int i = 0; i < top.length && i < limit; i++) {
+            result.add(texts[top[i]]);
+        }
+        return result;
+    }
+
+    // 짧은 접두사별 상위 결과 계산
+    private Map<String, int[]> precompute() {
+        Map<String, int[]> result = new HashMap<>();
+        for (int length = 1; length <= PRECOMPUTED_PREFIX_LENGTH; length++) {
+            int start = 0;
+            while (start < keys.length) {
+                if (keys[start].length() < length) {
+                    start++;
+                    continue;
+                }
+                String prefix = keys[start].substring(0, length);
+                int end = upperBound(prefix);
+                result.put(prefix, topInRange(start, end, maxSuggestions));
+                start = end;
+            }
+        }
+        return result;
+    }
+
+    // [start, end) 구간에서 가중치가 높은 순으로 limit개의 인덱스
+    private int[] topInRange(int start, int end, int limit) {
+        if (start >= end) return null;
+        Comparator<Integer> byWeight = Comparator.<Integer>comparingInt(i -> weights[i]).thenComparing(i -> -i);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, byWeight);
+        for (int i = start; i < end; i++) {
+            heap.offer(i);
+            if (heap.size() > limit) heap.poll();
+        }
+        int[] top = new int[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = heap.poll();
+        }
+        return top;
+    }
+
+    // prefix 이상인 첫 위치
+    private int lowerBound(String prefix) {
+        int index = Arrays.binarySearch(keys, prefix);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    // prefix로 시작하는 값 다음의 첫 위치
+    private int upperBound(String prefix) {
+        int low = lowerBound(prefix);
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * PrefixIndex를 만드는 빌더이다.
+     * 같은 값(대소문자 구분 없음)이 여러 번 추가되면 빈도를 누적하고, 처음 추가된 표기를 결과로 사용한다.
+     */
+    public static final class Builder {
+
+        private final int maxSuggestions;
+        private final Map<String, String> texts = new HashMap<>();
+        private final Map<String, Integer> weights = new HashMap<>();
+
+        public Builder(int maxSuggestions) {
+            this.maxSuggestions = maxSuggestions;
+        }
+
+        public Builder add(String text) {
+            String key = normalize(text);
+            if (key.isEmpty()) return this;
+            texts.putIfAbsent(key, text.trim());
+            weights.merge(key, 1, Integer::sum);
+            return this;
+        }
+
+        public PrefixIndex build() {
+            String[] keys = texts.keySet().toArray(new String[0]);
+            Arrays.sort(keys);
+            String[] sortedTexts = new String[keys.length];
+            int[] sortedWeights = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                sortedTexts[i] = texts.get(keys[i]);
+                sortedWeights[i] = weights.get(keys[i]);
+            }
+            return new PrefixIndex(keys, sortedTexts, sortedWeights, maxSuggestions);
+        }
+    }
+}
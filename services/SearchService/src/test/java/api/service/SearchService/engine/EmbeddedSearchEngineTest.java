@@ -0,0 +1,75 @@
+package api.service.SearchService.engine;
+
+import api.service.SearchService.document.JobPosting;
+import api.service.SearchService.ingest.PostingReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmbeddedSearchEngineTest {
+
+	@Test
+	void parsesModeOnceIgnoringCase() {
+		EmbeddedSearchEngine engine = new EmbeddedSearchEngine(null);
+		ReflectionTestUtils.setField(engine, "modeName", " Fallback ");
+
+		engine.init();
+
+		assertThat(engine.mode()).isEqualTo(EngineMode.FALLBACK);
+	}
+
+	@Test
+	void rejectsUnknownModeAtStartup() {
+		EmbeddedSearchEngine engine = new EmbeddedSearchEngine(null);
+		ReflectionTestUtils.setField(engine, "modeName", "primery");
+
+		assertThatThrownBy(engine::init)
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("search.embedded.mode");
+	}
+
+	@Test
+	void skipsReloadWhileSnapshotIsUnchanged(@TempDir Path dir) throws Exception {
+		Path file = Files.writeString(dir.resolve("postings.json"), "{}\n");
+		PostingReader postingReader = mock(PostingReader.class);
+		when(postingReader.list(anyString())).thenReturn(List.of(file.toString()));
+		doAnswer(invocation -> {
+			PostingReader.Handler handler = invocation.getArgument(1);
+			JobPosting posting = new JobPosting();
+			posting.setId("a");
+			posting.setDeadline_ts(100L);
+			handler.accept(posting);
+			return null;
+		}).when(postingReader).read(anyString(), any());
+		EmbeddedSearchEngine engine = new EmbeddedSearchEngine(postingReader);
+		ReflectionTestUtils.setField(engine, "modeName", "primary");
+		ReflectionTestUtils.setField(engine, "snapshot", dir.toString());
+		ReflectionTestUtils.setField(engine, "validate", true);
+		engine.init();
+
+		engine.reload();
+		engine.reload();
+		verify(postingReader, times(1)).read(anyString(), any());
+		assertThat(engine.get("a")).isNotNull();
+
+		Files.writeString(file, "{}\n{}\n");
+		Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+		engine.reload();
+		verify(postingReader, times(2)).read(anyString(), any());
+	}
+}
@@ -0,0 +1,169 @@
+package api.service.SearchService.engine;
+
+import api.service.SearchService.document.JobPosting;
+import api.service.SearchService.query.Projection;
+import api.service.SearchService.query.QueryPlanner;
+import api.service.SearchService.query.SearchQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostingIndexTest {
+
+	private static final long OPEN_ENDED = QueryPlanner.OPEN_ENDED_DEADLINE_TS;
+
+	private final PostingIndex index = PostingIndex.of(List.of(
+			posting("c", 300L, "Java Backend Developer", "경력", "Java", "Spring"),
+			posting("a", 100L, "Frontend Engineer", "신입", "React"),
+			posting("b", 100L, "Backend Engineer", "경력", "Kotlin", "Spring"),
+			posting("d", OPEN_ENDED, "Data Engineer", "무관", "Python"),
+			posting("e", OPEN_ENDED, "Java Platform Engineer", "경력", "Java")));
+
+	@Test
+	void ordersByDeadlineThenId() {
+		assertThat(ids(index.search(query(null, List.of(), List.of(), 1, 10), null)))
+				.containsExactly("a", "b", "c", "d", "e");
+	}
+
+	@Test
+	void matchesAnyTitleTokenIgnoringCase() {
+		assertThat(ids(index.search(query("BACKEND", List.of(), List.of(), 1, 10), null)))
+				.containsExactly("b", "c");
+		assertThat(ids(index.search(query("frontend data", List.of(), List.of(), 1, 10), null)))
+				.containsExactly("a", "d");
+	}
+
+	@Test
+	void unionsValuesWithinConditionAndIntersectsConditions() {
+		assertThat(ids(index.search(query(null, List.of("Java", "Kotlin"), List.of(), 1, 10), null)))
+				.containsExactly("b", "c", "e");
+		assertThat(ids(index.search(query("engineer", List.of("Java", "Kotlin"), List.of("경력"), 1, 10), null)))
+				.containsExactly("b", "e");
+		assertThat(ids(index.search(query(null, List.of("Go"), List.of(), 1, 10), null))).isEmpty();
+	}
+
+	@Test
+	void descendingExcludesOpenEndedPostingsAndBreaksTiesByIdAscending() {
+		assertThat(ids(index.search(query(null, List.of(), List.of(), -1, 10), null)))
+				.containsExactly("c", "a", "b");
+	}
+
+	@Test
+	void openEndedOnlyReturnsOpenEndedPostings() {
+		assertThat(ids(index.search(query(null, List.of(), List.of(), 0, 10), null)))
+				.containsExactly("d", "e");
+	}
+
+	@Test
+	void pagesWithSearchAfterWithoutGapsOrDuplicates() {
+		List<String> seen = new ArrayList<>();
+		Object[] searchAfter = null;
+		while (true) {
+			PostingIndex.Page page = index.search(query(null, List.of(), List.of(), 1, 2), searchAfter);
+			if (page.postings().isEmpty()) break;
+			seen.addAll(ids(page));
+			searchAfter = page.sortValues();
+		}
+		assertThat(seen).containsExactly("a", "b", "c", "d", "e");
+	}
+
+	@Test
+	void pagesDescendingWithSearchAfter() {
+		PostingIndex.Page first = index.search(query(null, List.of(), List.of(), -1, 2), null);
+		PostingIndex.Page second = index.search(query(null, List.of(), List.of(), -1, 2), first.sortValues());
+
+		assertThat(ids(first)).containsExactly("c", "a");
+		assertThat(ids(second)).containsExactly("b");
+	}
+
+	@Test
+	void pagesDescendingOnePostingAtATimeThroughTies() {
+		List<String> seen = new ArrayList<>();
+		Object[] searchAfter = null;
+		while (true) {
+			PostingIndex.Page page = index.search(query(null, List.of(), List.of(), -1, 1), searchAfter);
+			if (page.postings().isEmpty()) break;
+			seen.addAll(ids(page));
+			searchAfter = page.sortValues();
+		}
+		assertThat(seen).containsExactly("c", "a", "b");
+	}
+
+	@Test
+	void continuesDescendingAfterPostingMissingFromIndex() {
+		PostingIndex.Page page = index.search(query(null, List.of(), List.of(), -1, 10), new Object[]{100L, "ab"});
+
+		assertThat(ids(page)).containsExactly("b");
+	}
+
+	@Test
+	void continuesAfterPostingMissingFromIndex() {
+		PostingIndex.Page page = index.search(query(null, List.of(), List.of(), 1, 10), new Object[]{100L, "ab"});
+
+		assertThat(ids(page)).containsExactly("b", "c", "d", "e");
+	}
+
+	@Test
+	void rejectsMalformedSearchAfter() {
+		SearchQuery query = query(null, List.of(), List.of(), 1, 10);
+
+		assertThatThrownBy(() -> index.search(query, new Object[]{"100", "a"}))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> index.search(query, new Object[]{100L}))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void returnsLastSortValues() {
+		PostingIndex.Page page = index.search(query(null, List.of(), List.of(), 1, 2), null);
+
+		assertThat(page.sortValues()).containsExactly(100L, "b");
+		assertThat(index.search(query(null, List.of("Go"), List.of(), 1, 2), null).sortValues()).isNull();
+	}
+
+	@Test
+	void listingProjectionDropsInternalFields() {
+		JobPosting listed = index.search(query(null, List.of(), List.of(), 1, 1), null).postings().get(0);
+
+		assertThat(listed.getTitle()).isEqualTo("Frontend Engineer");
+		assertThat(listed.getDeadline_ts()).isNull();
+		assertThat(listed.getExperienceType()).isNull();
+	}
+
+	@Test
+	void keepsLastPostingForDuplicateIdAndSkipsPostingsWithoutId() {
+		PostingIndex duplicated = PostingIndex.of(List.of(
+				posting("a", 100L, "Old", "경력"),
+				posting("a", 200L, "New", "경력"),
+				posting(null, 300L, "No Id", "경력")));
+
+		assertThat(duplicated.size()).isEqualTo(1);
+		assertThat(duplicated.get("a").getTitle()).isEqualTo("New");
+		assertThat(duplicated.get("missing")).isNull();
+	}
+
+	private static SearchQuery query(String title, List<String> skills, List<String> experienceTypes,
+									 int sortByDeadline, int size) {
+		return SearchQuery.of(title, skills, experienceTypes, sortByDeadline, null, size, Projection.LISTING);
+	}
+
+	private static List<String> ids(PostingIndex.Page page) {
+		return page.postings().stream().map(JobPosting::getId).toList();
+	}
+
+	private static JobPosting posting(String id, long deadlineTs, String title, String experienceType, String... skills) {
+		JobPosting posting = new JobPosting();
+		posting.setId(id);
+		posting.setUrl("https://example.com/jobs/" + id);
+		posting.setTitle(title);
+		posting.setCompany("company");
+		posting.setDeadline_ts(deadlineTs);
+		posting.setExperienceType(experienceType);
+		posting.setSkills(List.of(skills));
+		return posting;
+	}
+}
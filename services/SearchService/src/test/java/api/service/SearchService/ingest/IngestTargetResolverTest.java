@@ -0,0 +1,78 @@
+package api.service.SearchService.ingest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IngestTargetResolverTest {
+
+	@TempDir
+	Path base;
+
+	private Path root;
+	private IngestTargetResolver resolver;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		root = Files.createDirectories(base.resolve("crawled")).toRealPath();
+		resolver = new IngestTargetResolver();
+		ReflectionTestUtils.setField(resolver, "localRoot", root.toString());
+		ReflectionTestUtils.setField(resolver, "alias", "job_postings");
+	}
+
+	@Test
+	void resolvesLocalLocationsInsideRoot() throws IOException {
+		assertThat(resolver.location("2026-10-18/postings.json"))
+				.isEqualTo(root.resolve("2026-10-18/postings.json").toString());
+		assertThat(resolver.location(root.toString())).isEqualTo(root.toString());
+	}
+
+	@Test
+	void passesS3LocationsThrough() throws IOException {
+		assertThat(resolver.location(" s3://bucket/crawled/ ")).isEqualTo("s3://bucket/crawled/");
+	}
+
+	@Test
+	void rejectsLocalLocationsOutsideRoot() throws IOException {
+		Path outside = Files.createDirectories(base.resolve("outside"));
+		Files.createSymbolicLink(root.resolve("link"), outside);
+
+		assertThatThrownBy(() -> resolver.location("../outside"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> resolver.location("/etc/passwd"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> resolver.location("link"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> resolver.location(" "))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsLocalLocationsWithoutRoot() {
+		ReflectionTestUtils.setField(resolver, "localRoot", "");
+
+		assertThatThrownBy(() -> resolver.location("postings.json"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("ingest.local-root");
+	}
+
+	@Test
+	void allowsOnlyAliasAndManagedIndices() {
+		assertThat(resolver.index(null)).isEqualTo("job_postings");
+		assertThat(resolver.index("job_postings")).isEqualTo("job_postings");
+		assertThat(resolver.index("job_postings-20261018-093000")).isEqualTo("job_postings-20261018-093000");
+
+		assertThatThrownBy(() -> resolver.index(".security"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> resolver.index("job_postings-old"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,95 @@
+package api.service.SearchService.ingest;
+
+import api.service.SearchService.document.JobPosting;
+import api.service.SearchService.query.QueryPlanner;
+import api.service.SearchService.skill.SkillDictionary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingMapperTest {
+
+	private static final String CRAWLED = "classpath:ingest/crawled-postings.json";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private PostingMapper postingMapper;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		postingMapper = new PostingMapper(new SkillDictionary(new ClassPathResource("skill-dictionary.tsv")));
+	}
+
+	@Test
+	void mapsCrawlerTimestampDeadline() throws IOException {
+		JobPosting posting = crawled().get(0);
+
+		assertThat(posting.getId()).isEqualTo("https://www.wanted.co.kr/wd/250001");
+		assertThat(posting.getTitle()).isEqualTo("백엔드 개발자 (Java/Spring)");
+		assertThat(posting.getCompany()).isEqualTo("원티드랩");
+		assertThat(posting.getDeadline_ts()).isEqualTo(1796115540L);
+		assertThat(posting.getDeadline()).isEqualTo("2026-12-01");
+		assertThat(posting.getExperienceType()).isEqualTo("경력");
+	}
+
+	@Test
+	void mapsCrawlerSkillsToCanonicalNames() throws IOException {
+		assertThat(crawled().get(0).getSkills()).containsExactly("Java", "Spring Boot", "AWS");
+		assertThat(crawled().get(2).getSkills()).isEmpty();
+	}
+
+	@Test
+	void mapsRawOrMissingDeadlineToOpenEnded() throws IOException {
+		List<JobPosting> postings = crawled();
+
+		assertThat(postings.get(1).getDeadline()).isEqualTo("상시채용");
+		assertThat(postings.get(1).getDeadline_ts()).isEqualTo(QueryPlanner.OPEN_ENDED_DEADLINE_TS);
+		assertThat(postings.get(2).getDeadline_ts()).isEqualTo(QueryPlanner.OPEN_ENDED_DEADLINE_TS);
+	}
+
+	@Test
+	void mapsNumericStringAndIsoDeadlines() throws IOException {
+		JobPosting numeric = postingMapper.map(objectMapper.readTree(
+				"{\"title\":\"t\",\"deadline\":\"1796115540\"}"));
+		JobPosting isoDate = postingMapper.map(objectMapper.readTree(
+				"{\"title\":\"t\",\"deadline\":\"2026-11-30\"}"));
+
+		assertThat(numeric.getDeadline_ts()).isEqualTo(1796115540L);
+		assertThat(isoDate.getDeadline()).isEqualTo("2026-11-30");
+		assertThat(isoDate.getDeadline_ts()).isLessThan(QueryPlanner.OPEN_ENDED_DEADLINE_TS);
+	}
+
+	// 크롤러가 업로드하는 {"0": {...}, "1": {...}} 형식을 PostingReader로 읽는다.
+	private List<JobPosting> crawled() throws IOException {
+		PostingReader reader = new PostingReader(objectMapper, postingMapper, List.of(new ClasspathSource()));
+		List<JobPosting> postings = new ArrayList<>();
+		reader.read(CRAWLED, postings::add);
+		assertThat(postings).hasSize(3);
+		return postings;
+	}
+
+	private static class ClasspathSource implements PostingSource {
+
+		@Override
+		public boolean supports(String location) {
+			return location.startsWith("classpath:");
+		}
+
+		@Override
+		public List<String> list(String location) {
+			return List.of(location);
+		}
+
+		@Override
+		public InputStream open(String file) throws IOException {
+			return new ClassPathResource(file.substring("classpath:".length())).getInputStream();
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package api.service.SearchService.query;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+	@Test
+	void roundTripsSortValues() {
+		PageCursor cursor = new PageCursor("pit-id", new Object[]{1735657200L, "https://example.com/jobs/1", null, 1.5});
+
+		PageCursor decoded = PageCursor.decode(cursor.encode());
+
+		assertThat(decoded.pitId()).isEqualTo("pit-id");
+		assertThat(decoded.searchAfter()).containsExactly(1735657200L, "https://example.com/jobs/1", null, 1.5);
+	}
+
+	@Test
+	void widensIntegersToLong() {
+		PageCursor cursor = new PageCursor("pit-id", new Object[]{7, (short) 3});
+
+		assertThat(PageCursor.decode(cursor.encode()).searchAfter()).containsExactly(7L, 3L);
+	}
+
+	@Test
+	void encodesAsUrlSafeStringWithoutPadding() {
+		String encoded = new PageCursor("pit/id+?", new Object[]{"a/b+c"}).encode();
+
+		assertThat(encoded).doesNotContain("+", "/", "=");
+	}
+
+	@Test
+	void rejectsUnsupportedVersion() {
+		String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[]{9, 0, 0, 0});
+
+		assertThatThrownBy(() -> PageCursor.decode(cursor))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("version");
+	}
+
+	@Test
+	void rejectsTruncatedCursor() {
+		String encoded = new PageCursor("pit-id", new Object[]{1L, "url"}).encode();
+
+		assertThatThrownBy(() -> PageCursor.decode(encoded.substring(0, encoded.length() - 4)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsMalformedBase64() {
+		assertThatThrownBy(() -> PageCursor.decode("not a cursor!"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,86 @@
+package api.service.SearchService.query;
+
+import api.service.SearchService.skill.SkillDictionary;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryPlannerTest {
+
+	private static SkillDictionary skillDictionary;
+
+	@BeforeAll
+	static void loadDictionary() throws IOException {
+		skillDictionary = new SkillDictionary(new ClassPathResource("skill-dictionary.tsv"));
+	}
+
+	@Test
+	void sortsByDeadlineThenTiebreaker() {
+		QueryPlanner planner = planner("url", false);
+		SearchQuery query = SearchQuery.of(null, List.of(), List.of(), 1, null, 10, null);
+
+		SearchRequest request = planner.plan(query, "pit-id", TimeValue.timeValueMinutes(1),
+				new Object[]{1735657200L, "https://example.com/jobs/1"});
+
+		assertThat(request.source().sorts())
+				.extracting(sort -> ((FieldSortBuilder) sort).getFieldName())
+				.containsExactly("deadline_ts", "url");
+		assertThat(request.source().searchAfter()).containsExactly(1735657200L, "https://example.com/jobs/1");
+	}
+
+	@Test
+	void rejectsShardDocWithoutOptIn() {
+		assertThatThrownBy(() -> planner("_shard_doc", false))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void allowsShardDocWithOptIn() {
+		QueryPlanner planner = planner("_shard_doc", true);
+		SearchQuery query = SearchQuery.of(null, List.of(), List.of(), 0, null, 10, null);
+
+		SearchRequest request = planner.plan(query, "pit-id", TimeValue.timeValueMinutes(1), null);
+
+		assertThat(request.source().sorts())
+				.extracting(sort -> ((FieldSortBuilder) sort).getFieldName())
+				.containsExactly("_shard_doc");
+	}
+
+	@Test
+	void matchesRawSkillVariantsUntilReindexed() {
+		QueryPlanner planner = planner("url", false);
+		SearchQuery query = SearchQuery.of(null, List.of("Java", "Unlisted"), List.of(), 1, null, 10, null);
+
+		assertThat(skillTerms(planner.filter(query)))
+				.startsWith("Java")
+				.contains("java", "JAVA", "자바", "java17", "Unlisted");
+
+		ReflectionTestUtils.setField(planner, "matchRawSkills", false);
+		assertThat(skillTerms(planner.filter(query))).containsExactly("Java", "Unlisted");
+	}
+
+	private static List<Object> skillTerms(BoolQueryBuilder filter) {
+		return ((TermsQueryBuilder) filter.filter().get(0)).values();
+	}
+
+	private QueryPlanner planner(String tiebreaker, boolean allowShardDoc) {
+		QueryPlanner planner = new QueryPlanner(skillDictionary);
+		ReflectionTestUtils.setField(planner, "tiebreaker", tiebreaker);
+		ReflectionTestUtils.setField(planner, "allowShardDoc", allowShardDoc);
+		ReflectionTestUtils.setField(planner, "matchRawSkills", true);
+		planner.init();
+		return planner;
+	}
+}
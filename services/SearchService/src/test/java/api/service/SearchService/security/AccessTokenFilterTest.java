@@ -0,0 +1,122 @@
+package api.service.SearchService.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessTokenFilterTest {
+
+	private KeyPair keyPair;
+	private AccessTokenFilter filter;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		keyPair = generator.generateKeyPair();
+
+		filter = new AccessTokenFilter();
+		filter.initParser(new SigningKeyResolverAdapter() {
+			@Override
+			public Key resolveSigningKey(JwsHeader header, Claims claims) {
+				if (!"gateway-key".equals(header.getKeyId())) throw new UnsupportedJwtException("unknown JWT key id");
+				return keyPair.getPublic();
+			}
+		});
+	}
+
+	@Test
+	void passesValidToken() throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletResponse response = filter("/job/search", "Bearer " + token("gateway-key", "USER"), chain);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(chain.getRequest()).isNotNull();
+	}
+
+	@Test
+	void rejectsMissingToken() throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletResponse response = filter("/job/search", null, chain);
+
+		assertThat(response.getStatus()).isEqualTo(401);
+		assertThat(chain.getRequest()).isNull();
+	}
+
+	@Test
+	void rejectsUnknownKey() throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletResponse response = filter("/admin/job/reindex", "Bearer " + token("other-key", "ADMIN"), chain);
+
+		assertThat(response.getStatus()).isEqualTo(401);
+		assertThat(chain.getRequest()).isNull();
+	}
+
+	@Test
+	void rejectsRoleOutsideRoute() throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletResponse response = filter("/admin/job/reindex", "Bearer " + token("gateway-key", "USER"), chain);
+
+		assertThat(response.getStatus()).isEqualTo(403);
+		assertThat(chain.getRequest()).isNull();
+	}
+
+	@Test
+	void skipsUnprotectedPath() throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+		filter("/health", null, chain);
+
+		assertThat(chain.getRequest()).isNotNull();
+	}
+
+	@Test
+	void skipsVerificationWithoutJwksUri() throws Exception {
+		AccessTokenFilter disabled = new AccessTokenFilter();
+		ReflectionTestUtils.setField(disabled, "jwksUri", "");
+		disabled.initParser();
+
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/job/search");
+		disabled.doFilter(request, new MockHttpServletResponse(), chain);
+
+		assertThat(chain.getRequest()).isNotNull();
+	}
+
+	private MockHttpServletResponse filter(String path, String authorization, MockFilterChain chain) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		if (authorization != null) request.addHeader("Authorization", authorization);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, chain);
+		return response;
+	}
+
+	private String token(String kid, String role) {
+		Key signingKey = "gateway-key".equals(kid)
+				? keyPair.getPrivate()
+				: Keys.keyPairFor(SignatureAlgorithm.RS256).getPrivate();
+		return Jwts.builder()
+				.setHeaderParam(JwsHeader.KEY_ID, kid)
+				.setSubject("user@example.com")
+				.claim("auth", role)
+				.signWith(signingKey, SignatureAlgorithm.RS256)
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+				.compact();
+	}
+}
@@ -0,0 +1,124 @@
+package api.service.SearchService.service;
+
+import api.service.SearchService.document.JobPosting;
+import api.service.SearchService.dto.IngestResult;
+import api.service.SearchService.ingest.PostingReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.rest.RestStatus;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BulkIngestServiceTest {
+
+	private final RestHighLevelClient client = mock(RestHighLevelClient.class);
+	private final PostingReader postingReader = mock(PostingReader.class);
+	private BulkIngestService bulkIngestService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		bulkIngestService = new BulkIngestService(client, RequestOptions.DEFAULT, new ObjectMapper(), postingReader,
+				mock(ApplicationEventPublisher.class));
+		ReflectionTestUtils.setField(bulkIngestService, "searchIndex", "postings");
+		// 문서마다 bulk 요청 하나
+		ReflectionTestUtils.setField(bulkIngestService, "initialBatchSize", DataSize.ofBytes(1));
+		ReflectionTestUtils.setField(bulkIngestService, "minBatchSize", DataSize.ofBytes(1));
+		ReflectionTestUtils.setField(bulkIngestService, "maxBatchSize", DataSize.ofBytes(1));
+		ReflectionTestUtils.setField(bulkIngestService, "targetLatency", Duration.ofSeconds(1));
+		ReflectionTestUtils.setField(bulkIngestService, "concurrency", 1);
+		ReflectionTestUtils.setField(bulkIngestService, "maxRetries", 3);
+		ReflectionTestUtils.setField(bulkIngestService, "retryBackoff", Duration.ofMillis(1));
+		bulkIngestService.init();
+
+		when(postingReader.list("postings.json")).thenReturn(List.of("postings.json"));
+		doAnswer(invocation -> {
+			PostingReader.Handler handler = invocation.getArgument(1);
+			for (int i = 0; i < 3; i++) {
+				handler.accept(posting("posting-" + i));
+			}
+			return null;
+		}).when(postingReader).read(eq("postings.json"), any());
+	}
+
+	@AfterEach
+	void tearDown() {
+		bulkIngestService.shutdown();
+	}
+
+	@Test
+	void countsSynchronousSubmitFailureAndReleasesPermit() throws Exception {
+		doThrow(new IllegalStateException("client closed"))
+				.when(client).bulkAsync(any(BulkRequest.class), any(RequestOptions.class), any());
+
+		IngestResult result = bulkIngestService.ingest("postings.json", "postings");
+
+		// permit이 반납되지 않으면 두 번째 문서에서 멈춘다.
+		assertThat(result.getRead()).isEqualTo(3);
+		assertThat(result.getFailed()).isEqualTo(3);
+		assertThat(result.getBulkRequests()).isEqualTo(3);
+	}
+
+	@Test
+	void retriesRejectedRequestsWithoutBlockingScheduler() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		doAnswer(invocation -> {
+			BulkRequest request = invocation.getArgument(0);
+			ActionListener<BulkResponse> listener = invocation.getArgument(2);
+			// 문서마다 처음 한 번은 거절
+			boolean reject = calls.getAndIncrement() % 2 == 0;
+			listener.onResponse(response(request, reject));
+			return null;
+		}).when(client).bulkAsync(any(BulkRequest.class), any(RequestOptions.class), any());
+
+		IngestResult result = bulkIngestService.ingest("postings.json", "postings");
+
+		assertThat(result.getIndexed()).isEqualTo(3);
+		assertThat(result.getRetried()).isEqualTo(3);
+		assertThat(result.getFailed()).isZero();
+	}
+
+	private BulkResponse response(BulkRequest request, boolean reject) {
+		List<DocWriteRequest<?>> requests = request.requests();
+		BulkItemResponse[] items = new BulkItemResponse[requests.size()];
+		for (int i = 0; i < items.length; i++) {
+			String id = requests.get(i).id();
+			items[i] = reject
+					? new BulkItemResponse(i, DocWriteRequest.OpType.INDEX,
+							new BulkItemResponse.Failure("postings", id, new RuntimeException("rejected"), RestStatus.TOO_MANY_REQUESTS))
+					: new BulkItemResponse(i, DocWriteRequest.OpType.INDEX,
+							new IndexResponse(new ShardId("postings", "_na_", 0), id, 1, 1, 1, true));
+		}
+		return new BulkResponse(items, 1);
+	}
+
+	private JobPosting posting(String id) {
+		JobPosting posting = new JobPosting();
+		posting.setId(id);
+		posting.setTitle("Backend Engineer");
+		return posting;
+	}
+}
@@ -0,0 +1,67 @@
+package api.service.SearchService.service;
+
+import api.service.SearchService.dto.IngestResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReindexServiceTest {
+
+	private final RestHighLevelClient client = mock(RestHighLevelClient.class);
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private ReindexService reindexService;
+
+	@BeforeEach
+	void setUp() {
+		reindexService = new ReindexService(client, RequestOptions.DEFAULT, new ObjectMapper(),
+				mock(BulkIngestService.class), mock(ApplicationEventPublisher.class));
+		ReflectionTestUtils.setField(reindexService, "alias", "job_postings");
+		reindexService.init();
+		// 첫 OpenSearch 요청에서 멈췄다가 실패한다.
+		when(client.indices()).thenAnswer(invocation -> {
+			started.countDown();
+			release.await();
+			throw new IllegalStateException("cluster unavailable");
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		reindexService.shutdown();
+	}
+
+	@Test
+	void runsInBackgroundAndRejectsConcurrentReindex() throws Exception {
+		CompletableFuture<IngestResult> running = reindexService.reindexAsync("s3://bucket/crawled/");
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(running).isNotDone();
+		assertThatThrownBy(() -> reindexService.reindexAsync("s3://bucket/crawled/"))
+				.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> reindexService.reindex("s3://bucket/crawled/"))
+				.isInstanceOf(IllegalStateException.class);
+
+		release.countDown();
+		assertThatThrownBy(() -> running.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class)
+				.hasRootCauseMessage("cluster unavailable");
+		// 실패로 끝나도 다음 재적재를 받는다.
+		assertThat(reindexService.reindexAsync("s3://bucket/crawled/")).isNotNull();
+	}
+}
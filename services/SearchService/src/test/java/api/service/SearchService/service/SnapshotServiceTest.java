@@ -0,0 +1,84 @@
+package api.service.SearchService.service;
+
+import api.service.SearchService.engine.EmbeddedSearchEngine;
+import api.service.SearchService.ingest.PostingReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class SnapshotServiceTest {
+
+	@TempDir
+	Path root;
+
+	private Path directory;
+	private SnapshotService snapshotService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createDirectories(root.resolve("snapshots")).toRealPath();
+		snapshotService = new SnapshotService(mock(PostingReader.class), mock(EmbeddedSearchEngine.class));
+		ReflectionTestUtils.setField(snapshotService, "embeddedSnapshot", directory.resolve("postings.snap").toString());
+	}
+
+	@Test
+	void resolvesDefaultSnapshotWhenPathIsEmpty() throws IOException {
+		assertThat(snapshotService.resolve(null)).isEqualTo(directory.resolve("postings.snap"));
+		assertThat(snapshotService.resolve(" ")).isEqualTo(directory.resolve("postings.snap"));
+	}
+
+	@Test
+	void resolvesPathsInsideSnapshotDirectory() throws IOException {
+		assertThat(snapshotService.resolve("old/postings.snap")).isEqualTo(directory.resolve("old/postings.snap"));
+		assertThat(snapshotService.resolve(directory.resolve("backup.snap").toString()))
+				.isEqualTo(directory.resolve("backup.snap"));
+	}
+
+	@Test
+	void rejectsParentReferences() {
+		assertThatThrownBy(() -> snapshotService.resolve("../secret"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> snapshotService.resolve("old/../../secret"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> snapshotService.resolve("old/../postings.snap"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsAbsolutePathsOutsideSnapshotDirectory() {
+		assertThatThrownBy(() -> snapshotService.resolve("/etc/passwd"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> snapshotService.resolve(root.resolve("other.snap").toString()))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> snapshotService.resolve(directory.toString()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsSymbolicLinkLeavingSnapshotDirectory() throws IOException {
+		Path outside = Files.writeString(root.resolve("outside.snap"), "outside");
+		Files.createSymbolicLink(directory.resolve("link.snap"), outside);
+
+		assertThatThrownBy(() -> snapshotService.resolve("link.snap"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void requiresConfiguredSnapshot() {
+		ReflectionTestUtils.setField(snapshotService, "embeddedSnapshot", "");
+
+		assertThatThrownBy(() -> snapshotService.resolve(null))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> snapshotService.write("/data/postings"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,102 @@
+package api.service.SearchService.skill;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SkillDictionaryTest {
+
+	private static SkillDictionary skillDictionary;
+
+	@BeforeAll
+	static void loadDictionary() throws IOException {
+		skillDictionary = new SkillDictionary(new ClassPathResource("skill-dictionary.tsv"));
+	}
+
+	@Test
+	void keyIgnoresCaseWhitespaceAndSeparators() {
+		assertThat(SkillDictionary.key("Node.js")).isEqualTo("nodejs");
+		assertThat(SkillDictionary.key(" Spring  Boot ")).isEqualTo("springboot");
+		assertThat(SkillDictionary.key("spring-boot")).isEqualTo("springboot");
+		assertThat(SkillDictionary.key("SPRING_BOOT")).isEqualTo("springboot");
+		assertThat(SkillDictionary.key("Objective-C")).isEqualTo("objectivec");
+		assertThat(SkillDictionary.key("스프링 부트")).isEqualTo("스프링부트");
+	}
+
+	@Test
+	void keyKeepsSymbolsThatDistinguishSkills() {
+		assertThat(SkillDictionary.key("C++")).isEqualTo("c++");
+		assertThat(SkillDictionary.key("C#")).isEqualTo("c#");
+		assertThat(SkillDictionary.key("C")).isEqualTo("c");
+	}
+
+	@Test
+	void canonicalizesAliasesToName() {
+		assertThat(skillDictionary.canonicalize("자바")).isEqualTo("Java");
+		assertThat(skillDictionary.canonicalize("springboot")).isEqualTo("Spring Boot");
+		assertThat(skillDictionary.canonicalize("NODEJS")).isEqualTo("Node.js");
+		assertThat(skillDictionary.canonicalize("cpp")).isEqualTo("C++");
+		assertThat(skillDictionary.canonicalize("c")).isEqualTo("C");
+	}
+
+	@Test
+	void passesUnknownSkillsThroughTrimmed() {
+		assertThat(skillDictionary.canonicalize("  Elixir ")).isEqualTo("Elixir");
+		assertThat(skillDictionary.id("Elixir")).isEqualTo(SkillDictionary.UNKNOWN);
+		assertThat(skillDictionary.canonicalize(" ")).isNull();
+		assertThat(skillDictionary.canonicalize((String) null)).isNull();
+	}
+
+	@Test
+	void canonicalizesListWithoutDuplicates() {
+		assertThat(skillDictionary.canonicalize(Arrays.asList("java", "자바", null, "JS", "Java", " ")))
+				.containsExactly("Java", "JavaScript");
+		assertThat(skillDictionary.canonicalize((List<String>) null)).isEmpty();
+	}
+
+	@Test
+	void resolvesIdsAndNames() {
+		int id = skillDictionary.id("Kotlin");
+
+		assertThat(id).isEqualTo(5);
+		assertThat(skillDictionary.name(id)).isEqualTo("Kotlin");
+		assertThat(skillDictionary.name(-1)).isNull();
+		assertThat(skillDictionary.name(100_000)).isNull();
+	}
+
+	@Test
+	void listsNameFirstThenAliasVariants() {
+		assertThat(skillDictionary.variants("자바"))
+				.startsWith("Java")
+				.contains("java", "JAVA", "자바", "java8", "JAVA17");
+		assertThat(skillDictionary.variants(" Elixir ")).containsExactly("Elixir");
+		assertThat(skillDictionary.variants(null)).isEmpty();
+	}
+
+	@Test
+	void rejectsAliasMappedToTwoSkills() {
+		ByteArrayResource resource = new ByteArrayResource("1\tJava\tjvm\n2\tKotlin\tJVM\n".getBytes(StandardCharsets.UTF_8));
+
+		assertThatThrownBy(() -> new SkillDictionary(resource))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("JVM");
+	}
+
+	@Test
+	void rejectsDuplicateId() {
+		ByteArrayResource resource = new ByteArrayResource("1\tJava\n1\tKotlin\n".getBytes(StandardCharsets.UTF_8));
+
+		assertThatThrownBy(() -> new SkillDictionary(resource))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("duplicate skill id");
+	}
+}
@@ -0,0 +1,145 @@
+package api.service.SearchService.snapshot;
+
+import api.service.SearchService.document.JobPosting;
+import api.service.SearchService.engine.PostingIndex;
+import api.service.SearchService.query.Projection;
+import api.service.SearchService.query.SearchQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingSnapshotTest {
+
+	@TempDir
+	Path directory;
+
+	private final List<JobPosting> postings = List.of(
+			posting("b", 200L, "Backend Engineer", "판교", "경력", "Java", "Spring"),
+			posting("a", 100L, "프론트엔드 개발자", "서울", "신입", "React"),
+			posting("c", null, "Data Engineer", null, null),
+			posting("a", 150L, "Frontend Engineer", "서울", "신입", "TypeScript"));
+
+	@Test
+	void roundTripsPostingsThroughMemoryMap() throws IOException {
+		Path path = directory.resolve("postings.snap");
+
+		int written = PostingSnapshotWriter.write(postings, path);
+		PostingSnapshot snapshot = PostingSnapshot.open(path);
+
+		assertThat(written).isEqualTo(3);
+		assertThat(PostingSnapshot.isSnapshot(path)).isTrue();
+		assertThat(PostingSnapshotValidator.validate(path)).isEmpty();
+		assertThat(snapshot.size()).isEqualTo(3);
+		// (deadline_ts, id) 순서, deadline_ts가 없는 공고는 마지막
+		assertThat(List.of(snapshot.id(0), snapshot.id(1), snapshot.id(2))).containsExactly("a", "b", "c");
+		assertThat(snapshot.deadline(0)).isEqualTo(150L);
+		assertThat(snapshot.deadline(2)).isEqualTo(Long.MAX_VALUE);
+
+		JobPosting frontend = snapshot.posting(snapshot.find("a"));
+		assertThat(frontend.getTitle()).isEqualTo("Frontend Engineer");
+		assertThat(frontend.getLocation()).isEqualTo("서울");
+		assertThat(frontend.getSkills()).containsExactly("TypeScript");
+		assertThat(snapshot.posting(snapshot.find("b"))).isEqualTo(postings.get(0));
+
+		JobPosting data = snapshot.posting(snapshot.find("c"));
+		assertThat(data.getLocation()).isNull();
+		assertThat(data.getExperienceType()).isNull();
+		assertThat(data.getSkills()).isEmpty();
+		assertThat(snapshot.find("missing")).isEqualTo(-1);
+	}
+
+	@Test
+	void searchesLikeHeapIndex() throws IOException {
+		Path path = directory.resolve("postings.snap");
+		PostingSnapshotWriter.write(postings, path);
+		SearchQuery query = SearchQuery.of("engineer", List.of(), List.of(), 1, null, 10, Projection.FULL);
+
+		PostingIndex.Page fromSnapshot = PostingIndex.of(PostingSnapshot.open(path)).search(query, null);
+		PostingIndex.Page fromHeap = PostingIndex.of(postings).search(query, null);
+
+		assertThat(fromSnapshot.postings()).extracting(JobPosting::getId).containsExactly("a", "b", "c");
+		assertThat(fromSnapshot.postings()).extracting(JobPosting::getId)
+				.isEqualTo(fromHeap.postings().stream().map(JobPosting::getId).toList());
+		assertThat(fromSnapshot.sortValues()).isEqualTo(fromHeap.sortValues());
+	}
+
+	@Test
+	void replacingFileKeepsOpenMappingReadable() throws IOException {
+		Path path = directory.resolve("postings.snap");
+		PostingSnapshotWriter.write(postings, path);
+		PostingSnapshot old = PostingSnapshot.open(path);
+
+		PostingSnapshotWriter.write(List.of(posting("z", 1L, "New", "서울", "경력")), path);
+
+		assertThat(old.size()).isEqualTo(3);
+		assertThat(old.id(0)).isEqualTo("a");
+		assertThat(PostingSnapshot.open(path).id(0)).isEqualTo("z");
+		try (var files = Files.list(directory)) {
+			assertThat(files).containsExactly(path);
+		}
+	}
+
+	@Test
+	void reportsChecksumMismatchForCorruptedBody() throws IOException {
+		Path path = directory.resolve("postings.snap");
+		PostingSnapshotWriter.write(postings, path);
+		byte[] bytes = Files.readAllBytes(path);
+		bytes[bytes.length - 1] ^= 0x01;
+		Files.write(path, bytes);
+
+		assertThat(PostingSnapshotValidator.validate(path)).contains("checksum mismatch");
+	}
+
+	@Test
+	void reportsTruncatedFile() throws IOException {
+		Path path = directory.resolve("postings.snap");
+		PostingSnapshotWriter.write(postings, path);
+		byte[] bytes = Files.readAllBytes(path);
+		Files.write(path, Arrays.copyOf(bytes, bytes.length - 10));
+
+		List<String> problems = PostingSnapshotValidator.validate(path);
+
+		assertThat(problems).contains("checksum mismatch");
+		assertThat(problems).anyMatch(problem -> problem.startsWith("invalid bounds of "));
+	}
+
+	@Test
+	void reportsFileSmallerThanHeader() throws IOException {
+		Path path = directory.resolve("postings.snap");
+		PostingSnapshotWriter.write(postings, path);
+		Files.write(path, Arrays.copyOf(Files.readAllBytes(path), SnapshotFormat.HEADER_SIZE));
+
+		assertThat(PostingSnapshotValidator.validate(path)).containsExactly("file is smaller than header");
+	}
+
+	@Test
+	void doesNotTreatOtherFilesAsSnapshot() throws IOException {
+		Path json = Files.writeString(directory.resolve("postings.json"), "{\"id\":\"a\"}");
+
+		assertThat(PostingSnapshot.isSnapshot(json)).isFalse();
+		assertThat(PostingSnapshot.isSnapshot(directory)).isFalse();
+	}
+
+	private static JobPosting posting(String id, Long deadlineTs, String title, String location,
+									  String experienceType, String... skills) {
+		JobPosting posting = new JobPosting();
+		posting.setId(id);
+		posting.setUrl("https://example.com/jobs/" + id);
+		posting.setTitle(title);
+		posting.setCompany("company");
+		posting.setLocation(location);
+		posting.setDeadline_ts(deadlineTs);
+		posting.setDeadline(deadlineTs == null ? null : "2026-12-31");
+		posting.setExperience(experienceType == null ? null : experienceType + " 1년 이상");
+		posting.setExperienceType(experienceType);
+		posting.setSkills(List.of(skills));
+		return posting;
+	}
+}
@@ -0,0 +1,57 @@
+package api.service.SearchService.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+	private final PrefixIndex index = new PrefixIndex.Builder(3)
+			.add("Java").add("java").add("JAVA")
+			.add("JavaScript").add("JavaScript")
+			.add("Jenkins")
+			.add("Jira")
+			.add("Kotlin")
+			.add("Spring").add("Spring Boot").add("Spring Boot")
+			.add("  ")
+			.build();
+
+	@Test
+	void mergesCaseInsensitiveDuplicatesAndKeepsFirstSpelling() {
+		assertThat(index.size()).isEqualTo(7);
+		assertThat(index.suggest("jav", 10)).containsExactly("Java", "JavaScript");
+	}
+
+	@Test
+	void ordersByFrequencyThenAlphabetically() {
+		assertThat(index.suggest("spring", 10)).containsExactly("Spring Boot", "Spring");
+		assertThat(index.suggest("jenkins", 10)).containsExactly("Jenkins");
+	}
+
+	@Test
+	void shortPrefixUsesPrecomputedTopResults() {
+		assertThat(index.suggest("J", 3)).containsExactly("Java", "JavaScript", "Jenkins");
+		assertThat(index.suggest("j", 2)).containsExactly("Java", "JavaScript");
+	}
+
+	@Test
+	void shortPrefixAboveMaxSuggestionsScansRange() {
+		assertThat(index.suggest("j", 10)).containsExactly("Java", "JavaScript", "Jenkins", "Jira");
+	}
+
+	@Test
+	void matchesOnlyKeysStartingWithPrefix() {
+		assertThat(index.suggest("ja", 10)).containsExactly("Java", "JavaScript");
+		assertThat(index.suggest("javascriptx", 10)).isEmpty();
+		assertThat(index.suggest("z", 10)).isEmpty();
+		assertThat(index.suggest("zz", 3)).isEmpty();
+	}
+
+	@Test
+	void ignoresBlankPrefixAndNonPositiveLimit() {
+		assertThat(index.suggest(" ", 10)).isEmpty();
+		assertThat(index.suggest(null, 10)).isEmpty();
+		assertThat(index.suggest("java", 0)).isEmpty();
+		assertThat(PrefixIndex.empty().suggest("java", 10)).isEmpty();
+	}
+}
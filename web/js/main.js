@@ -246,7 +246,7 @@ function handleSearchPage() {
     return;
   }
 
-  let lastSearchAfter = null;
+  let lastCursor = null;
   let currentQueryParams = '';
 
   // **추가된 코드 시작**
@@ -285,8 +285,8 @@ function handleSearchPage() {
     });
     // 선택된 기술 스택 태그 초기화
     selectedSkillsDiv.innerHTML = '';
-    // lastSearchAfter 초기화
-    lastSearchAfter = null;
+    // lastCursor 초기화
+    lastCursor = null;
     // 검색 결과 초기화
     jobListingsDiv.innerHTML = '';
   });
@@ -316,13 +316,45 @@ function handleSearchPage() {
 
   // **추가된 코드 끝**
 
+  // 채용공고 제목 자동 완성
+  const titleInput = document.getElementById('search-title');
+  const titleSuggestions = document.getElementById('title-suggestions');
+  let suggestTimer = null;
+
+  titleInput.addEventListener('input', () => {
+    clearTimeout(suggestTimer);
+    const prefix = titleInput.value.trim();
+    if (!prefix) {
+      titleSuggestions.innerHTML = '';
+      return;
+    }
+    // 입력이 잠시 멈췄을 때만 요청
+    suggestTimer = setTimeout(() => {
+      fetchWithAuth(`${API_BASE_URL}/search/job/suggest?prefix=${encodeURIComponent(prefix)}`)
+        .then(data => {
+          if (data.statusCode !== 200 || titleInput.value.trim() !== prefix) {
+            return;
+          }
+          titleSuggestions.innerHTML = '';
+          [...data.titles, ...data.companies, ...data.skills].forEach(text => {
+            const option = document.createElement('option');
+            option.value = text;
+            titleSuggestions.appendChild(option);
+          });
+        })
+        .catch(error => {
+          console.error('자동 완성 조회 중 오류 발생:', error);
+        });
+    }, 150);
+  });
+
   // 초기 로드: 기본 검색 실행
   performSearch();
 
   // 검색 폼 제출 처리
   searchForm.addEventListener('submit', (e) => {
     e.preventDefault();
-    lastSearchAfter = null; // 새로운 검색 시 초기화
+    lastCursor = null; // 새로운 검색 시 초기화
     performSearch();
   });
 
@@ -331,6 +363,35 @@ function handleSearchPage() {
     performSearch(true);
   });
 
+  // 기술 스택, 경력사항 옆에 공고 수 표시
+  function updateFacetCounts(facetQueryParams) {
+    fetchWithAuth(`${API_BASE_URL}/search/job/facets${facetQueryParams}`)
+      .then(data => {
+        if (data.statusCode !== 200) {
+          return;
+        }
+
+        techStackMenu.querySelectorAll('input[type="checkbox"]').forEach(input => {
+          let countSpan = input.parentElement.querySelector('.facet-count');
+          if (!countSpan) {
+            countSpan = document.createElement('span');
+            countSpan.className = 'facet-count text-muted ms-1';
+            input.parentElement.appendChild(countSpan);
+          }
+          countSpan.textContent = `(${data.skills[input.value] || 0})`;
+        });
+
+        document.querySelectorAll('#search-experience option').forEach(option => {
+          if (option.value !== '') {
+            option.textContent = `${option.value} (${data.experienceTypes[option.value] || 0})`;
+          }
+        });
+      })
+      .catch(error => {
+        console.error('공고 수 조회 중 오류 발생:', error);
+      });
+  }
+
   function performSearch(isLoadMore = false) {
     // 검색 조건 수집
     const title = document.getElementById('search-title').value.trim();
@@ -364,11 +425,14 @@ function handleSearchPage() {
       queryParams.push(`sortByDeadline=${sortByDeadline}`);
     }
 
-    // 기존 검색 후 더보기인 경우 searchAfter 추가
-    if (isLoadMore && lastSearchAfter) {
-      // searchAfter 값을 쉼표로 구분하여 전달
-      const searchAfterParam = lastSearchAfter.map(value => encodeURIComponent(value)).join(',');
-      queryParams.push(`searchAfter=${searchAfterParam}`);
+    // 새로운 검색인 경우 같은 조건의 기술 스택, 경력사항별 공고 수 갱신
+    if (!isLoadMore) {
+      updateFacetCounts(queryParams.length > 0 ? '?' + queryParams.join('&') : '');
+    }
+
+    // 기존 검색 후 더보기인 경우 다음 페이지 커서 추가
+    if (isLoadMore && lastCursor) {
+      queryParams.push(`cursor=${encodeURIComponent(lastCursor)}`);
     } else {
       // 새로운 검색 시 이전 결과 지우기
       if (!isLoadMore) {
@@ -403,12 +467,12 @@ function handleSearchPage() {
             jobListingsDiv.appendChild(jobCard);
           });
 
-          // searchAfter 값 저장
-          if (data.searchAfter && data.jobPostings.length > 0) {
-            lastSearchAfter = data.searchAfter;
+          // 다음 페이지 커서 저장
+          if (data.cursor && data.jobPostings.length > 0) {
+            lastCursor = data.cursor;
             loadMoreBtn.style.display = 'block';
           } else {
-            lastSearchAfter = null;
+            lastCursor = null;
             loadMoreBtn.style.display = 'none';
           }
         } else {